@@ -6,6 +6,7 @@ import java.util.Scanner;
 
 import duke.command.Command;
 import duke.command.Parser;
+import duke.storage.RecoveryReport;
 import duke.task.Task;
 import duke.util.DukeException;
 import duke.util.Message;
@@ -18,7 +19,7 @@ import duke.util.Ui;
  * Run this class to run Duke without GUI.
  *
  * @author marcuspeh
- * @version A-Assertions
+ * @version A-SearchIndex
  * @since 6 Sep 2021
  */
 public class Duke {
@@ -38,6 +39,7 @@ public class Duke {
         sc = new Scanner(System.in);
         ui = new Ui();
         storage = new Storage(ui);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
     }
 
     /**
@@ -48,10 +50,17 @@ public class Duke {
     public Message loadTaskList() {
         try {
             taskList = new TaskList(storage.importTask(), ui, storage);
+            RecoveryReport report = storage.getRecoveryReport();
+            if (report.hasLosses()) {
+                return ui.formatLoadTaskRecoveredMessage(report.getLostCount(),
+                        storage.getLostRecordsLocation().toString());
+            }
             return ui.formatLoadTaskSuccessMessage();
         } catch (FileNotFoundException e) {
             taskList = new TaskList(new ArrayList<Task>(), ui, storage);
             return ui.formatHelpMessage();
+        } finally {
+            storage.watch(taskList.getTaskList(), Message::printMessage);
         }
     }
 
@@ -80,6 +89,17 @@ public class Duke {
             }
         }
         ui.formatExitMessage().printMessage();
+        shutdown();
+    }
+
+    /**
+     * Finishes any saving that is still running before duke exits.
+     */
+    public void shutdown() {
+        storage.close();
+        if (taskList != null) {
+            taskList.saveIndex();
+        }
     }
 
     /**
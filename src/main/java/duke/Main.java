@@ -32,4 +32,9 @@ public class Main extends Application {
             e.printStackTrace();
         }
     }
+
+    @Override
+    public void stop() {
+        duke.shutdown();
+    }
 }
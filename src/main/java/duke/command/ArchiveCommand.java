@@ -0,0 +1,44 @@
+package duke.command;
+
+import duke.util.Keyword;
+import duke.util.Message;
+import duke.util.TaskList;
+import duke.util.Ui;
+
+/**
+ * Handles the command for searching the archived task.
+ *
+ * @author marcuspeh
+ * @version A-Archive
+ * @since 18 Oct 2026
+ */
+public class ArchiveCommand implements Command {
+    /** Stores the message entered by the user. */
+    private String message;
+
+    /** Constructor for duke.command.ArchiveCommand.
+     *
+     * @param message Stores the message entered by the user.
+     */
+    public ArchiveCommand(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Finds all the archived task containing the keywords, or all of them if there is no keyword.
+     *
+     * @param taskList duke.main.TaskList to execute the command.
+     * @param ui       To interact with the user.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    @Override
+    public Message execute(TaskList taskList, Ui ui) {
+        assert taskList != null : " Tasklist is required by command.";
+        assert ui != null : " Ui is required by command.";
+
+        String keyword = message.length() > Keyword.ARCHIVE.length()
+                ? message.substring(Keyword.ARCHIVE.length() + 1)
+                : "";
+        return taskList.findArchivedTask(keyword);
+    }
+}
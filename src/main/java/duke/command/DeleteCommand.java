@@ -9,7 +9,7 @@ import duke.util.Ui;
  * Handles the command for delete.
  *
  * @author marcuspeh
- * @version A-Assertions
+ * @version A-BulkChanges
  * @since 6 Sep 2021
  */
 public class DeleteCommand implements Command {
@@ -37,8 +37,9 @@ public class DeleteCommand implements Command {
         assert ui != null : " Ui is required by command.";
 
         try {
-            assert message.length() > Keyword.DELETE.length() : "Delete is in the following format 'delete <number>'";
-            return taskList.deleteTask(Integer.parseInt(message.substring(Keyword.DELETE.length() + 1)));
+            assert message.length() > Keyword.DELETE.length() : "Delete is in the following format 'delete <numbers>'";
+            return taskList.deleteTasks(Parser.parseTaskNumbers(
+                    message.substring(Keyword.DELETE.length() + 1), taskList.getTaskList().size()));
         } catch (NumberFormatException e) {
             return ui.formatDeleteErrorMessage();
         } catch (IndexOutOfBoundsException e) {
@@ -9,7 +9,7 @@ import duke.util.Ui;
  * Handles the command for done.
  *
  * @author marcuspeh
- * @version A-Assertions
+ * @version A-BulkChanges
  * @since 6 Sep 2021
  */
 public class DoneCommand implements Command {
@@ -37,8 +37,9 @@ public class DoneCommand implements Command {
         assert ui != null : " Ui is required by command.";
 
         try {
-            assert message.length() > Keyword.DONE.length() : "Done is in the following format 'done <number>'";
-            return taskList.markDone(Integer.parseInt(message.substring(Keyword.DONE.length() + 1)));
+            assert message.length() > Keyword.DONE.length() : "Done is in the following format 'done <numbers>'";
+            return taskList.markDone(Parser.parseTaskNumbers(
+                    message.substring(Keyword.DONE.length() + 1), taskList.getTaskList().size()));
         } catch (NumberFormatException e) {
             return ui.formatDoneErrorMessage();
         } catch (IndexOutOfBoundsException e) {
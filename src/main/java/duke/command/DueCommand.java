@@ -0,0 +1,47 @@
+package duke.command;
+
+import duke.util.Keyword;
+import duke.util.Message;
+import duke.util.TaskList;
+import duke.util.Ui;
+
+/**
+ * Handles the command for finding the deadlines and events before a date / time.
+ *
+ * @author marcuspeh
+ * @version A-TimeIndex
+ * @since 18 Oct 2026
+ */
+public class DueCommand implements Command {
+    /** Stores the message entered by the user. */
+    private String message;
+
+    /** Constructor for duke.command.DueCommand.
+     *
+     * @param message Stores the message entered by the user.
+     */
+    public DueCommand(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Finds all the deadlines and events before the date / time.
+     *
+     * @param taskList duke.main.TaskList to execute the command.
+     * @param ui       To interact with the user.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    @Override
+    public Message execute(TaskList taskList, Ui ui) {
+        assert taskList != null : " Tasklist is required by command.";
+        assert ui != null : " Ui is required by command.";
+
+        try {
+            String[] details = message.split(Keyword.DUE.getSeparator());
+            assert details.length == 2 : "Due is in the following format 'due before <date time>'";
+            return taskList.findDueBefore(details[1]);
+        } catch (IndexOutOfBoundsException e) {
+            return ui.formatDueErrorMessage();
+        }
+    }
+}
@@ -1,10 +1,6 @@
 package duke.command;
 
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-
-import duke.task.Task;
+import duke.util.Keyword;
 import duke.util.Message;
 import duke.util.TaskList;
 import duke.util.Ui;
@@ -13,12 +9,33 @@ import duke.util.Ui;
  * Handles the command for list.
  *
  * @author marcuspeh
- * @version A-Assertions
+ * @version A-StreamingList
  * @since 6 Sep 2021
  */
 public class ListCommand implements Command {
+    /** Number of tasks on a page if the user does not give one. */
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** Stores the message entered by the user. */
+    private String message;
+
+    /**
+     * Constructor for duke.command.ListCommand that lists every task.
+     */
+    public ListCommand() {
+        this(Keyword.LIST.getKeyword());
+    }
+
+    /** Constructor for duke.command.ListCommand.
+     *
+     * @param message Stores the message entered by the user.
+     */
+    public ListCommand(String message) {
+        this.message = message;
+    }
+
     /**
-     * Adds a new task to the task list. IntStream is used to format the output nicely.
+     * Lists all the task in the task list, or a page of them if the user gives a page.
      *
      * @param taskList duke.main.TaskList to execute the command.
      * @param ui       To interact with the user.
@@ -29,11 +46,19 @@ public class ListCommand implements Command {
         assert taskList != null : " Tasklist is required by command.";
         assert ui != null : " Ui is required by command.";
 
-        List<Task> allTask = taskList.getTaskList();
-        String[] task = IntStream.range(0, allTask.size())
-                .mapToObj(x -> (x + 1) + ". " + allTask.get(x).toString())
-                .collect(Collectors.toList())
-                .toArray(new String[0]);
-        return ui.listTask(task);
+        String[] arguments = message.substring(Keyword.LIST.length()).trim().split("\\s+");
+        if (arguments[0].isEmpty()) {
+            return taskList.listTasks();
+        }
+        try {
+            int page = Integer.parseInt(arguments[0]);
+            int pageSize = arguments.length > 1 ? Integer.parseInt(arguments[1]) : DEFAULT_PAGE_SIZE;
+            if (arguments.length > 2 || page < 1 || pageSize < 1) {
+                return ui.formatListErrorMessage();
+            }
+            return taskList.listTasks(page, pageSize);
+        } catch (NumberFormatException e) {
+            return ui.formatListErrorMessage();
+        }
     }
 }
@@ -0,0 +1,46 @@
+package duke.command;
+
+import duke.util.Keyword;
+import duke.util.Message;
+import duke.util.TaskList;
+import duke.util.Ui;
+
+/**
+ * Handles the command for finding the deadlines and events on a day.
+ *
+ * @author marcuspeh
+ * @version A-TimeIndex
+ * @since 18 Oct 2026
+ */
+public class OnCommand implements Command {
+    /** Stores the message entered by the user. */
+    private String message;
+
+    /** Constructor for duke.command.OnCommand.
+     *
+     * @param message Stores the message entered by the user.
+     */
+    public OnCommand(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Finds all the deadlines and events on the day.
+     *
+     * @param taskList duke.main.TaskList to execute the command.
+     * @param ui       To interact with the user.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    @Override
+    public Message execute(TaskList taskList, Ui ui) {
+        assert taskList != null : " Tasklist is required by command.";
+        assert ui != null : " Ui is required by command.";
+
+        try {
+            assert message.length() > Keyword.ON.length() : "On is in the following format 'on <date>'";
+            return taskList.findOn(message.substring(Keyword.ON.length() + 1));
+        } catch (IndexOutOfBoundsException e) {
+            return ui.formatOnErrorMessage();
+        }
+    }
+}
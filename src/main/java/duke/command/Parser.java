@@ -1,5 +1,7 @@
 package duke.command;
 
+import java.util.BitSet;
+
 import duke.util.DukeException;
 import duke.util.Keyword;
 
@@ -7,7 +9,7 @@ import duke.util.Keyword;
  * Deals with making sense of the user command.
  *
  * @author marcuspeh
- * @version Level-9
+ * @version A-BulkChanges
  * @since 21 Aug 2021
  */
 public class Parser {
@@ -25,7 +27,7 @@ public class Parser {
         if (command.equals(Keyword.EXIT.getKeyword())) {
             return null;
         } else if (command.equals(Keyword.LIST.getKeyword())) {
-            return new ListCommand();
+            return new ListCommand(message);
         } else if (command.equals(Keyword.DONE.getKeyword())) {
             return new DoneCommand(message);
         } else if (command.equals(Keyword.DEADLINE.getKeyword())) {
@@ -40,7 +42,42 @@ public class Parser {
             return new DeleteCommand(message);
         } else if (command.equals(Keyword.HELP.getKeyword())) {
             return new HelpCommand();
+        } else if (command.equals(Keyword.ARCHIVE.getKeyword())) {
+            return new ArchiveCommand(message);
+        } else if (command.equals(Keyword.DUE.getKeyword())) {
+            return new DueCommand(message);
+        } else if (command.equals(Keyword.ON.getKeyword())) {
+            return new OnCommand(message);
         }
         throw new DukeException("Command not parsable");
     }
+
+    /**
+     * Reads the numbers of the tasks a command applies to, given as numbers and ranges separated by commas,
+     * e.g. {@code 1-3,7}. Spaces around the numbers are ignored.
+     *
+     * @param numbers Numbers entered by the user.
+     * @param taskCount Number of tasks in the list.
+     * @return numbers of the tasks, in ascending order without repeats.
+     * @throws NumberFormatException If the numbers are not in this format.
+     * @throws IndexOutOfBoundsException If a number is not in the list.
+     */
+    public static int[] parseTaskNumbers(String numbers, int taskCount) {
+        BitSet parsed = new BitSet();
+        for (String part : numbers.split(",", -1)) {
+            String trimmed = part.trim();
+            // A dash at the start is the sign of a single number rather than a range.
+            int dash = trimmed.indexOf('-', 1);
+            int from = Integer.parseInt(dash < 0 ? trimmed : trimmed.substring(0, dash).trim());
+            int to = dash < 0 ? from : Integer.parseInt(trimmed.substring(dash + 1).trim());
+            if (from > to) {
+                throw new NumberFormatException("Range ends before it starts: " + part);
+            }
+            if (from < 1 || to > taskCount) {
+                throw new IndexOutOfBoundsException("Task number out of range: " + part);
+            }
+            parsed.set(from, to + 1);
+        }
+        return parsed.stream().toArray();
+    }
 }
@@ -0,0 +1,109 @@
+package duke.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+
+/**
+ * Growable list of task ids in ascending order, shared by the indexes of this package.
+ *
+ * <p>Removing an id from the middle would shift every id after it, so the index marks removed ids in a set of
+ * its own instead and the list only counts them, until half of its ids are removed and it is compacted in
+ * a single pass. Readers skip the ids in that set.
+ *
+ * @author marcuspeh
+ * @version A-BulkChanges
+ * @since 18 Oct 2026
+ */
+class Postings {
+    /** Task ids, only the first size are used. */
+    int[] items = new int[2];
+    /** Number of task ids. */
+    int size;
+    /** Number of task ids that are removed from the index but still in the list. */
+    int removedCount;
+
+    /**
+     * Adds a task id after the existing ones, or in its place if it is smaller. A task that is already in
+     * the list is only kept once.
+     *
+     * @param taskId Id of the task.
+     */
+    void add(int taskId) {
+        if (size > 0 && items[size - 1] >= taskId) {
+            if (!contains(taskId)) {
+                insert(taskId);
+            }
+            return;
+        }
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+        }
+        items[size++] = taskId;
+    }
+
+    /**
+     * Adds a task id in its place among the existing ones, which may be larger.
+     *
+     * @param taskId Id of the task, not already in the list.
+     */
+    void insert(int taskId) {
+        int index = -indexOf(taskId) - 1;
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+        }
+        System.arraycopy(items, index, items, index + 1, size - index);
+        items[index] = taskId;
+        size++;
+    }
+
+    int indexOf(int taskId) {
+        return Arrays.binarySearch(items, 0, size, taskId);
+    }
+
+    boolean contains(int taskId) {
+        return indexOf(taskId) >= 0;
+    }
+
+    void remove(int taskId) {
+        int index = indexOf(taskId);
+        if (index >= 0) {
+            System.arraycopy(items, index + 1, items, index, size - index - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Removes a task id, which the caller has marked in the removed ids. The last id is dropped at once and
+     * any other is only counted, so that removing takes constant time on average.
+     *
+     * @param taskId Id of the task.
+     * @param removedIds Ids removed from the index.
+     */
+    void removeLazily(int taskId, BitSet removedIds) {
+        if (size > 0 && items[size - 1] == taskId) {
+            size--;
+            return;
+        }
+        removedCount++;
+        if (removedCount * 2 > size) {
+            removeIf(removedIds::get);
+        }
+    }
+
+    /**
+     * Removes the task ids that match in a single pass, instead of shifting the ids after each one.
+     *
+     * @param isRemoved Checks if a task id is removed, which must include every id counted as removed.
+     */
+    void removeIf(IntPredicate isRemoved) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (!isRemoved.test(items[i])) {
+                items[count++] = items[i];
+            }
+        }
+        size = count;
+        removedCount = 0;
+    }
+}
@@ -0,0 +1,309 @@
+package duke.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Every suffix of every token of a vocabulary, sorted, so that the tokens containing a text are found
+ * with a binary search for the suffixes starting with it. Each suffix is kept as the id of its token in
+ * the high 32 bits and its offset in the token in the low 32 bits, instead of as a string.
+ *
+ * <p>New suffixes go to a small sorted level first, which is merged into the main level once it grows
+ * past a fraction of it, so that adding a token does not shift the whole array.
+ *
+ * @author marcuspeh
+ * @version A-TokenIndex
+ * @since 18 Oct 2026
+ */
+public class SuffixArray {
+    /** Smallest size of the recent level before it is merged into the main level. */
+    private static final int MIN_RECENT_SIZE = 4096;
+
+    /** Tokens of the vocabulary, by their id. */
+    private final List<String> tokens;
+    /** Main level of sorted suffixes. */
+    private long[] suffixes = new long[0];
+    /** Suffixes added since the last merge, sorted. */
+    private long[] recent = new long[16];
+    /** Number of suffixes in the recent level. */
+    private int recentSize;
+
+    /**
+     * Constructor for SuffixArray.
+     *
+     * @param tokens Tokens of the vocabulary, by their id. Tokens are only ever added to the end of it.
+     */
+    public SuffixArray(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Adds every suffix of the token.
+     *
+     * @param tokenId Id of the token in the vocabulary.
+     */
+    public void add(int tokenId) {
+        for (int offset = 0; offset < tokens.get(tokenId).length(); offset++) {
+            long suffix = (long) tokenId << 32 | offset;
+            int at = -binarySearch(recent, recentSize, suffix) - 1;
+            if (recentSize == recent.length) {
+                recent = Arrays.copyOf(recent, recentSize * 2);
+            }
+            System.arraycopy(recent, at, recent, at + 1, recentSize - at);
+            recent[at] = suffix;
+            recentSize++;
+        }
+        if (recentSize > Math.max(MIN_RECENT_SIZE, suffixes.length / 8)) {
+            mergeRecent();
+        }
+    }
+
+    private void mergeRecent() {
+        suffixes = merge(suffixes, suffixes.length, recent, recentSize);
+        recent = new long[16];
+        recentSize = 0;
+    }
+
+    /**
+     * Adds every suffix of the tokens at once, which is faster than adding them one by one.
+     *
+     * @param fromId Id of the first token to add.
+     * @param toId Id after the last token to add.
+     */
+    public void addAll(int fromId, int toId) {
+        int count = 0;
+        for (int id = fromId; id < toId; id++) {
+            count += tokens.get(id).length();
+        }
+        long[] added = new long[count];
+        int size = 0;
+        for (int id = fromId; id < toId; id++) {
+            for (int offset = 0; offset < tokens.get(id).length(); offset++) {
+                added[size++] = (long) id << 32 | offset;
+            }
+        }
+        long[] sorted = sort(added);
+        suffixes = merge(suffixes, suffixes.length, sorted, sorted.length);
+    }
+
+    /**
+     * Writes the suffixes in their sorted order to the stream.
+     *
+     * @param out Stream to write to.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        mergeRecent();
+        out.writeInt(suffixes.length);
+        for (long suffix : suffixes) {
+            TokenIndex.writeVarInt(out, tokenId(suffix));
+            TokenIndex.writeVarInt(out, offset(suffix));
+        }
+    }
+
+    /**
+     * Reads the suffixes written by {@link #writeTo(DataOutput)} in place of the current ones.
+     * The tokens must have the same ids as when the suffixes were written.
+     *
+     * @param in Stream to read from.
+     * @throws IOException If the stream cannot be read.
+     */
+    public void readFrom(DataInput in) throws IOException {
+        long[] read = new long[in.readInt()];
+        for (int i = 0; i < read.length; i++) {
+            read[i] = (long) TokenIndex.readVarInt(in) << 32 | TokenIndex.readVarInt(in);
+        }
+        suffixes = read;
+        recent = new long[16];
+        recentSize = 0;
+    }
+
+    /**
+     * Finds the tokens containing the text. A token containing the text more than once is given once
+     * for each occurrence. Gives up once more than the limit of suffixes start with the text, as
+     * such a common text does not narrow anything down.
+     *
+     * @param text Text to search for.
+     * @param isPrefix If the token must start with the text.
+     * @param isSuffix If the token must end with the text.
+     * @param limit Number of suffixes starting with the text to look at before giving up.
+     * @param tokenIds Given the id of each token found.
+     * @return false if it gave up.
+     */
+    public boolean find(String text, boolean isPrefix, boolean isSuffix, int limit, IntConsumer tokenIds) {
+        int walked = find(suffixes, suffixes.length, text, isPrefix, isSuffix, limit, tokenIds);
+        return walked <= limit
+                && find(recent, recentSize, text, isPrefix, isSuffix, limit - walked, tokenIds) <= limit - walked;
+    }
+
+    /**
+     * Finds the tokens containing the text in one level.
+     *
+     * @return number of suffixes starting with the text that were looked at, more than the limit if it gave up.
+     */
+    private int find(long[] level, int size, String text, boolean isPrefix, boolean isSuffix, int limit,
+            IntConsumer tokenIds) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(level[middle], text) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int walked = 0;
+        for (int i = low; i < size && startsWith(level[i], text); i++) {
+            if (++walked > limit) {
+                break;
+            }
+            String token = tokens.get(tokenId(level[i]));
+            int offset = offset(level[i]);
+            if (isSuffix && offset + text.length() != token.length()) {
+                // Suffixes equal to the text come first, so no later suffix can end with it either.
+                break;
+            }
+            if (!isPrefix || offset == 0) {
+                tokenIds.accept(tokenId(level[i]));
+            }
+        }
+        return walked;
+    }
+
+    private static int tokenId(long suffix) {
+        return (int) (suffix >>> 32);
+    }
+
+    private static int offset(long suffix) {
+        return (int) suffix;
+    }
+
+    private boolean startsWith(long suffix, String text) {
+        return tokens.get(tokenId(suffix)).startsWith(text, offset(suffix));
+    }
+
+    /**
+     * Compares the suffix with the text, in the order of {@link String#compareTo(String)}.
+     */
+    private int compare(long suffix, String text) {
+        String token = tokens.get(tokenId(suffix));
+        int offset = offset(suffix);
+        int length = Math.min(token.length() - offset, text.length());
+        for (int i = 0; i < length; i++) {
+            int difference = token.charAt(offset + i) - text.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return token.length() - offset - text.length();
+    }
+
+    private int compare(long first, long second) {
+        String firstToken = tokens.get(tokenId(first));
+        String secondToken = tokens.get(tokenId(second));
+        int firstOffset = offset(first);
+        int secondOffset = offset(second);
+        int length = Math.min(firstToken.length() - firstOffset, secondToken.length() - secondOffset);
+        for (int i = 0; i < length; i++) {
+            int difference = firstToken.charAt(firstOffset + i) - secondToken.charAt(secondOffset + i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        int difference = (firstToken.length() - firstOffset) - (secondToken.length() - secondOffset);
+        return difference != 0 ? difference : Long.compare(first, second);
+    }
+
+    private int binarySearch(long[] level, int size, long suffix) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int difference = compare(level[middle], suffix);
+            if (difference < 0) {
+                low = middle + 1;
+            } else if (difference > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private long[] merge(long[] first, int firstSize, long[] second, int secondSize) {
+        long[] merged = new long[firstSize + secondSize];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < firstSize && j < secondSize) {
+            merged[k++] = compare(first[i], second[j]) <= 0 ? first[i++] : second[j++];
+        }
+        System.arraycopy(first, i, merged, k, firstSize - i);
+        System.arraycopy(second, j, merged, k + firstSize - i, secondSize - j);
+        return merged;
+    }
+
+    /**
+     * Sorts the suffixes with a bottom-up merge sort, as the suffixes are compared by their text
+     * rather than by their value. The first four characters of each suffix are packed into a key first,
+     * so that most comparisons do not have to look up the tokens.
+     */
+    private long[] sort(long[] unsorted) {
+        long[] from = unsorted;
+        long[] to = new long[unsorted.length];
+        long[] fromKeys = new long[unsorted.length];
+        long[] toKeys = new long[unsorted.length];
+        for (int i = 0; i < unsorted.length; i++) {
+            fromKeys[i] = key(unsorted[i]);
+        }
+        for (int width = 1; width < unsorted.length; width *= 2) {
+            for (int start = 0; start < unsorted.length; start += 2 * width) {
+                int middle = Math.min(start + width, unsorted.length);
+                int end = Math.min(start + 2 * width, unsorted.length);
+                int i = start;
+                int j = middle;
+                int k = start;
+                while (i < middle && j < end) {
+                    int difference = Long.compareUnsigned(fromKeys[i], fromKeys[j]);
+                    if (difference < 0 || difference == 0 && compare(from[i], from[j]) <= 0) {
+                        toKeys[k] = fromKeys[i];
+                        to[k++] = from[i++];
+                    } else {
+                        toKeys[k] = fromKeys[j];
+                        to[k++] = from[j++];
+                    }
+                }
+                System.arraycopy(fromKeys, i, toKeys, k, middle - i);
+                System.arraycopy(from, i, to, k, middle - i);
+                System.arraycopy(fromKeys, j, toKeys, k + middle - i, end - j);
+                System.arraycopy(from, j, to, k + middle - i, end - j);
+            }
+            long[] swap = from;
+            from = to;
+            to = swap;
+            swap = fromKeys;
+            fromKeys = toKeys;
+            toKeys = swap;
+        }
+        return from;
+    }
+
+    /**
+     * Packs the first four characters of the suffix, padded with zeros, so that keys compare in the
+     * same order as the suffixes they start.
+     */
+    private long key(long suffix) {
+        String token = tokens.get(tokenId(suffix));
+        long key = 0;
+        for (int i = offset(suffix); i < offset(suffix) + 4; i++) {
+            key = key << 16 | (i < token.length() ? token.charAt(i) : 0);
+        }
+        return key;
+    }
+}
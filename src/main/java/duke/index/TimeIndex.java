@@ -0,0 +1,111 @@
+package duke.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+import duke.task.Task;
+
+/**
+ * Index of the deadlines and events by their date / time, so that the tasks in a range of time are found
+ * in O(log n + k) for k tasks found, instead of checking every task. Tasks without a date / time are not
+ * indexed. Tasks at the same date / time are found in the order they were first added to the list.
+ *
+ * <p>The index keeps the id of each task rather than the task itself, and looks the tasks up by their id
+ * when they are found, so that it does not keep a task in memory that the list only keeps as fields.
+ *
+ * @author marcuspeh
+ * @version A-CompactTasks
+ * @since 18 Oct 2026
+ */
+public class TimeIndex {
+    /** Ids of the tasks at each date / time in milliseconds since the epoch. */
+    private final NavigableMap<Long, Postings> taskIds = new TreeMap<>();
+    /** Looks up the task with an id in the list. */
+    private final IntFunction<Task> tasksById;
+
+    /**
+     * Constructor for an empty TimeIndex.
+     *
+     * @param tasksById Looks up the task with an id in the list.
+     */
+    public TimeIndex(IntFunction<Task> tasksById) {
+        this.tasksById = tasksById;
+    }
+
+    /**
+     * Builds the index of the tasks.
+     *
+     * @param tasks Tasks to index, which already have their ids.
+     * @param tasksById Looks up the task with an id in the list.
+     * @return index of the tasks.
+     */
+    public static TimeIndex of(Collection<Task> tasks, IntFunction<Task> tasksById) {
+        TimeIndex index = new TimeIndex(tasksById);
+        tasks.forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Indexes the task if it has a date / time.
+     *
+     * @param task Task added to the list.
+     */
+    public void add(Task task) {
+        if (task.hasDateTime()) {
+            taskIds.computeIfAbsent(task.getDateTimeMillis(), time -> new Postings()).insert(task.getId());
+        }
+    }
+
+    /**
+     * Removes the task from the index.
+     *
+     * @param task Task deleted from the list.
+     */
+    public void delete(Task task) {
+        if (!task.hasDateTime()) {
+            return;
+        }
+        Postings sameTime = taskIds.get(task.getDateTimeMillis());
+        if (sameTime != null) {
+            sameTime.remove(task.getId());
+            if (sameTime.size == 0) {
+                taskIds.remove(task.getDateTimeMillis());
+            }
+        }
+    }
+
+    /**
+     * Finds the tasks before the date / time.
+     *
+     * @param time Date / time in milliseconds since the epoch, not included.
+     * @return tasks in the order of their date / time.
+     */
+    public List<Task> before(long time) {
+        return lookUp(taskIds.headMap(time, false));
+    }
+
+    /**
+     * Finds the tasks from one date / time to another.
+     *
+     * @param from Date / time in milliseconds since the epoch, included.
+     * @param to Date / time in milliseconds since the epoch, not included.
+     * @return tasks in the order of their date / time.
+     */
+    public List<Task> between(long from, long to) {
+        return lookUp(taskIds.subMap(from, true, to, false));
+    }
+
+    private List<Task> lookUp(NavigableMap<Long, Postings> range) {
+        List<Task> found = new ArrayList<>();
+        for (Postings sameTime : range.values()) {
+            for (int i = 0; i < sameTime.size; i++) {
+                found.add(tasksById.apply(sameTime.items[i]));
+            }
+        }
+        return found;
+    }
+}
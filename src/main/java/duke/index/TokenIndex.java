@@ -0,0 +1,343 @@
+package duke.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Index from each token of the task descriptions to the tasks containing it.
+ * A token is a run of letters and digits, kept in its original case.
+ *
+ * <p>As find matches any substring, a task containing the query has, for every token of the query,
+ * a token containing it. A query token followed by another character of the query must end a token,
+ * one preceded by another character must start one, and one with both must be a whole token.
+ * The index finds such tokens with a {@link SuffixArray} of the vocabulary and returns the tasks of the
+ * rarest query token as candidates, which the caller still checks against the whole query. The work is
+ * therefore proportional to the number of candidates rather than to the number of tasks, and a query of
+ * whole words only gets the tasks that contain them. Queries without a token cannot be narrowed, and neither
+ * can queries whose rarest token is in so many tasks that checking every task is faster.
+ *
+ * <p>Tasks are indexed by the stable id the task list gives them, and the postings hold these ids in ascending
+ * order, so that deleting a task only removes it from the postings of its own tokens, without renumbering the
+ * tasks after it, and the {@link Postings} are compacted lazily. The caller maps the ids of the candidates to
+ * positions. Tokens are never removed from the vocabulary.
+ *
+ * @author marcuspeh
+ * @version A-BulkChanges
+ * @since 18 Oct 2026
+ */
+public class TokenIndex {
+    /** Fraction of the tasks above which checking the candidates is slower than checking every task. */
+    private static final int SCAN_FRACTION = 32;
+    /** Number of candidates that are always checked, however short the list is. */
+    private static final int MIN_CANDIDATES = 64;
+
+    /** Id of each token in the vocabulary. */
+    private final Map<String, Integer> tokenIds = new HashMap<>();
+    /** Tokens of the vocabulary, by their id. */
+    private final List<String> tokens = new ArrayList<>();
+    /** Ids of the tasks containing each token, by the id of the token. */
+    private final List<Postings> postings = new ArrayList<>();
+    /** Suffixes of the tokens of the vocabulary. */
+    private final SuffixArray suffixes = new SuffixArray(tokens);
+    /** Ids of the deleted tasks, which may still be in the postings. */
+    private final BitSet removedIds = new BitSet();
+    /** Number of tasks indexed. */
+    private int taskCount;
+
+    /**
+     * Splits the text into its tokens.
+     *
+     * @param text Description or query.
+     * @return runs of letters and digits in the text.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (int[] span : spans(text)) {
+            tokens.add(text.substring(span[0], span[1]));
+        }
+        return tokens;
+    }
+
+    /**
+     * Finds where each token of the text starts and ends.
+     */
+    private static List<int[]> spans(String text) {
+        List<int[]> spans = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTokenChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isTokenChar && start < 0) {
+                start = i;
+            } else if (!isTokenChar && start >= 0) {
+                spans.add(new int[] {start, i});
+                start = -1;
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * Builds the index of the descriptions of a new list, in which the id of each task is its position.
+     *
+     * @param descriptions Description of each task, in the order of the list.
+     * @return index of the descriptions.
+     */
+    public static TokenIndex of(List<String> descriptions) {
+        return of(IntStream.range(0, descriptions.size()).toArray(), descriptions);
+    }
+
+    /**
+     * Builds the index of the descriptions.
+     *
+     * @param taskIds Id of each task.
+     * @param descriptions Description of each task, in the same order.
+     * @return index of the descriptions.
+     */
+    public static TokenIndex of(int[] taskIds, List<String> descriptions) {
+        TokenIndex index = new TokenIndex();
+        for (int i = 0; i < taskIds.length; i++) {
+            for (String token : tokenize(descriptions.get(i))) {
+                index.postingsOf(token).add(taskIds[i]);
+            }
+        }
+        index.taskCount = taskIds.length;
+        index.suffixes.addAll(0, index.tokens.size());
+        return index;
+    }
+
+    /**
+     * Indexes a task added to the list. A deleted task may be added again with its id, as long as its
+     * description is the same.
+     *
+     * @param taskId Id of the task.
+     * @param description Description of the task.
+     */
+    public void add(int taskId, String description) {
+        taskCount++;
+        removedIds.clear(taskId);
+        for (String token : tokenize(description)) {
+            int vocabularySize = tokens.size();
+            postingsOf(token).add(taskId);
+            if (tokens.size() > vocabularySize) {
+                suffixes.add(vocabularySize);
+            }
+        }
+    }
+
+    /**
+     * Removes a task deleted from the list.
+     *
+     * @param taskId Id of the task.
+     * @param description Description of the task.
+     */
+    public void delete(int taskId, String description) {
+        taskCount--;
+        removedIds.set(taskId);
+        for (String token : tokenize(description)) {
+            Integer tokenId = tokenIds.get(token);
+            if (tokenId != null) {
+                postings.get(tokenId).removeLazily(taskId, removedIds);
+            }
+        }
+    }
+
+    /**
+     * Removes tasks deleted from the list at once. Each postings list is passed over once, however many of
+     * its tasks are deleted, instead of being shifted once for each task.
+     *
+     * @param taskIds Id of each task.
+     * @param descriptions Description of each task, in the same order.
+     */
+    public void delete(int[] taskIds, List<String> descriptions) {
+        Arrays.stream(taskIds).forEach(removedIds::set);
+        Set<Postings> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String description : descriptions) {
+            for (String token : tokenize(description)) {
+                Integer tokenId = tokenIds.get(token);
+                if (tokenId != null) {
+                    changed.add(postings.get(tokenId));
+                }
+            }
+        }
+        taskCount -= taskIds.length;
+        changed.forEach(taskPostings -> taskPostings.removeIf(removedIds::get));
+    }
+
+    /**
+     * Finds the postings of the token, adding the token to the vocabulary if it is new.
+     * The suffixes of a new token are left to the caller.
+     */
+    private Postings postingsOf(String token) {
+        Integer tokenId = tokenIds.get(token);
+        if (tokenId == null) {
+            tokenId = tokens.size();
+            tokenIds.put(token, tokenId);
+            tokens.add(token);
+            postings.add(new Postings());
+        }
+        return postings.get(tokenId);
+    }
+
+    /**
+     * Finds the tasks that may contain the query.
+     *
+     * @param query Text to search for.
+     * @return ids of the candidates, or null if the query is too common or has no token to narrow it down.
+     */
+    public BitSet candidates(String query) {
+        List<int[]> spans = spans(query);
+        if (spans.isEmpty()) {
+            return null;
+        }
+        int limit = Math.max(MIN_CANDIDATES, taskCount / SCAN_FRACTION);
+        List<Postings> rarest = null;
+        long rarestCount = Long.MAX_VALUE;
+        for (int[] span : spans) {
+            List<Postings> matches = matchingPostings(query.substring(span[0], span[1]), span[0] > 0,
+                    span[1] < query.length(), limit);
+            long count = matches == null
+                    ? Long.MAX_VALUE
+                    : matches.stream().mapToLong(taskIds -> taskIds.size).sum();
+            if (count < rarestCount) {
+                rarest = matches;
+                rarestCount = count;
+            }
+        }
+        if (rarestCount > limit) {
+            return null;
+        }
+        BitSet candidates = new BitSet();
+        for (Postings matches : rarest) {
+            for (int i = 0; i < matches.size; i++) {
+                candidates.set(matches.items[i]);
+            }
+        }
+        candidates.andNot(removedIds);
+        return candidates;
+    }
+
+    /**
+     * Finds the postings of the tokens containing the query token.
+     *
+     * @param queryToken Token of the query.
+     * @param isPrefix If the token must start with the query token.
+     * @param isSuffix If the token must end with the query token.
+     * @param limit Number of tasks above which the query token is too common to narrow anything down.
+     * @return postings of the tokens, or null if the query token is too common.
+     */
+    private List<Postings> matchingPostings(String queryToken, boolean isPrefix, boolean isSuffix, int limit) {
+        List<Postings> matches = new ArrayList<>();
+        if (isPrefix && isSuffix) {
+            Integer tokenId = tokenIds.get(queryToken);
+            if (tokenId != null) {
+                matches.add(postings.get(tokenId));
+            }
+            return matches;
+        }
+        BitSet found = new BitSet();
+        boolean isFound = suffixes.find(queryToken, isPrefix, isSuffix, limit, tokenId -> {
+            if (!found.get(tokenId)) {
+                found.set(tokenId);
+                matches.add(postings.get(tokenId));
+            }
+        });
+        return isFound ? matches : null;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Writes the index to the stream. The tasks are written by their position in the list, as the ids are
+     * given again when the list is loaded, and the positions of each token are written as the gaps between
+     * them. The sorted suffixes are written too, as sorting them again takes longer than reading them.
+     *
+     * @param out Stream to write to.
+     * @param positionOfId Finds the position of the task with each id.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void writeTo(DataOutput out, IntUnaryOperator positionOfId) throws IOException {
+        out.writeInt(taskCount);
+        out.writeInt(tokens.size());
+        for (int tokenId = 0; tokenId < tokens.size(); tokenId++) {
+            Postings taskIds = postings.get(tokenId);
+            int[] positions = IntStream.of(Arrays.copyOf(taskIds.items, taskIds.size))
+                    .filter(taskId -> !removedIds.get(taskId))
+                    .map(positionOfId)
+                    .sorted()
+                    .toArray();
+            out.writeUTF(tokens.get(tokenId));
+            out.writeInt(positions.length);
+            int previous = 0;
+            for (int position : positions) {
+                writeVarInt(out, position - previous);
+                previous = position;
+            }
+        }
+        suffixes.writeTo(out);
+    }
+
+    /**
+     * Writes a non-negative number in groups of 7 bits, so that the small gaps between positions
+     * take a single byte.
+     */
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte next = in.readByte();
+            value |= (next & 0x7F) << shift;
+            if (next >= 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo(DataOutput, IntUnaryOperator)}.
+     *
+     * @param in Stream to read from.
+     * @param idAtPosition Finds the id of the task at each position of the list.
+     * @return the index.
+     * @throws IOException If the stream cannot be read.
+     */
+    public static TokenIndex readFrom(DataInput in, IntUnaryOperator idAtPosition) throws IOException {
+        TokenIndex index = new TokenIndex();
+        index.taskCount = in.readInt();
+        int tokenCount = in.readInt();
+        for (int i = 0; i < tokenCount; i++) {
+            Postings taskIds = index.postingsOf(in.readUTF());
+            int size = in.readInt();
+            taskIds.items = new int[Math.max(2, size)];
+            int position = 0;
+            for (int j = 0; j < size; j++) {
+                position += readVarInt(in);
+                taskIds.items[j] = idAtPosition.applyAsInt(position);
+            }
+            taskIds.size = size;
+            Arrays.sort(taskIds.items, 0, size);
+        }
+        index.suffixes.readFrom(in);
+        return index;
+    }
+}
@@ -0,0 +1,170 @@
+package duke.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Index from every three consecutive characters of the task descriptions, spaces and punctuation included,
+ * to the tasks containing them. A task containing the query contains every trigram of the query, so the
+ * tasks with all of them are the candidates, which the caller still checks against the whole query.
+ * Unlike {@link TokenIndex}, this narrows down queries that are made of common tokens or of no token at all.
+ * Queries shorter than three characters cannot be narrowed, and neither can queries whose rarest trigram
+ * is in so many tasks that checking every task is faster.
+ *
+ * <p>Tasks are indexed by their stable id the same way as in {@link TokenIndex}, so deleting a task only
+ * removes it from the postings of its own trigrams, which are compacted lazily, and the caller maps the ids of
+ * the candidates to positions.
+ *
+ * @author marcuspeh
+ * @version A-BulkChanges
+ * @since 18 Oct 2026
+ */
+public class TrigramIndex {
+    /** Number of characters in a trigram. */
+    private static final int LENGTH = 3;
+    /** Fraction of the tasks above which checking the candidates is slower than checking every task. */
+    private static final int SCAN_FRACTION = 32;
+    /** Number of candidates that are always checked, however short the list is. */
+    private static final int MIN_CANDIDATES = 64;
+
+    /** Ids of the tasks containing each trigram, by the trigram packed into a long. */
+    private final Map<Long, Postings> postings = new HashMap<>();
+    /** Ids of the deleted tasks, which may still be in the postings. */
+    private final BitSet removedIds = new BitSet();
+    /** Number of tasks indexed. */
+    private int taskCount;
+
+    /**
+     * Builds the index of the descriptions of a new list, in which the id of each task is its position.
+     *
+     * @param descriptions Description of each task, in the order of the list.
+     * @return index of the descriptions.
+     */
+    public static TrigramIndex of(List<String> descriptions) {
+        return of(IntStream.range(0, descriptions.size()).toArray(), descriptions);
+    }
+
+    /**
+     * Builds the index of the descriptions.
+     *
+     * @param taskIds Id of each task.
+     * @param descriptions Description of each task, in the same order.
+     * @return index of the descriptions.
+     */
+    public static TrigramIndex of(int[] taskIds, List<String> descriptions) {
+        TrigramIndex index = new TrigramIndex();
+        for (int i = 0; i < taskIds.length; i++) {
+            index.add(taskIds[i], descriptions.get(i));
+        }
+        return index;
+    }
+
+    /**
+     * Indexes a task added to the list. A deleted task may be added again with its id, as long as its
+     * description is the same.
+     *
+     * @param taskId Id of the task.
+     * @param description Description of the task.
+     */
+    public void add(int taskId, String description) {
+        taskCount++;
+        removedIds.clear(taskId);
+        for (int i = 0; i + LENGTH <= description.length(); i++) {
+            postings.computeIfAbsent(trigram(description, i), key -> new Postings()).add(taskId);
+        }
+    }
+
+    /**
+     * Removes a task deleted from the list.
+     *
+     * @param taskId Id of the task.
+     * @param description Description of the task.
+     */
+    public void delete(int taskId, String description) {
+        taskCount--;
+        removedIds.set(taskId);
+        for (int i = 0; i + LENGTH <= description.length(); i++) {
+            Postings taskIds = postings.get(trigram(description, i));
+            if (taskIds != null) {
+                taskIds.removeLazily(taskId, removedIds);
+            }
+        }
+    }
+
+    /**
+     * Removes tasks deleted from the list at once, passing over the postings of each trigram once.
+     *
+     * @param taskIds Id of each task.
+     * @param descriptions Description of each task, in the same order.
+     */
+    public void delete(int[] taskIds, List<String> descriptions) {
+        Arrays.stream(taskIds).forEach(removedIds::set);
+        Set<Postings> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String description : descriptions) {
+            for (int i = 0; i + LENGTH <= description.length(); i++) {
+                Postings taskIdsOfTrigram = postings.get(trigram(description, i));
+                if (taskIdsOfTrigram != null) {
+                    changed.add(taskIdsOfTrigram);
+                }
+            }
+        }
+        taskCount -= taskIds.length;
+        changed.forEach(trigramPostings -> trigramPostings.removeIf(removedIds::get));
+    }
+
+    private static long trigram(String text, int start) {
+        return (long) text.charAt(start) << 32 | (long) text.charAt(start + 1) << 16 | text.charAt(start + 2);
+    }
+
+    /**
+     * Finds the tasks that contain every trigram of the query. The postings are intersected from the
+     * shortest one, so the work is bounded by the rarest trigram of the query.
+     *
+     * @param query Text to search for.
+     * @return ids of the candidates, or null if the query is too short or too common to be narrowed down.
+     */
+    public BitSet candidates(String query) {
+        if (query.length() < LENGTH) {
+            return null;
+        }
+        List<Postings> matches = new ArrayList<>();
+        for (int i = 0; i + LENGTH <= query.length(); i++) {
+            Postings taskIds = postings.get(trigram(query, i));
+            if (taskIds == null || taskIds.size == 0) {
+                return new BitSet();
+            }
+            matches.add(taskIds);
+        }
+        matches.sort(Comparator.comparingInt(taskIds -> taskIds.size));
+        Postings rarest = matches.get(0);
+        if (rarest.size > Math.max(MIN_CANDIDATES, taskCount / SCAN_FRACTION)) {
+            return null;
+        }
+
+        BitSet candidates = new BitSet();
+        for (int i = 0; i < rarest.size; i++) {
+            int taskId = rarest.items[i];
+            boolean isInAll = !removedIds.get(taskId);
+            for (int j = 1; j < matches.size() && isInAll; j++) {
+                isInAll = matches.get(j).contains(taskId);
+            }
+            if (isInAll) {
+                candidates.set(taskId);
+            }
+        }
+        return candidates;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+}
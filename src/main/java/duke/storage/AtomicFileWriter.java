@@ -0,0 +1,97 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Replaces a file with new content without ever leaving it half written.
+ * The content is written to a temporary file, forced to the disk if needed, and then renamed over the file.
+ *
+ * @author marcuspeh
+ * @version A-AtomicSave
+ * @since 18 Oct 2026
+ */
+public class AtomicFileWriter {
+    /**
+     * Content to be written to the file.
+     */
+    public interface Content {
+        /**
+         * Writes the content to the stream.
+         *
+         * @param out Stream of the file.
+         * @throws IOException If the stream cannot be written.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Replaces the file with the content.
+     *
+     * @param target File to replace.
+     * @param durability How safely the content is written.
+     * @param content Content of the file.
+     * @return checksum of the content.
+     * @throws IOException If the file cannot be written.
+     */
+    public static long write(Path target, Durability durability, Content content) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        CRC32 checksum = new CRC32();
+        if (durability == Durability.NONE) {
+            try (OutputStream out = new CheckedOutputStream(Files.newOutputStream(target), checksum)) {
+                content.writeTo(out);
+            }
+            return checksum.getValue();
+        }
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+                OutputStream out = new CheckedOutputStream(Channels.newOutputStream(channel), checksum)) {
+            content.writeTo(out);
+            out.flush();
+            if (durability == Durability.FSYNC) {
+                channel.force(true);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        move(temp, target);
+        if (durability == Durability.FSYNC) {
+            forceDirectory(target);
+        }
+        return checksum.getValue();
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the rename of the file to the disk. Not every system allows a directory to be opened,
+     * in which case the rename is left to the system.
+     *
+     * @param file File in the directory.
+     */
+    private static void forceDirectory(Path file) {
+        try (FileChannel directory = FileChannel.open(file.toAbsolutePath().getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            // The directory cannot be forced on this system.
+        }
+    }
+}
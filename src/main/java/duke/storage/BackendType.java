@@ -0,0 +1,79 @@
+package duke.storage;
+
+import duke.util.Ui;
+
+/**
+ * Enum file for the backends the tasks can be saved to.
+ *
+ * @author marcuspeh
+ * @version A-Recovery
+ * @since 18 Oct 2026
+ */
+public enum BackendType {
+    /** Keeps the tasks in memory only. */
+    MEMORY(SnapshotFormat.TEXT) {
+        @Override
+        public StorageBackend create(StorageOptions options, Ui ui) {
+            return new MemoryBackend();
+        }
+    },
+    /** Human readable txt file read line by line, with or without checksums. */
+    TEXT(SnapshotFormat.TEXT) {
+        @Override
+        public StorageBackend create(StorageOptions options, Ui ui) {
+            return new FileBackend(options.getLocation(), options.getFormat(), options.getDurability(),
+                    options.getCompression(), ui);
+        }
+    },
+    /** Compact binary file. */
+    BINARY(SnapshotFormat.BINARY) {
+        @Override
+        public StorageBackend create(StorageOptions options, Ui ui) {
+            return new FileBackend(options.getLocation(), SnapshotFormat.BINARY, options.getDurability(),
+                    options.getCompression(), ui);
+        }
+    },
+    /** txt file that is mapped into memory when loading. */
+    MMAP(SnapshotFormat.TEXT) {
+        @Override
+        public StorageBackend create(StorageOptions options, Ui ui) {
+            return new MappedFileBackend(options.getLocation(), options.getDurability(), options.getCompression(),
+                    ui, options.getIsParallel(), options.getIsLazy(), options.getIsWatched());
+        }
+    };
+
+    /** Format the backend saves files in. */
+    private final SnapshotFormat format;
+
+    /**
+     * Constructor for BackendType Enum.
+     *
+     * @param format Format the backend saves files in.
+     */
+    BackendType(SnapshotFormat format) {
+        this.format = format;
+    }
+
+    public SnapshotFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Creates the backend with the options.
+     *
+     * @param options Options for saving and loading the tasks.
+     * @param ui To deal with the error messages.
+     * @return backend of this type.
+     */
+    public abstract StorageBackend create(StorageOptions options, Ui ui);
+
+    /**
+     * Finds the backend with the given name, ignoring case.
+     *
+     * @param name Name of the backend.
+     * @return backend with the name.
+     */
+    public static BackendType of(String name) {
+        return valueOf(name.toUpperCase());
+    }
+}
@@ -0,0 +1,149 @@
+package duke.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import duke.task.Deadlines;
+import duke.task.Events;
+import duke.task.Task;
+import duke.task.ToDos;
+import duke.util.Keyword;
+
+/**
+ * Reads and writes tasks in a compact binary format, so that loading does not need to split lines
+ * or parse dates. Format is as follow: the magic header, a version byte and the number of tasks,
+ * followed by each task as {@literal <}Type{@literal >} {@literal <}Done{@literal >}
+ * {@literal <}DateTime in epoch millis{@literal >} {@literal <}Length{@literal >}
+ * {@literal <}UTF-8 Description{@literal >}.
+ *
+ * @author marcuspeh
+ * @version A-BinarySnapshot
+ * @since 18 Oct 2026
+ */
+public class BinaryTaskFormat {
+    /** Magic header at the start of every binary file. */
+    private static final byte[] MAGIC = {'D', 'U', 'K', 'E'};
+    /** Version of the binary format. */
+    private static final byte VERSION = 1;
+    /** Type of a deadline task. */
+    private static final byte DEADLINE = (byte) Keyword.DEADLINE.getSaveWord().charAt(0);
+    /** Type of an event task. */
+    private static final byte EVENT = (byte) Keyword.EVENTS.getSaveWord().charAt(0);
+    /** Type of a todo task. */
+    private static final byte TODO = (byte) Keyword.TODOS.getSaveWord().charAt(0);
+    /** Most tasks to make room for ahead of reading them, as the count in a damaged file cannot be trusted. */
+    private static final int MAX_CAPACITY_HINT = 1 << 16;
+
+    /**
+     * Checks if the stream starts with the magic header, without consuming it.
+     *
+     * @param in Stream that supports mark and reset.
+     * @return if the stream is in the binary format.
+     * @throws IOException If the stream cannot be read.
+     */
+    public static boolean isBinary(BufferedInputStream in) throws IOException {
+        in.mark(MAGIC.length);
+        byte[] header = in.readNBytes(MAGIC.length);
+        in.reset();
+        return Arrays.equals(header, MAGIC);
+    }
+
+    /**
+     * Writes the tasks to the stream.
+     *
+     * @param out Stream to write to.
+     * @param taskList list of task to be stored.
+     * @throws IOException If the stream cannot be written.
+     */
+    public static void write(OutputStream out, List<Task> taskList) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.write(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(taskList.size());
+        for (Task task : taskList) {
+            byte[] description = task.getTask().getBytes(StandardCharsets.UTF_8);
+            data.writeByte(typeOf(task));
+            data.writeBoolean(task.getIsDone());
+            data.writeLong(task.getDateTimeMillis());
+            data.writeInt(description.length);
+            data.write(description);
+        }
+        data.flush();
+    }
+
+    private static byte typeOf(Task task) {
+        if (task instanceof Deadlines) {
+            return DEADLINE;
+        } else if (task instanceof Events) {
+            return EVENT;
+        } else {
+            return TODO;
+        }
+    }
+
+    /**
+     * Reads the tasks in the stream into the task list.
+     * Tasks read before an error are kept in the task list. A count, length or type that cannot be right,
+     * as in a damaged or cut short file, is an error.
+     *
+     * @param in Stream to read from.
+     * @param taskList List to add the tasks to.
+     * @throws IOException If the stream cannot be read or is not in the binary format.
+     */
+    public static void read(InputStream in, List<Task> taskList) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (!Arrays.equals(data.readNBytes(MAGIC.length), MAGIC) || data.readByte() != VERSION) {
+            throw new IOException("Not a binary task file");
+        }
+        int size = data.readInt();
+        if (size < 0) {
+            throw new IOException("Negative number of tasks: " + size);
+        }
+        if (taskList instanceof ArrayList) {
+            ((ArrayList<Task>) taskList).ensureCapacity(taskList.size() + Math.min(size, MAX_CAPACITY_HINT));
+        }
+        for (int i = 0; i < size; i++) {
+            byte type = data.readByte();
+            boolean isDone = data.readBoolean();
+            long dateTime = data.readLong();
+            String task = readDescription(data);
+            if (type == DEADLINE) {
+                taskList.add(new Deadlines(task, dateTime, isDone));
+            } else if (type == EVENT) {
+                taskList.add(new Events(task, dateTime, isDone));
+            } else if (type == TODO) {
+                taskList.add(new ToDos(task, isDone));
+            } else {
+                throw new IOException("Unknown type of task: " + type);
+            }
+        }
+    }
+
+    /**
+     * Reads a description and its length. The bytes are read as they come instead of allocating the length
+     * up front, so that the length in a damaged file cannot run out of memory.
+     *
+     * @throws IOException If the length is negative or the stream ends before the description does.
+     */
+    private static String readDescription(DataInputStream data) throws IOException {
+        int length = data.readInt();
+        if (length < 0) {
+            throw new IOException("Negative length of description: " + length);
+        }
+        byte[] description = data.readNBytes(length);
+        if (description.length < length) {
+            throw new EOFException("Description is cut short");
+        }
+        return new String(description, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,192 @@
+package duke.storage;
+
+import java.io.BufferedInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Enum file for the codecs a saved task file can be compressed with. Files are compressed and
+ * decompressed as a stream, so the whole file is never held in memory, and compressed files are
+ * detected from their header when loading.
+ *
+ * @author marcuspeh
+ * @version A-Compression
+ * @since 18 Oct 2026
+ */
+public enum Compression {
+    /** Saves the file as it is. */
+    NONE {
+        @Override
+        public OutputStream compress(OutputStream out) {
+            return out;
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) {
+            return in;
+        }
+
+        @Override
+        boolean matches(byte[] header) {
+            return false;
+        }
+    },
+    /** gzip, which can also be opened by other tools. */
+    GZIP {
+        @Override
+        public OutputStream compress(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) throws IOException {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+
+        @Override
+        boolean matches(byte[] header) {
+            return header[0] == (byte) 0x1f && header[1] == (byte) 0x8b;
+        }
+    },
+    /** zlib, which has a smaller header and no checksum of its own. */
+    DEFLATE {
+        @Override
+        public OutputStream compress(OutputStream out) {
+            Deflater deflater = new Deflater();
+            return new DeflaterOutputStream(out, deflater, BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        deflater.end();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) {
+            Inflater inflater = new Inflater();
+            return new InflaterInputStream(in, inflater, BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        inflater.end();
+                    }
+                }
+            };
+        }
+
+        @Override
+        boolean matches(byte[] header) {
+            int value = (header[0] & 0xff) << 8 | header[1] & 0xff;
+            return header[0] == (byte) 0x78 && value % 31 == 0;
+        }
+    };
+
+    /** Size of the buffers used while compressing. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** Number of bytes needed to detect a codec. */
+    private static final int HEADER_SIZE = 2;
+
+    /**
+     * Wraps the stream so that everything written to it is compressed.
+     *
+     * @param out Stream the compressed bytes are written to.
+     * @return stream to write to, which must be closed to finish the compression.
+     * @throws IOException If the stream cannot be written.
+     */
+    public abstract OutputStream compress(OutputStream out) throws IOException;
+
+    /**
+     * Wraps the stream so that everything read from it is decompressed.
+     *
+     * @param in Stream of compressed bytes.
+     * @return stream to read from.
+     * @throws IOException If the stream cannot be read.
+     */
+    public abstract InputStream decompress(InputStream in) throws IOException;
+
+    /**
+     * Checks if the header was written by this codec.
+     *
+     * @param header First bytes of the file.
+     * @return if the file is compressed with this codec.
+     */
+    abstract boolean matches(byte[] header);
+
+    /**
+     * Compresses the content into the stream. The stream is left open.
+     *
+     * @param out Stream the compressed bytes are written to.
+     * @param content Content to compress.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void write(OutputStream out, AtomicFileWriter.Content content) throws IOException {
+        try (OutputStream compressed = compress(new KeepOpenOutputStream(out))) {
+            content.writeTo(compressed);
+        }
+    }
+
+    /**
+     * Finds the codec of the stream from its header, without consuming it.
+     *
+     * @param in Stream that supports mark and reset.
+     * @return codec of the stream, or none if it is not compressed.
+     * @throws IOException If the stream cannot be read.
+     */
+    public static Compression detect(BufferedInputStream in) throws IOException {
+        in.mark(HEADER_SIZE);
+        byte[] header = in.readNBytes(HEADER_SIZE);
+        in.reset();
+        if (header.length == HEADER_SIZE) {
+            for (Compression compression : values()) {
+                if (compression.matches(header)) {
+                    return compression;
+                }
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Finds the codec with the given name, ignoring case.
+     *
+     * @param name Name of the codec.
+     * @return codec with the name.
+     */
+    public static Compression of(String name) {
+        return valueOf(name.toUpperCase());
+    }
+
+    /**
+     * Passes the bytes on but does not close the stream underneath, so that closing the codec
+     * only finishes the compression.
+     */
+    private static class KeepOpenOutputStream extends FilterOutputStream {
+        KeepOpenOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package duke.storage;
+
+import java.nio.ByteBuffer;
+import java.util.Calendar;
+
+/**
+ * Parses the Date / Time of a saved task straight from its bytes, without creating a String.
+ * Only the plain dd/MM/yy HHmm layout written by {@link duke.task.Task#getDateTime()} is handled,
+ * anything else is left to SimpleDateFormat so that the result is always the same.
+ * A parser is not thread-safe, each thread should use its own.
+ *
+ * @author marcuspeh
+ * @version A-MappedImport
+ * @since 18 Oct 2026
+ */
+public class DateTimeParser {
+    /** Returned if the bytes cannot be parsed. */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    /** Reused to convert the fields into milliseconds. */
+    private final Calendar calendar = Calendar.getInstance();
+    /** First year of the century two digit years are placed in, same as SimpleDateFormat. */
+    private final int centuryStartYear = calendar.get(Calendar.YEAR) - 80;
+    /** Position of the next byte to parse. */
+    private int position;
+
+    /**
+     * Parses the Date / Time between the two positions of the buffer.
+     *
+     * @param buffer Buffer containing the Date / Time.
+     * @param from Position of the first byte.
+     * @param to Position after the last byte.
+     * @return date / time in milliseconds since the epoch, or {@link #INVALID} if it cannot be parsed.
+     */
+    public long parse(ByteBuffer buffer, int from, int to) {
+        position = from;
+        int day = readNumber(buffer, to, 1, 2);
+        boolean isValid = day >= 0 && expect(buffer, to, '/');
+        int month = isValid ? readNumber(buffer, to, 1, 2) : -1;
+        isValid = month >= 0 && expect(buffer, to, '/');
+        int year = isValid ? readNumber(buffer, to, 2, 2) : -1;
+        isValid = year >= 0 && expect(buffer, to, ' ');
+        int hour = isValid ? readNumber(buffer, to, 2, 2) : -1;
+        int minute = hour >= 0 ? readNumber(buffer, to, 2, 2) : -1;
+        if (minute < 0 || position != to || year == centuryStartYear % 100) {
+            return INVALID;
+        }
+
+        int fullYear = centuryStartYear / 100 * 100 + year + (year < centuryStartYear % 100 ? 100 : 0);
+        calendar.clear();
+        calendar.set(fullYear, month - 1, day, hour, minute);
+        return calendar.getTimeInMillis();
+    }
+
+    private int readNumber(ByteBuffer buffer, int to, int minDigits, int maxDigits) {
+        int value = 0;
+        int digits = 0;
+        while (position < to && digits < maxDigits) {
+            byte b = buffer.get(position);
+            if (b < '0' || b > '9') {
+                break;
+            }
+            value = value * 10 + (b - '0');
+            digits++;
+            position++;
+        }
+        return digits < minDigits ? -1 : value;
+    }
+
+    private boolean expect(ByteBuffer buffer, int to, char c) {
+        if (position < to && buffer.get(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package duke.storage;
+
+/**
+ * Enum file for how safely a save is written to the disk, from fastest to safest.
+ *
+ * @author marcuspeh
+ * @version A-AtomicSave
+ * @since 18 Oct 2026
+ */
+public enum Durability {
+    /** Writes straight over the file. A crash while saving can leave the file half written. */
+    NONE,
+    /** Writes to a temporary file that replaces the file, so a crash of duke never leaves it half written. */
+    FLUSH,
+    /** Same as flush, and forces the file to the disk so that saves also survive a power failure. */
+    FSYNC;
+
+    /**
+     * Finds the durability with the given name, ignoring case.
+     *
+     * @param name Name of the durability.
+     * @return durability with the name.
+     */
+    public static Durability of(String name) {
+        return valueOf(name.toUpperCase());
+    }
+}
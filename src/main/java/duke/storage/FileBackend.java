@@ -0,0 +1,94 @@
+package duke.storage;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
+
+import duke.task.Task;
+import duke.util.Ui;
+
+/**
+ * Saves the tasks in a single file in the text or binary format, optionally compressed. The format and
+ * compression of the file are detected from its header when loading, so any saved file can always be loaded.
+ * The file is replaced atomically unless durability is none.
+ *
+ * @author marcuspeh
+ * @version A-Recovery
+ * @since 18 Oct 2026
+ */
+public class FileBackend implements StorageBackend {
+    /** File the tasks are saved to. */
+    protected final Path location;
+    /** To deal with the error messages. */
+    protected final Ui ui;
+    /** Format the tasks are saved in. */
+    private final SnapshotFormat format;
+    /** How safely each save is written to the disk. */
+    private final Durability durability;
+    /** Codec new files are compressed with. */
+    private final Compression compression;
+    /** Report of the last load. */
+    private RecoveryReport recoveryReport = new RecoveryReport();
+
+    /**
+     * Constructor for FileBackend.
+     *
+     * @param location File the tasks are saved to.
+     * @param format Format the tasks are saved in.
+     * @param durability How safely each save is written to the disk.
+     * @param compression Codec new files are compressed with.
+     * @param ui To deal with the error messages.
+     */
+    public FileBackend(Path location, SnapshotFormat format, Durability durability, Compression compression,
+            Ui ui) {
+        this.location = location;
+        this.format = format;
+        this.durability = durability;
+        this.compression = compression;
+        this.ui = ui;
+    }
+
+    @Override
+    public long load(List<Task> taskList) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (BufferedInputStream in = new BufferedInputStream(
+                new CheckedInputStream(new FileInputStream(location.toFile()), checksum))) {
+            boolean isPlainText = Compression.detect(in) == Compression.NONE
+                    && SnapshotFormat.detect(in) == SnapshotFormat.TEXT;
+            recoveryReport = new RecoveryReport();
+            if (!isPlainText || !readText(taskList, checksum)) {
+                recoveryReport = SnapshotFormat.readAny(in, taskList, ui);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Loads a txt file without going through the stream. Backends with a faster way to read
+     * txt files override this.
+     *
+     * @param taskList List to add the tasks to.
+     * @param checksum Checksum to be updated with all the bytes of the file instead of the stream.
+     * @return if the file was read, or false to read the stream.
+     * @throws IOException If the file cannot be read.
+     */
+    protected boolean readText(List<Task> taskList, Checksum checksum) throws IOException {
+        return false;
+    }
+
+    @Override
+    public RecoveryReport getRecoveryReport() {
+        return recoveryReport;
+    }
+
+    @Override
+    public long save(List<Task> taskList) throws IOException {
+        return AtomicFileWriter.write(location, durability,
+                out -> compression.write(out, compressed -> format.write(compressed, taskList)));
+    }
+}
@@ -0,0 +1,107 @@
+package duke.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a single file for changes made outside of duke, e.g. by a program syncing it between machines.
+ * The directory of the file is watched with a {@link WatchService}, and the events of a single save are
+ * let to settle before the listener is run once on a background thread.
+ * The listener also runs for duke's own saves, so it must tell them apart by the content of the file.
+ *
+ * @author marcuspeh
+ * @version A-HotReload
+ * @since 18 Oct 2026
+ */
+public class FileWatcher implements Closeable {
+    /** Milliseconds without a new event before the file is considered saved. */
+    private static final long SETTLE_INTERVAL = 100;
+
+    /** File to watch. */
+    private final Path file;
+    /** Runs after the file changed. */
+    private final Runnable listener;
+    /** Watches the directory of the file, null until started. */
+    private WatchService watchService;
+
+    /**
+     * Constructor for FileWatcher.
+     *
+     * @param file File to watch.
+     * @param listener Runs after the file changed.
+     */
+    public FileWatcher(Path file, Runnable listener) {
+        this.file = file.toAbsolutePath();
+        this.listener = listener;
+    }
+
+    /**
+     * Starts watching the file in the background. The directory is created if it does not exist yet.
+     *
+     * @throws IOException If the directory cannot be watched.
+     */
+    public void start() throws IOException {
+        Path directory = file.getParent();
+        Files.createDirectories(directory);
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        Thread thread = new Thread(this::watch, "duke-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                boolean isChanged = hasChanged(watchService.take());
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_INTERVAL, TimeUnit.MILLISECONDS)) != null) {
+                    isChanged |= hasChanged(key);
+                }
+                if (isChanged) {
+                    listener.run();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // The watcher was closed.
+        }
+    }
+
+    /**
+     * Checks if any event of the key is about the watched file, and resets the key for the next events.
+     *
+     * @param key Key with the events of the directory.
+     * @return if the file may have changed.
+     */
+    private boolean hasChanged(WatchKey key) {
+        boolean isChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isChanged |= event.kind() == OVERFLOW || file.getFileName().equals(event.context());
+        }
+        key.reset();
+        return isChanged;
+    }
+
+    /**
+     * Stops watching the file.
+     *
+     * @throws IOException If the watch service cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+}
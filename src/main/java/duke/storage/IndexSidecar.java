@@ -0,0 +1,105 @@
+package duke.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntUnaryOperator;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import duke.index.TokenIndex;
+
+/**
+ * Saves the search index next to the task file as duke.txt.index, so that it does not have to be
+ * rebuilt on every start. Format is as follow: the magic header, the version, the generation and the
+ * checksum of the task file the index was built from, the index itself and the checksum of everything
+ * before it. The generation is the time the task file was last modified.
+ * An index is only read back if its version, generation and checksums all match, otherwise it is stale.
+ *
+ * @author marcuspeh
+ * @version A-SearchIndex
+ * @since 18 Oct 2026
+ */
+public class IndexSidecar {
+    /** Magic header at the start of every index file. */
+    private static final int MAGIC = 0x44494458;
+    /** Version of the index format, changed whenever the index is written differently. */
+    private static final int VERSION = 3;
+
+    /** Index file. */
+    private final Path location;
+    /** Task file the index is built from. */
+    private final Path dataLocation;
+
+    /**
+     * Constructor for IndexSidecar.
+     *
+     * @param dataLocation Task file the index is built from.
+     */
+    public IndexSidecar(Path dataLocation) {
+        this.dataLocation = dataLocation;
+        this.location = dataLocation.resolveSibling(dataLocation.getFileName() + ".index");
+    }
+
+    /**
+     * Reads the index if it was built from the task file as it is now.
+     *
+     * @param dataChecksum Checksum of the task file.
+     * @param idAtPosition Finds the id of the task at each position of the loaded list.
+     * @return the index, or null if it is missing, damaged or stale.
+     */
+    public TokenIndex read(long dataChecksum, IntUnaryOperator idAtPosition) {
+        if (!Files.exists(location) || !Files.exists(dataLocation)) {
+            return null;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(location);
+            int bodyLength = bytes.length - Long.BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, Math.max(0, bodyLength));
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            boolean isCurrent = bodyLength > 0
+                    && ByteBuffer.wrap(bytes, bodyLength, Long.BYTES).getLong() == crc.getValue()
+                    && in.readInt() == MAGIC
+                    && in.readInt() == VERSION
+                    && in.readLong() == generation()
+                    && in.readLong() == dataChecksum;
+            return isCurrent ? TokenIndex.readFrom(in, idAtPosition) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the index of the task file as it is now.
+     *
+     * @param index Index of the tasks in the task file.
+     * @param dataChecksum Checksum of the task file.
+     * @param positionOfId Finds the position of the task with each id.
+     * @throws IOException If the index cannot be written.
+     */
+    public void write(TokenIndex index, long dataChecksum, IntUnaryOperator positionOfId) throws IOException {
+        long generation = generation();
+        AtomicFileWriter.write(location, Durability.FLUSH, out -> {
+            CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(checked));
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeLong(generation);
+            data.writeLong(dataChecksum);
+            index.writeTo(data, positionOfId);
+            data.flush();
+            data.writeLong(checked.getChecksum().getValue());
+            data.flush();
+        });
+    }
+
+    private long generation() throws IOException {
+        return Files.getLastModifiedTime(dataLocation).toMillis();
+    }
+}
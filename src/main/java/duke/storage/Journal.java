@@ -0,0 +1,341 @@
+package duke.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import duke.task.Task;
+
+/**
+ * Append-only log of the changes made to the task list since the last snapshot.
+ * Every change is saved as a single line, so saving no longer rewrites all the tasks.
+ * Format is as follow: add | {@literal <}Saved task{@literal >}, done | {@literal <}Index{@literal >}
+ * or delete | {@literal <}Index{@literal >}, each starting with its checksum so that a record torn by a crash
+ * is found instead of mis-applied. As the records refer to the tasks by their index, replaying stops at such
+ * a record. How safely each change reaches the disk depends on the durability.
+ *
+ * <p>When the journal is compacted, it is sealed with the checksum of the snapshot it applies to and
+ * moved aside as the pending journal. A pending journal is only replayed if the snapshot on disk still
+ * has that checksum, so a crash at any point of the compaction neither loses nor repeats a change.
+ *
+ * @author marcuspeh
+ * @version A-CompactTasks
+ * @since 18 Oct 2026
+ */
+public class Journal implements Closeable {
+    /** Record for a task added to the end of the list. */
+    private static final String ADD = "add";
+    /** Record for a task marked as done. */
+    private static final String DONE = "done";
+    /** Record for a task removed from the list. */
+    private static final String DELETE = "delete";
+    /** Record sealing the journal with the checksum of the snapshot it applies to. */
+    private static final String BASE = "base";
+
+    /** Journal receiving the new changes. */
+    private final Path activeFile;
+    /** Sealed journal waiting to be compacted into the snapshot. */
+    private final Path pendingFile;
+    /** How safely each change is written to the disk. */
+    private final Durability durability;
+    /** Stream of the active journal, opened on the first change. */
+    private FileOutputStream stream;
+    /** Writer for the active journal, opened on the first change. */
+    private BufferedWriter writer;
+    /** Size of the active journal in bytes. */
+    private long size;
+    /** Whether the last replay stopped at a record it could not apply. */
+    private boolean isDamaged;
+
+    /**
+     * Constructor for Journal.
+     *
+     * @param snapshot File containing the snapshot the journal applies to.
+     * @param durability How safely each change is written to the disk.
+     */
+    public Journal(Path snapshot, Durability durability) {
+        this.durability = durability;
+        String fileName = snapshot.getFileName().toString();
+        activeFile = snapshot.resolveSibling(fileName + ".journal");
+        pendingFile = snapshot.resolveSibling(fileName + ".journal.pending");
+    }
+
+    /**
+     * Checks if there are changes that are not in the snapshot yet.
+     *
+     * @return if any journal exists.
+     */
+    public boolean exists() {
+        return Files.exists(activeFile) || Files.exists(pendingFile);
+    }
+
+    /**
+     * Checks if a sealed journal is still waiting to be compacted.
+     *
+     * @return if the pending journal exists.
+     */
+    public boolean hasPending() {
+        return Files.exists(pendingFile);
+    }
+
+    /**
+     * Applies the changes in the pending journal and then the active journal to the tasks loaded from
+     * the snapshot. Replaying stops at the first record that cannot be applied, such as a record torn by
+     * a crash, as the records after it refer to the tasks by their index and would be applied to the wrong ones.
+     * The caller must then compact the journal before appending to it, see {@link #isDamaged()}, as the records
+     * appended after the damaged one would be dropped by the next replay.
+     *
+     * @param taskList Tasks loaded from the snapshot.
+     * @param snapshotChecksum Checksum of the snapshot the tasks were loaded from.
+     * @return number of changes applied.
+     * @throws IOException If a journal cannot be read.
+     */
+    public int replay(List<Task> taskList, long snapshotChecksum) throws IOException {
+        List<String> records = read(pendingFile, snapshotChecksum);
+        records.addAll(read(activeFile, snapshotChecksum));
+        int applied = apply(records, taskList);
+        isDamaged = applied < records.size();
+        return applied;
+    }
+
+    /**
+     * Checks if the last replay stopped before the end of the journal.
+     *
+     * @return if a record could not be applied.
+     */
+    public boolean isDamaged() {
+        return isDamaged;
+    }
+
+    /**
+     * Applies only the changes in the pending journal to the tasks loaded from the snapshot, so that a
+     * compaction that failed can be redone while new changes go into the active journal.
+     *
+     * @param taskList Tasks loaded from the snapshot.
+     * @param snapshotChecksum Checksum of the snapshot the tasks were loaded from.
+     * @return number of changes applied.
+     * @throws IOException If the pending journal cannot be read.
+     */
+    public int replayPending(List<Task> taskList, long snapshotChecksum) throws IOException {
+        return apply(read(pendingFile, snapshotChecksum), taskList);
+    }
+
+    /**
+     * Reads the records of a journal without its seal.
+     *
+     * @return records of the journal, or none if it is sealed for another snapshot.
+     */
+    private List<String> read(Path file, long snapshotChecksum) throws IOException {
+        if (!Files.exists(file)) {
+            return new ArrayList<>();
+        }
+        List<String> records;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))) {
+            records = reader.lines().collect(Collectors.toCollection(ArrayList::new));
+        }
+        if (!records.isEmpty()) {
+            String last = TextTaskFormat.stripChecksum(records.get(records.size() - 1));
+            String[] seal = TextTaskFormat.split(last == null ? "" : last);
+            if (seal.length == 2 && seal[0].equals(BASE)) {
+                if (!seal[1].equals(String.valueOf(snapshotChecksum))) {
+                    return new ArrayList<>();
+                }
+                records.remove(records.size() - 1);
+            }
+        }
+        return records;
+    }
+
+    private int apply(List<String> records, List<Task> taskList) {
+        int applied = 0;
+        while (applied < records.size() && apply(records.get(applied), taskList)) {
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * Applies a single record to the task list.
+     *
+     * @param line Record from the journal, with or without its checksum.
+     * @param taskList Tasks to apply the record to.
+     * @return if the record is applied.
+     */
+    private boolean apply(String line, List<Task> taskList) {
+        String record = TextTaskFormat.stripChecksum(line);
+        int split = record == null ? -1 : record.indexOf(TextTaskFormat.SEPARATOR);
+        if (split < 0) {
+            return false;
+        }
+        String operation = record.substring(0, split);
+        String value = record.substring(split + TextTaskFormat.SEPARATOR.length());
+        try {
+            if (operation.equals(ADD)) {
+                Task task = TextTaskFormat.toTask(value);
+                return task != null && taskList.add(task);
+            } else if (operation.equals(DONE)) {
+                int index = Integer.parseInt(value);
+                Task task = taskList.get(index);
+                task.markDone();
+                taskList.set(index, task);
+                return true;
+            } else if (operation.equals(DELETE)) {
+                taskList.remove(Integer.parseInt(value));
+                return true;
+            }
+        } catch (ParseException | IndexOutOfBoundsException | NumberFormatException e) {
+            return false;
+        }
+        return false;
+    }
+
+    /**
+     * Saves a task added to the end of the list.
+     *
+     * @param task Task that is added.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void appendAdd(Task task) throws IOException {
+        append(ADD, task.saveOutput());
+    }
+
+    /**
+     * Saves a task marked as done.
+     *
+     * @param index Index of the task in the list, starting from 0.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void appendDone(int index) throws IOException {
+        append(DONE, String.valueOf(index));
+    }
+
+    /**
+     * Saves a task removed from the list.
+     *
+     * @param index Index of the task in the list, starting from 0.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void appendDelete(int index) throws IOException {
+        append(DELETE, String.valueOf(index));
+    }
+
+    /**
+     * Saves tasks marked as done at once, flushing the journal once for all of them.
+     *
+     * @param indexes Indexes of the tasks in the list, starting from 0.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void appendDone(int[] indexes) throws IOException {
+        append(DONE, Arrays.stream(indexes).mapToObj(String::valueOf).toArray(String[]::new));
+    }
+
+    /**
+     * Saves tasks removed from the list at once, flushing the journal once for all of them. The tasks are
+     * recorded from the last one, so that each record still has the index of its task when it is replayed.
+     *
+     * @param indexes Indexes of the tasks before they were removed, starting from 0, in ascending order.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void appendDelete(int[] indexes) throws IOException {
+        String[] values = new String[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            values[i] = String.valueOf(indexes[indexes.length - 1 - i]);
+        }
+        append(DELETE, values);
+    }
+
+    private void append(String operation, String... values) throws IOException {
+        if (writer == null) {
+            open();
+        }
+        for (String value : values) {
+            String record = TextTaskFormat.withChecksum(operation + TextTaskFormat.SEPARATOR + value);
+            writer.write(record);
+            writer.newLine();
+            size += record.getBytes(StandardCharsets.UTF_8).length + System.lineSeparator().length();
+        }
+        if (durability != Durability.NONE) {
+            writer.flush();
+        }
+        if (durability == Durability.FSYNC) {
+            stream.getChannel().force(false);
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(activeFile.toAbsolutePath().getParent());
+        stream = new FileOutputStream(activeFile.toFile(), true);
+        writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+        size = Files.size(activeFile);
+    }
+
+    /**
+     * Seals the active journal and moves it aside as the pending journal, so that new changes go into
+     * a fresh journal while the pending one is compacted.
+     *
+     * @param snapshotChecksum Checksum of the snapshot the active journal applies to.
+     * @throws IOException If the journal cannot be sealed or moved.
+     */
+    public void rotate(long snapshotChecksum) throws IOException {
+        append(BASE, String.valueOf(snapshotChecksum));
+        close();
+        Files.move(activeFile, pendingFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Deletes the pending journal once it is part of the snapshot.
+     *
+     * @throws IOException If the pending journal cannot be deleted.
+     */
+    public void discardPending() throws IOException {
+        Files.deleteIfExists(pendingFile);
+    }
+
+    /**
+     * Deletes every journal once all the changes are part of the snapshot.
+     *
+     * @throws IOException If a journal cannot be deleted.
+     */
+    public void discardAll() throws IOException {
+        close();
+        Files.deleteIfExists(activeFile);
+        discardPending();
+    }
+
+    /**
+     * Returns the size of the active journal.
+     *
+     * @return size in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.flush();
+            if (durability == Durability.FSYNC) {
+                stream.getChannel().force(false);
+            }
+            writer.close();
+            writer = null;
+            stream = null;
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,54 @@
+package duke.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.function.Supplier;
+
+/**
+ * Description of a task that stays in the loaded txt file until it is first needed.
+ * Only the position of the description is kept, so tasks that are never listed or searched
+ * cost no String at all.
+ *
+ * @author marcuspeh
+ * @version A-LazyLoad
+ * @since 18 Oct 2026
+ */
+class LazyDescription implements Supplier<String> {
+    /** Charset the txt file is written in. */
+    private static final Charset CHARSET = Charset.defaultCharset();
+
+    /** Part of the txt file containing the description. */
+    private final ByteBuffer buffer;
+    /** Position of the description in the buffer. */
+    private final int offset;
+    /** Length of the description in bytes. */
+    private final int length;
+
+    /**
+     * Constructor for LazyDescription.
+     *
+     * @param buffer Part of the txt file containing the description, shared by all the tasks in it.
+     * @param offset Position of the description in the buffer.
+     * @param length Length of the description in bytes.
+     */
+    LazyDescription(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Decodes the description. Only absolute reads are used, so descriptions sharing
+     * a buffer can be decoded from several threads.
+     *
+     * @return description of the task.
+     */
+    @Override
+    public String get() {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, CHARSET);
+    }
+}
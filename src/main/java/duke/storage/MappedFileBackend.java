@@ -0,0 +1,62 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.Checksum;
+
+import duke.task.Task;
+import duke.util.Ui;
+
+/**
+ * Saves the tasks in a txt file and loads it by mapping it into memory, optionally on all the cores
+ * or with the descriptions only loaded when they are first needed. The lazy descriptions are read from a copy
+ * of the file if a save without durability or an edit outside of duke may rewrite the file in place.
+ *
+ * @author marcuspeh
+ * @version A-Compression
+ * @since 18 Oct 2026
+ */
+public class MappedFileBackend extends FileBackend {
+    /** Whether the file is loaded on all the cores. */
+    private final boolean isParallel;
+    /** Whether the descriptions are only loaded when they are first needed. */
+    private final boolean isLazy;
+    /** Whether the file may be rewritten in place while its tasks are in memory. */
+    private final boolean isRewrittenInPlace;
+
+    /**
+     * Constructor for MappedFileBackend.
+     *
+     * @param location File the tasks are saved to.
+     * @param durability How safely each save is written to the disk.
+     * @param compression Codec new files are compressed with. Compressed files are read as a stream.
+     * @param ui To deal with the error messages.
+     * @param isParallel Whether the file is loaded on all the cores.
+     * @param isLazy Whether the descriptions are only loaded when they are first needed.
+     * @param isWatched Whether the file is watched for changes made outside of duke.
+     */
+    public MappedFileBackend(Path location, Durability durability, Compression compression, Ui ui,
+            boolean isParallel, boolean isLazy, boolean isWatched) {
+        super(location, SnapshotFormat.TEXT, durability, compression, ui);
+        this.isParallel = isParallel;
+        this.isLazy = isLazy;
+        this.isRewrittenInPlace = durability == Durability.NONE || isWatched;
+    }
+
+    @Override
+    protected boolean readText(List<Task> taskList, Checksum checksum) throws IOException {
+        if (!MappedTaskReader.isSupported()) {
+            return false;
+        }
+        checksum.reset();
+        if (isLazy) {
+            new MappedTaskReader(ui, true, isRewrittenInPlace).read(location, taskList, checksum);
+        } else if (isParallel) {
+            new ParallelTaskReader(ui).read(location, taskList, checksum);
+        } else {
+            new MappedTaskReader(ui).read(location, taskList, checksum);
+        }
+        return true;
+    }
+}
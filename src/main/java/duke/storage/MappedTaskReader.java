@@ -0,0 +1,300 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Checksum;
+
+import duke.task.Deadlines;
+import duke.task.Events;
+import duke.task.Task;
+import duke.task.ToDos;
+import duke.util.Keyword;
+import duke.util.Ui;
+
+/**
+ * Loads the txt file by mapping it into memory and scanning for the separators by hand.
+ * Only the description String and the Date / Time in milliseconds are created for each task,
+ * which keeps loading large files fast and light on garbage. Lines that the scan does not
+ * understand, including lines with a checksum, are handed to {@link TextTaskFormat}, so the result
+ * is the same as the normal reader.
+ *
+ * <p>In lazy mode, not even the description is created. Each task only keeps where its description is in
+ * the file, and the description is decoded when the task is first listed, searched or saved. The file stays
+ * mapped while its tasks are in memory. It is copied into memory instead if it may be rewritten in place while
+ * its tasks are in memory, as reading a mapping of a file cut short fails, and on Windows, where a mapped file
+ * cannot be replaced when saving.
+ *
+ * @author marcuspeh
+ * @version A-LazyLoad
+ * @since 18 Oct 2026
+ */
+public class MappedTaskReader {
+    /** Largest part of the file that is mapped at once. */
+    private static final long MAX_WINDOW = Integer.MAX_VALUE;
+    /** Most fields a saved task can have. */
+    private static final int MAX_FIELDS = 4;
+    /** Type of a deadline task. */
+    private static final byte DEADLINE = (byte) Keyword.DEADLINE.getSaveWord().charAt(0);
+    /** Type of an event task. */
+    private static final byte EVENT = (byte) Keyword.EVENTS.getSaveWord().charAt(0);
+    /** Type of a todo task. */
+    private static final byte TODO = (byte) Keyword.TODOS.getSaveWord().charAt(0);
+
+    /** To deal with the error messages. */
+    private final Ui ui;
+    /** Charset the txt file is written in. */
+    private final Charset charset = Charset.defaultCharset();
+    /** Parses the Date / Time of the tasks. */
+    private final DateTimeParser dateTimeParser = new DateTimeParser();
+    /** Start of each field of the current line. */
+    private final int[] fieldStarts = new int[MAX_FIELDS + 1];
+    /** End of each field of the current line. */
+    private final int[] fieldEnds = new int[MAX_FIELDS + 1];
+    /** Reused to copy the bytes of a description out of the mapped file. */
+    private byte[] bytes = new byte[256];
+    /** Size of the part of the file that is mapped at once. */
+    private final long windowSize;
+    /** Whether the descriptions are only decoded when they are first needed. */
+    private final boolean isLazy;
+    /** Whether the file is copied into memory instead of mapped in lazy mode. */
+    private final boolean isCopied;
+
+    /**
+     * Constructor for MappedTaskReader.
+     *
+     * @param ui To deal with the error messages.
+     */
+    public MappedTaskReader(Ui ui) {
+        this(ui, false);
+    }
+
+    /**
+     * Constructor for MappedTaskReader.
+     *
+     * @param ui To deal with the error messages.
+     * @param isLazy Whether the descriptions are only decoded when they are first needed.
+     */
+    public MappedTaskReader(Ui ui, boolean isLazy) {
+        this(ui, isLazy, false);
+    }
+
+    /**
+     * Constructor for MappedTaskReader.
+     *
+     * @param ui To deal with the error messages.
+     * @param isLazy Whether the descriptions are only decoded when they are first needed.
+     * @param isCopied Whether the file is copied into memory instead of mapped in lazy mode, because it may be
+     *     rewritten in place while the tasks are in memory.
+     */
+    public MappedTaskReader(Ui ui, boolean isLazy, boolean isCopied) {
+        this(ui, MAX_WINDOW, isLazy, isCopied || isWindows());
+    }
+
+    /**
+     * Constructor for MappedTaskReader.
+     *
+     * @param ui To deal with the error messages.
+     * @param windowSize Size of the part of the file that is mapped at once.
+     * @param isLazy Whether the descriptions are only decoded when they are first needed.
+     * @param isCopied Whether the file is copied into memory instead of mapped in lazy mode.
+     */
+    MappedTaskReader(Ui ui, long windowSize, boolean isLazy, boolean isCopied) {
+        this.ui = ui;
+        this.windowSize = windowSize;
+        this.isLazy = isLazy;
+        this.isCopied = isCopied;
+    }
+
+    /**
+     * Checks if the separators of the txt file can be found byte by byte in the default charset.
+     *
+     * @return if the txt file can be mapped.
+     */
+    public static boolean isSupported() {
+        String sample = "T | 0\r\n";
+        return Arrays.equals(sample.getBytes(Charset.defaultCharset()), sample.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Loads the tasks in the txt file into the task list.
+     *
+     * @param file txt file to load.
+     * @param taskList List to add the tasks to.
+     * @param checksum Checksum updated with the bytes of the file, or null.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public void read(Path file, List<Task> taskList, Checksum checksum) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(size - position, windowSize);
+                ByteBuffer buffer = isLazy && isCopied
+                        ? copy(channel, position, (int) length)
+                        : channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int consumed = readLines(buffer, position + length == size, taskList);
+                if (consumed == 0) {
+                    throw new IOException("Line is longer than the mapped window");
+                }
+                if (checksum != null) {
+                    ByteBuffer read = buffer.duplicate();
+                    read.limit(consumed);
+                    checksum.update(read);
+                }
+                position += consumed;
+            }
+        }
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name", "").startsWith("Windows");
+    }
+
+    private static ByteBuffer copy(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Loads every complete line in the buffer.
+     *
+     * @param buffer Part of the file.
+     * @param isLast Whether the buffer ends at the end of the file.
+     * @param taskList List to add the tasks to.
+     * @return number of bytes read, which ends at the start of the first incomplete line.
+     */
+    int readLines(ByteBuffer buffer, boolean isLast, List<Task> taskList) {
+        int limit = buffer.limit();
+        int lineStart = 0;
+        for (int i = 0; i < limit; i++) {
+            byte b = buffer.get(i);
+            if (b == '\n' || b == '\r') {
+                readLine(buffer, lineStart, i, taskList);
+                if (b == '\r' && i + 1 < limit && buffer.get(i + 1) == '\n') {
+                    i++;
+                }
+                lineStart = i + 1;
+            }
+        }
+        if (isLast && lineStart < limit) {
+            readLine(buffer, lineStart, limit, taskList);
+            lineStart = limit;
+        }
+        return lineStart;
+    }
+
+    /**
+     * Loads a single line.
+     *
+     * @param buffer Buffer containing the line.
+     * @param start Position of the start of the line.
+     * @param end Position after the end of the line.
+     * @param taskList List to add the task to.
+     */
+    void readLine(ByteBuffer buffer, int start, int end, List<Task> taskList) {
+        int fields = 0;
+        int fieldStart = start;
+        int i = start;
+        while (i + 2 < end && fields < MAX_FIELDS) {
+            if (buffer.get(i) == ' ' && buffer.get(i + 1) == '|' && buffer.get(i + 2) == ' ') {
+                fieldStarts[fields] = fieldStart;
+                fieldEnds[fields] = i;
+                fields++;
+                i += 3;
+                fieldStart = i;
+            } else {
+                i++;
+            }
+        }
+        fieldStarts[fields] = fieldStart;
+        fieldEnds[fields] = end;
+        fields++;
+
+        for (int field = 0; field < fields; field++) {
+            if (fieldStarts[field] == fieldEnds[field]) {
+                readSlowly(buffer, start, end, taskList);
+                return;
+            }
+        }
+        if (fields > MAX_FIELDS) {
+            readSlowly(buffer, start, end, taskList);
+            return;
+        } else if (fieldEnds[0] - fieldStarts[0] != 1) {
+            readSlowly(buffer, start, end, taskList);
+            return;
+        } else if (fields < 3) {
+            return;
+        }
+
+        byte type = buffer.get(fieldStarts[0]);
+        boolean isDone = fieldEnds[2] - fieldStarts[2] == 1 && buffer.get(fieldStarts[2]) == '1';
+        if (type == TODO) {
+            taskList.add(newTask(type, buffer, 0, isDone));
+        } else if (fields == 4 && (type == DEADLINE || type == EVENT)) {
+            long dateTime = dateTimeParser.parse(buffer, fieldStarts[3], fieldEnds[3]);
+            if (dateTime == DateTimeParser.INVALID) {
+                readSlowly(buffer, start, end, taskList);
+            } else {
+                taskList.add(newTask(type, buffer, dateTime, isDone));
+            }
+        }
+    }
+
+    /**
+     * Creates the task of the current line, with its description decoded now or when it is first needed.
+     */
+    private Task newTask(byte type, ByteBuffer buffer, long dateTime, boolean isDone) {
+        if (isLazy) {
+            LazyDescription task = new LazyDescription(buffer, fieldStarts[1], fieldEnds[1] - fieldStarts[1]);
+            if (type == TODO) {
+                return new ToDos(task, isDone);
+            }
+            return type == DEADLINE ? new Deadlines(task, dateTime, isDone) : new Events(task, dateTime, isDone);
+        }
+        String task = decode(buffer, fieldStarts[1], fieldEnds[1]);
+        if (type == TODO) {
+            return new ToDos(task, isDone);
+        }
+        return type == DEADLINE ? new Deadlines(task, dateTime, isDone) : new Events(task, dateTime, isDone);
+    }
+
+    /**
+     * Loads a line that the scan does not understand with the normal reader.
+     */
+    private void readSlowly(ByteBuffer buffer, int start, int end, List<Task> taskList) {
+        String line = decode(buffer, start, end);
+        try {
+            Task task = TextTaskFormat.toTask(line);
+            if (task != null) {
+                taskList.add(task);
+            }
+        } catch (ParseException e) {
+            ui.formatImportTaskErrorMessage(TextTaskFormat.split(TextTaskFormat.stripChecksum(line))[1]);
+        }
+    }
+
+    private String decode(ByteBuffer buffer, int start, int end) {
+        int length = end - start;
+        if (bytes.length < length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, 0, length, charset);
+    }
+}
@@ -0,0 +1,55 @@
+package duke.storage;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.task.Deadlines;
+import duke.task.Events;
+import duke.task.Task;
+import duke.task.ToDos;
+
+/**
+ * Keeps the saved tasks in memory only, so that the task list can be used and benchmarked without disk I/O.
+ * The tasks are copied when they are saved and again when they are loaded, so the saved list stays as it was
+ * saved, the same as a file, even if a task is changed in place afterwards, e.g. by the journal replay.
+ * Nothing is kept once duke exits.
+ *
+ * @author marcuspeh
+ * @version A-StorageBackend
+ * @since 18 Oct 2026
+ */
+public class MemoryBackend implements StorageBackend {
+    /** Tasks saved last, null if nothing has been saved yet. */
+    private List<Task> savedList;
+
+    @Override
+    public synchronized long load(List<Task> taskList) throws FileNotFoundException {
+        if (savedList == null) {
+            throw new FileNotFoundException("No tasks saved in memory");
+        }
+        savedList.forEach(task -> taskList.add(copyOf(task)));
+        return 0;
+    }
+
+    @Override
+    public synchronized long save(List<Task> taskList) {
+        List<Task> copies = new ArrayList<>(taskList.size());
+        taskList.forEach(task -> copies.add(copyOf(task)));
+        savedList = copies;
+        return 0;
+    }
+
+    /**
+     * Copies the fields of the task into a new task without an id, as a task read from a file would be.
+     */
+    private static Task copyOf(Task task) {
+        if (task instanceof Deadlines) {
+            return new Deadlines(task.getTask(), task.getDateTimeMillis(), task.getIsDone());
+        } else if (task instanceof Events) {
+            return new Events(task.getTask(), task.getDateTimeMillis(), task.getIsDone());
+        } else {
+            return new ToDos(task.getTask(), task.getIsDone());
+        }
+    }
+}
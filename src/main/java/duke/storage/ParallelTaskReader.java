@@ -0,0 +1,181 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.zip.Checksum;
+
+import duke.task.Task;
+import duke.util.Ui;
+
+/**
+ * Loads the txt file on all the cores. The file is split into chunks that end on a line break,
+ * each chunk is mapped and read by its own {@link MappedTaskReader} in a fork-join pool, and the
+ * chunks are joined back in their original order so the task numbers stay the same.
+ *
+ * @author marcuspeh
+ * @version A-ParallelImport
+ * @since 18 Oct 2026
+ */
+public class ParallelTaskReader {
+    /** Smallest chunk worth reading on its own thread. */
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    /** Largest chunk, so that a chunk can always be mapped at once. */
+    private static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE / 2;
+    /** Chunks for each thread, so that threads that finish early can help with the rest. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /** To deal with the error messages. */
+    private final Ui ui;
+    /** Pool the chunks are read in. */
+    private final ForkJoinPool pool;
+    /** Smallest chunk worth reading on its own thread. */
+    private final long minChunkSize;
+
+    /**
+     * Constructor for ParallelTaskReader.
+     *
+     * @param ui To deal with the error messages.
+     */
+    public ParallelTaskReader(Ui ui) {
+        this(ui, ForkJoinPool.commonPool(), MIN_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor for ParallelTaskReader.
+     *
+     * @param ui To deal with the error messages.
+     * @param pool Pool the chunks are read in.
+     * @param minChunkSize Smallest chunk worth reading on its own thread.
+     */
+    ParallelTaskReader(Ui ui, ForkJoinPool pool, long minChunkSize) {
+        this.ui = ui;
+        this.pool = pool;
+        this.minChunkSize = minChunkSize;
+    }
+
+    /**
+     * Loads the tasks in the txt file into the task list, in the same order as the file.
+     *
+     * @param file txt file to load.
+     * @param taskList List to add the tasks to.
+     * @param checksum Checksum updated with the bytes of the file, or null.
+     * @throws IOException If the file cannot be read.
+     */
+    public void read(Path file, List<Task> taskList, Checksum checksum) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = splitIntoChunks(channel);
+            int chunks = bounds.length - 1;
+            if (chunks == 0) {
+                return;
+            }
+            List<List<Task>> results = new ArrayList<>(Collections.nCopies(chunks, null));
+            ForkJoinTask<Void> reading = pool.submit(new ChunkTask(channel, bounds, 0, chunks, results));
+            if (checksum != null) {
+                for (int i = 0; i < chunks; i++) {
+                    checksum.update(map(channel, bounds, i));
+                }
+            }
+            reading.join();
+
+            int size = results.stream().mapToInt(List::size).sum();
+            if (taskList instanceof ArrayList) {
+                ((ArrayList<Task>) taskList).ensureCapacity(taskList.size() + size);
+            }
+            results.forEach(taskList::addAll);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Finds where each chunk starts. Every chunk except the last ends right after a line break.
+     *
+     * @param channel Channel of the txt file.
+     * @return start of each chunk, followed by the size of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    long[] splitIntoChunks(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long chunkSize = size / ((long) pool.getParallelism() * CHUNKS_PER_THREAD) + 1;
+        chunkSize = Math.min(Math.max(chunkSize, minChunkSize), MAX_CHUNK_SIZE);
+
+        List<Long> bounds = new ArrayList<>();
+        long start = 0;
+        while (start < size) {
+            bounds.add(start);
+            start = nextLineStart(channel, start + chunkSize, size);
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static ByteBuffer map(FileChannel channel, long[] bounds, int chunk) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, bounds[chunk], bounds[chunk + 1] - bounds[chunk]);
+    }
+
+    private long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Reads a range of chunks, splitting the range until a single chunk is left.
+     * It is serializable only because every ForkJoinTask is, and it is never serialized, as it holds the channel.
+     */
+    @SuppressWarnings("serial")
+    private class ChunkTask extends RecursiveAction {
+        private final FileChannel channel;
+        private final long[] bounds;
+        private final int from;
+        private final int to;
+        private final List<List<Task>> results;
+
+        ChunkTask(FileChannel channel, long[] bounds, int from, int to, List<List<Task>> results) {
+            this.channel = channel;
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(channel, bounds, from, middle, results),
+                        new ChunkTask(channel, bounds, middle, to, results));
+                return;
+            }
+            try {
+                List<Task> taskList = new ArrayList<>();
+                new MappedTaskReader(ui).readLines(map(channel, bounds, from), true, taskList);
+                results.set(from, taskList);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
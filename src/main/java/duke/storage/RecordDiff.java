@@ -0,0 +1,103 @@
+package duke.storage;
+
+import java.util.List;
+
+/**
+ * Difference between two versions of the saved records, as the single range of records that changed.
+ * The range is found by skipping the records both versions start and end with, which is cheap and
+ * exact for the usual edit of a few nearby records.
+ *
+ * @author marcuspeh
+ * @version A-HotReload
+ * @since 18 Oct 2026
+ */
+public class RecordDiff {
+    /** Index of the first record that changed. */
+    private final int from;
+    /** Number of records of the old version replaced, starting from the first change. */
+    private final int removedCount;
+    /** Number of records of the new version that replace them. */
+    private final int addedCount;
+
+    private RecordDiff(int from, int removedCount, int addedCount) {
+        this.from = from;
+        this.removedCount = removedCount;
+        this.addedCount = addedCount;
+    }
+
+    /**
+     * Finds the records that changed between the two versions.
+     *
+     * @param before Old version of the records.
+     * @param after New version of the records.
+     * @return range of records that changed.
+     */
+    public static RecordDiff between(List<String> before, List<String> after) {
+        int shorter = Math.min(before.size(), after.size());
+        int from = 0;
+        while (from < shorter && before.get(from).equals(after.get(from))) {
+            from++;
+        }
+        int sameEnd = 0;
+        while (sameEnd < shorter - from
+                && before.get(before.size() - 1 - sameEnd).equals(after.get(after.size() - 1 - sameEnd))) {
+            sameEnd++;
+        }
+        return new RecordDiff(from, before.size() - from - sameEnd, after.size() - from - sameEnd);
+    }
+
+    /**
+     * Checks if both versions have the same records.
+     *
+     * @return if no record changed.
+     */
+    public boolean isEmpty() {
+        return removedCount == 0 && addedCount == 0;
+    }
+
+    /**
+     * Checks if both differences change the same records of the old version, or add records at the same place.
+     *
+     * @param other Another difference from the same old version.
+     * @return if the differences cannot both be applied.
+     */
+    public boolean overlaps(RecordDiff other) {
+        return from == other.from
+                || from < other.from + other.removedCount && other.from < from + removedCount;
+    }
+
+    /**
+     * Replaces the changed range of the list with the new items.
+     *
+     * @param list List in the old version.
+     * @param replacement Items replacing the changed range.
+     * @param shift Number of items added before the range since the old version, e.g. by another difference.
+     * @param <T> Type of the items.
+     */
+    public <T> void apply(List<T> list, List<T> replacement, int shift) {
+        List<T> range = list.subList(from + shift, from + shift + removedCount);
+        range.clear();
+        range.addAll(replacement);
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public int getAddedCount() {
+        return addedCount;
+    }
+
+    /**
+     * Returns the change in the number of records.
+     *
+     * @return number of records added minus the number removed.
+     */
+    public int getShift() {
+        return addedCount - removedCount;
+    }
+}
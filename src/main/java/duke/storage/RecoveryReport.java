@@ -0,0 +1,135 @@
+package duke.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Report of the records that were loaded and the records that were lost while loading a task file.
+ * Only the first lost records are kept in full, so a badly damaged file does not fill up the memory.
+ *
+ * @author marcuspeh
+ * @version A-Recovery
+ * @since 18 Oct 2026
+ */
+public class RecoveryReport {
+    /** Most lost records kept in full. */
+    private static final int MAX_DETAILS = 1000;
+    /** Longest part of a lost record that is kept. */
+    private static final int MAX_CONTENT = 200;
+
+    /** Number of records loaded. */
+    private int recoveredCount;
+    /** Number of records lost. */
+    private int lostCount;
+    /** First lost records. */
+    private final List<LostRecord> lostRecords = new ArrayList<>();
+
+    /**
+     * Counts records that were loaded.
+     *
+     * @param count Number of records loaded.
+     */
+    public void addRecovered(int count) {
+        recoveredCount += count;
+    }
+
+    /**
+     * Adds a record that could not be loaded.
+     *
+     * @param lineNumber Line of the record, starting from 1.
+     * @param reason Why the record could not be loaded.
+     * @param content Content of the record.
+     */
+    public void addLost(int lineNumber, String reason, String content) {
+        lostCount++;
+        if (lostRecords.size() < MAX_DETAILS) {
+            String kept = content.length() > MAX_CONTENT ? content.substring(0, MAX_CONTENT) + "..." : content;
+            lostRecords.add(new LostRecord(lineNumber, reason, kept));
+        }
+    }
+
+    /**
+     * Adds the records of another report, e.g. of another file loaded into the same list.
+     *
+     * @param other Report to add.
+     */
+    public void addAll(RecoveryReport other) {
+        recoveredCount += other.recoveredCount;
+        lostCount += other.lostCount - other.lostRecords.size();
+        for (LostRecord record : other.lostRecords) {
+            addLost(record.lineNumber, record.reason, record.content);
+        }
+    }
+
+    public int getRecoveredCount() {
+        return recoveredCount;
+    }
+
+    public int getLostCount() {
+        return lostCount;
+    }
+
+    public List<LostRecord> getLostRecords() {
+        return Collections.unmodifiableList(lostRecords);
+    }
+
+    /**
+     * Checks if any record was lost.
+     *
+     * @return if a record could not be loaded.
+     */
+    public boolean hasLosses() {
+        return lostCount > 0;
+    }
+
+    /**
+     * Returns the report as lines of text, starting with a summary.
+     *
+     * @return lines of the report.
+     */
+    public List<String> toLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Recovered %d record(s), lost %d record(s)", recoveredCount, lostCount));
+        lostRecords.forEach(record -> lines.add(record.toString()));
+        if (lostCount > lostRecords.size()) {
+            lines.add(String.format("... and %d more", lostCount - lostRecords.size()));
+        }
+        return lines;
+    }
+
+    /**
+     * Record that could not be loaded.
+     */
+    public static class LostRecord {
+        /** Line of the record, starting from 1. */
+        private final int lineNumber;
+        /** Why the record could not be loaded. */
+        private final String reason;
+        /** Content of the record. */
+        private final String content;
+
+        LostRecord(int lineNumber, String reason, String content) {
+            this.lineNumber = lineNumber;
+            this.reason = reason;
+            this.content = content;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("line %d (%s): %s", lineNumber, reason, content);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package duke.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.task.Task;
+import duke.util.Ui;
+
+/**
+ * Recovers the tasks of a damaged task file in a single pass. Damaged records are skipped line by line,
+ * every task that is still intact is saved again with a checksum, and a report of what was lost is written
+ * next to it. Usage: {@code java -cp duke.jar duke.storage.RecoveryScanner <damaged file> [target]}.
+ * If the target is left out the file is recovered in place and the damaged file is kept as .damaged.
+ *
+ * @author marcuspeh
+ * @version A-Recovery
+ * @since 18 Oct 2026
+ */
+public class RecoveryScanner {
+    /**
+     * Recovers the tasks of the source file into the target file.
+     *
+     * @param source Damaged file.
+     * @param target File to save the recovered tasks to. Can be the same as the source.
+     * @return report of the tasks that were recovered and lost.
+     * @throws IOException If the files cannot be read or written.
+     */
+    public static RecoveryReport recover(Path source, Path target) throws IOException {
+        List<Task> taskList = new ArrayList<>();
+        RecoveryReport report;
+        try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(source))) {
+            report = SnapshotFormat.readAny(in, taskList, new Ui());
+        }
+        if (source.toAbsolutePath().equals(target.toAbsolutePath())) {
+            Files.copy(source, source.resolveSibling(source.getFileName() + ".damaged"),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        AtomicFileWriter.write(target, Durability.FLUSH, out -> SnapshotFormat.CHECKED.write(out, taskList));
+        Files.write(target.resolveSibling(target.getFileName() + ".lost"), report.toLines());
+        return report;
+    }
+
+    /**
+     * Runs the scanner.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: RecoveryScanner <damaged file> [target]");
+            return;
+        }
+        Path source = Paths.get(args[0]);
+        Path target = args.length > 1 ? Paths.get(args[1]) : source;
+        long start = System.nanoTime();
+        RecoveryReport report = recover(source, target);
+        long elapsed = System.nanoTime() - start;
+
+        List<String> lines = report.toLines();
+        lines.subList(1, Math.min(lines.size(), 11)).forEach(System.out::println);
+        System.out.println(lines.get(0) + String.format(" in %.1f ms", elapsed / 1e6));
+        System.out.println(String.format("Recovered task(s) saved to %s, lost records listed in %s.lost",
+                target, target));
+    }
+}
@@ -0,0 +1,288 @@
+package duke.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import duke.task.Task;
+import duke.util.Ui;
+
+/**
+ * Saves the task list across several shard files of a fixed number of tasks each, so that a change
+ * only rewrites the shards it touched. Shard n holds the tasks from n * shardSize onwards. Marking a task
+ * as done dirties its own shard, adding a task dirties the last shard, and deleting a task dirties its shard
+ * and every shard after it. The marks must be made while holding the lock of the task list, so that they
+ * match what is saved.
+ *
+ * <p>Each save is a new generation. A changed shard is written to a new file,
+ * duke.txt.shard{@literal <}n{@literal >}.{@literal <}generation{@literal >}, and the save is committed by
+ * replacing the manifest duke.txt.shards, which lists the file of each shard, atomically. Only the shards in
+ * the manifest are loaded, so a crash during a save loads the previous generation as a whole, and the files
+ * of an unfinished save or of replaced shards are removed afterwards. Shards saved before there was a manifest,
+ * duke.txt.shard{@literal <}n{@literal >}, are still loaded and replaced by the next save.
+ *
+ * @author marcuspeh
+ * @version A-Recovery
+ * @since 18 Oct 2026
+ */
+public class ShardedTaskStore {
+    /** File the shards are named after. */
+    private final Path location;
+    /** Number of tasks in each shard. */
+    private final int shardSize;
+    /** Format new shards are written in. */
+    private final SnapshotFormat format;
+    /** How safely each shard is written to the disk. */
+    private final Durability durability;
+    /** Codec new shards are compressed with. */
+    private final Compression compression;
+    /** Shards with a task that changed since the last save. */
+    private BitSet dirtyShards = new BitSet();
+    /** First task that moved since the last save, every shard from it onwards is rewritten. */
+    private int shiftedFrom = Integer.MAX_VALUE;
+    /** File of each shard in the last generation saved or loaded. */
+    private List<String> savedFiles = new ArrayList<>();
+    /** Last generation saved or loaded. */
+    private long generation;
+
+    /**
+     * Constructor for ShardedTaskStore.
+     *
+     * @param location File the shards are named after.
+     * @param shardSize Number of tasks in each shard.
+     * @param format Format new shards are written in.
+     * @param durability How safely each shard is written to the disk.
+     * @param compression Codec new shards are compressed with.
+     */
+    public ShardedTaskStore(Path location, int shardSize, SnapshotFormat format, Durability durability,
+            Compression compression) {
+        this.location = location;
+        this.shardSize = shardSize;
+        this.format = format;
+        this.durability = durability;
+        this.compression = compression;
+    }
+
+    /**
+     * Checks if the shards have been saved before.
+     *
+     * @return if the manifest or a shard saved before there was a manifest exists.
+     */
+    public boolean exists() {
+        return Files.exists(manifest()) || Files.exists(legacyShard(0));
+    }
+
+    /**
+     * Marks the task as changed, e.g. added or marked as done.
+     *
+     * @param index Index of the task, starting from 0.
+     */
+    public synchronized void markChanged(int index) {
+        dirtyShards.set(index / shardSize);
+    }
+
+    /**
+     * Marks the tasks from the index onwards as moved, e.g. after a task is deleted.
+     *
+     * @param index Index of the first task that moved, starting from 0.
+     */
+    public synchronized void markShifted(int index) {
+        shiftedFrom = Math.min(shiftedFrom, index);
+    }
+
+    /**
+     * Marks every shard as changed, so that the next save rewrites all of them.
+     */
+    public synchronized void markAll() {
+        shiftedFrom = 0;
+    }
+
+    /**
+     * Writes the shards that changed since the last save as a new generation, and commits it by replacing
+     * the manifest. Only the tasks of the changed shards are copied while holding the lock of the list.
+     * If the save fails, the shards stay dirty and are rewritten by the next save.
+     *
+     * @param taskList list of task to be stored.
+     * @throws IOException If a shard or the manifest cannot be written.
+     */
+    public void save(List<Task> taskList) throws IOException {
+        int shardCount;
+        BitSet toWrite;
+        List<List<Task>> shards = new ArrayList<>();
+        synchronized (taskList) {
+            shardCount = Math.max(1, (taskList.size() + shardSize - 1) / shardSize);
+            toWrite = takeDirtyShards(shardCount);
+            toWrite.set(Math.min(savedFiles.size(), shardCount), shardCount);
+            for (int i = toWrite.nextSetBit(0); i >= 0; i = toWrite.nextSetBit(i + 1)) {
+                int from = i * shardSize;
+                shards.add(new ArrayList<>(taskList.subList(from, Math.min(from + shardSize, taskList.size()))));
+            }
+        }
+
+        long nextGeneration = generation + 1;
+        List<String> files = new ArrayList<>(savedFiles.subList(0, Math.min(savedFiles.size(), shardCount)));
+        List<Path> written = new ArrayList<>();
+        try {
+            int shardIndex = 0;
+            for (int i = toWrite.nextSetBit(0); i >= 0; i = toWrite.nextSetBit(i + 1)) {
+                List<Task> shard = shards.get(shardIndex++);
+                Path file = shard(i, nextGeneration);
+                written.add(file);
+                AtomicFileWriter.write(file, durability,
+                        out -> compression.write(out, compressed -> format.write(compressed, shard)));
+                if (i < files.size()) {
+                    files.set(i, file.getFileName().toString());
+                } else {
+                    files.add(file.getFileName().toString());
+                }
+            }
+            writeManifest(nextGeneration, files);
+        } catch (IOException e) {
+            written.forEach(ShardedTaskStore::deleteQuietly);
+            synchronized (this) {
+                dirtyShards.or(toWrite);
+            }
+            throw e;
+        }
+
+        List<String> replaced = savedFiles;
+        savedFiles = files;
+        generation = nextGeneration;
+        deleteUnlisted(replaced);
+    }
+
+    /**
+     * Replaces the manifest with the generation and the file of each shard. It is always written to a
+     * temporary file and moved over the manifest, even if durability is none, as it is what commits a save.
+     */
+    private void writeManifest(long generation, List<String> files) throws IOException {
+        Durability manifestDurability = durability == Durability.FSYNC ? Durability.FSYNC : Durability.FLUSH;
+        List<String> lines = new ArrayList<>();
+        lines.add(String.valueOf(generation));
+        lines.addAll(files);
+        byte[] content = (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8);
+        AtomicFileWriter.write(manifest(), manifestDurability, out -> out.write(content));
+    }
+
+    /**
+     * Deletes the files of the shards that are not in the saved generation. A file that cannot be deleted
+     * is left for the next load, as it is not loaded anyway.
+     *
+     * @param files Files that may no longer be in the saved generation.
+     */
+    private void deleteUnlisted(Iterable<String> files) {
+        Set<String> listed = new HashSet<>(savedFiles);
+        for (String file : files) {
+            if (!listed.contains(file)) {
+                deleteQuietly(location.resolveSibling(file));
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // The file is not in the manifest, so it is never loaded.
+        }
+    }
+
+    private synchronized BitSet takeDirtyShards(int shardCount) {
+        BitSet dirty = dirtyShards;
+        if (shiftedFrom != Integer.MAX_VALUE) {
+            dirty.set(Math.min(shiftedFrom / shardSize, shardCount), shardCount);
+        }
+        dirty.clear(shardCount, Math.max(shardCount, dirty.length()));
+        dirtyShards = new BitSet();
+        shiftedFrom = Integer.MAX_VALUE;
+        return dirty;
+    }
+
+    /**
+     * Loads the shards of the committed generation in order into the task list. The format and compression
+     * of each shard are detected from its header. Files of shards that are not in the generation are removed.
+     * If the shards were saved with a different shard size, all of them are rewritten on the next save.
+     *
+     * @param taskList List to add the tasks to.
+     * @param ui To deal with the error messages.
+     * @return report of the tasks that were loaded and lost across all the shards.
+     * @throws IOException If the manifest or a shard cannot be read.
+     */
+    public RecoveryReport read(List<Task> taskList, Ui ui) throws IOException {
+        List<String> files = new ArrayList<>();
+        long readGeneration = 0;
+        boolean hasManifest = Files.exists(manifest());
+        if (hasManifest) {
+            List<String> lines = Files.readAllLines(manifest(), StandardCharsets.UTF_8);
+            try {
+                readGeneration = Long.parseLong(lines.get(0));
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                throw new IOException("Damaged shard manifest " + manifest(), e);
+            }
+            files.addAll(lines.subList(1, lines.size()));
+        } else {
+            for (int i = 0; Files.exists(legacyShard(i)); i++) {
+                files.add(legacyShard(i).getFileName().toString());
+            }
+        }
+
+        RecoveryReport report = new RecoveryReport();
+        int start = taskList.size();
+        boolean isAligned = true;
+        for (int i = 0; i < files.size(); i++) {
+            isAligned &= taskList.size() - start == i * shardSize;
+            try (InputStream file = Files.newInputStream(location.resolveSibling(files.get(i)));
+                    BufferedInputStream in = new BufferedInputStream(file)) {
+                report.addAll(SnapshotFormat.readAny(in, taskList, ui));
+            }
+        }
+        isAligned &= taskList.size() - start <= files.size() * shardSize;
+        synchronized (this) {
+            savedFiles = files;
+            generation = readGeneration;
+            if (!isAligned) {
+                markAll();
+            }
+        }
+        if (hasManifest) {
+            deleteUnlisted(listShardFiles());
+        }
+        return report;
+    }
+
+    /**
+     * Lists the names of every shard file next to the location, of any generation.
+     */
+    private List<String> listShardFiles() throws IOException {
+        Pattern shardName = Pattern.compile(Pattern.quote(location.getFileName() + ".shard") + "\\d+(\\.\\d+)?");
+        List<String> names = new ArrayList<>();
+        try (Stream<Path> siblings = Files.list(location.toAbsolutePath().getParent())) {
+            siblings.map(path -> path.getFileName().toString())
+                    .filter(name -> shardName.matcher(name).matches())
+                    .forEach(names::add);
+        }
+        return names;
+    }
+
+    private Path shard(int index, long generation) {
+        return location.resolveSibling(location.getFileName() + ".shard" + index + "." + generation);
+    }
+
+    private Path legacyShard(int index) {
+        return location.resolveSibling(location.getFileName() + ".shard" + index);
+    }
+
+    private Path manifest() {
+        return location.resolveSibling(location.getFileName() + ".shards");
+    }
+}
@@ -0,0 +1,116 @@
+package duke.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.task.Task;
+import duke.util.Ui;
+
+/**
+ * Converts a saved task file between the text and binary formats, and compresses or decompresses it.
+ * Usage: {@code java -cp duke.jar duke.storage.SnapshotConverter <source> [target] [text|binary]
+ * [none|gzip|deflate]}.
+ * If the target is left out the source is converted in place, if the format is left out the file
+ * is converted to the other format, and if the compression is left out the file is not compressed.
+ * The sizes of both files, the compression ratio and the load and save times are reported.
+ *
+ * @author marcuspeh
+ * @version A-Compression
+ * @since 18 Oct 2026
+ */
+public class SnapshotConverter {
+    /**
+     * Converts the source file into the target file.
+     *
+     * @param source File to convert.
+     * @param target File to write the converted tasks to. Can be the same as the source.
+     * @param format Format to convert to, or null to convert to the other format.
+     * @return number of tasks converted.
+     * @throws IOException If the files cannot be read or written.
+     */
+    public static int convert(Path source, Path target, SnapshotFormat format) throws IOException {
+        return convert(source, target, format, Compression.NONE);
+    }
+
+    /**
+     * Converts the source file into the target file.
+     *
+     * @param source File to convert.
+     * @param target File to write the converted tasks to. Can be the same as the source.
+     * @param format Format to convert to, or null to convert to the other format.
+     * @param compression Codec the target file is compressed with.
+     * @return number of tasks converted.
+     * @throws IOException If the files cannot be read or written.
+     */
+    public static int convert(Path source, Path target, SnapshotFormat format, Compression compression)
+            throws IOException {
+        List<Task> taskList = new ArrayList<>();
+        SnapshotFormat sourceFormat = load(source, taskList);
+        save(target, taskList, targetFormat(sourceFormat, format), compression);
+        return taskList.size();
+    }
+
+    private static SnapshotFormat targetFormat(SnapshotFormat sourceFormat, SnapshotFormat format) {
+        if (format != null) {
+            return format;
+        }
+        return sourceFormat == SnapshotFormat.TEXT ? SnapshotFormat.BINARY : SnapshotFormat.TEXT;
+    }
+
+    /**
+     * Loads the tasks in a file of any format, compressed or not.
+     *
+     * @param source File to load.
+     * @param taskList List to add the tasks to.
+     * @return format of the file after decompressing it.
+     * @throws IOException If the file cannot be read.
+     */
+    private static SnapshotFormat load(Path source, List<Task> taskList) throws IOException {
+        try (BufferedInputStream file = new BufferedInputStream(Files.newInputStream(source));
+                BufferedInputStream in = new BufferedInputStream(Compression.detect(file).decompress(file))) {
+            SnapshotFormat sourceFormat = SnapshotFormat.detect(in);
+            sourceFormat.read(in, taskList, new Ui());
+            return sourceFormat;
+        }
+    }
+
+    private static void save(Path target, List<Task> taskList, SnapshotFormat format, Compression compression)
+            throws IOException {
+        AtomicFileWriter.write(target, Durability.FLUSH,
+                out -> compression.write(out, compressed -> format.write(compressed, taskList)));
+    }
+
+    /**
+     * Runs the converter.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: SnapshotConverter <source> [target] [text|binary] [none|gzip|deflate]");
+            return;
+        }
+        Path source = Paths.get(args[0]);
+        Path target = args.length > 1 ? Paths.get(args[1]) : source;
+        SnapshotFormat format = args.length > 2 ? SnapshotFormat.of(args[2]) : null;
+        Compression compression = args.length > 3 ? Compression.of(args[3]) : Compression.NONE;
+
+        long sourceSize = Files.size(source);
+        List<Task> taskList = new ArrayList<>();
+        long start = System.nanoTime();
+        SnapshotFormat sourceFormat = load(source, taskList);
+        long loaded = System.nanoTime();
+        save(target, taskList, targetFormat(sourceFormat, format), compression);
+        long saved = System.nanoTime();
+
+        long targetSize = Files.size(target);
+        System.out.println(String.format("Converted %d task(s) into %s", taskList.size(), target));
+        System.out.println(String.format("Size: %d -> %d bytes (ratio %.2f)", sourceSize, targetSize,
+                targetSize == 0 ? 1.0 : (double) sourceSize / targetSize));
+        System.out.println(String.format("Load: %.1f ms, save: %.1f ms",
+                (loaded - start) / 1e6, (saved - loaded) / 1e6));
+    }
+}
@@ -0,0 +1,130 @@
+package duke.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import duke.task.Task;
+import duke.util.Ui;
+
+/**
+ * Enum file for the formats a snapshot of the task list can be saved in.
+ *
+ * @author marcuspeh
+ * @version A-Recovery
+ * @since 18 Oct 2026
+ */
+public enum SnapshotFormat {
+    /** Human readable format with one task per line. */
+    TEXT {
+        @Override
+        public RecoveryReport read(InputStream in, List<Task> taskList, Ui ui) throws IOException {
+            return TextTaskFormat.read(in, taskList, ui);
+        }
+
+        @Override
+        public void write(OutputStream out, List<Task> taskList) throws IOException {
+            TextTaskFormat.write(out, taskList);
+        }
+    },
+    /** Human readable format with the checksum of each task in front of it, so damaged lines are detected. */
+    CHECKED {
+        @Override
+        public RecoveryReport read(InputStream in, List<Task> taskList, Ui ui) throws IOException {
+            return TextTaskFormat.read(in, taskList, ui);
+        }
+
+        @Override
+        public void write(OutputStream out, List<Task> taskList) throws IOException {
+            TextTaskFormat.write(out, taskList, true);
+        }
+    },
+    /** Compact format that loads without parsing text. */
+    BINARY {
+        @Override
+        public RecoveryReport read(InputStream in, List<Task> taskList, Ui ui) throws IOException {
+            int size = taskList.size();
+            BinaryTaskFormat.read(in, taskList);
+            RecoveryReport report = new RecoveryReport();
+            report.addRecovered(taskList.size() - size);
+            return report;
+        }
+
+        @Override
+        public void write(OutputStream out, List<Task> taskList) throws IOException {
+            BinaryTaskFormat.write(out, taskList);
+        }
+    };
+
+    /** Number of bytes needed to detect a checksum in front of the first task. */
+    private static final int CHECKED_HEADER_SIZE = 11;
+
+    /**
+     * Reads the tasks in the stream into the task list.
+     *
+     * @param in Stream to read from.
+     * @param taskList List to add the tasks to.
+     * @param ui To deal with the error messages.
+     * @return report of the tasks that were loaded and lost.
+     * @throws IOException If the stream cannot be read.
+     */
+    public abstract RecoveryReport read(InputStream in, List<Task> taskList, Ui ui) throws IOException;
+
+    /**
+     * Writes the tasks to the stream.
+     *
+     * @param out Stream to write to.
+     * @param taskList list of task to be stored.
+     * @throws IOException If the stream cannot be written.
+     */
+    public abstract void write(OutputStream out, List<Task> taskList) throws IOException;
+
+    /**
+     * Finds the format of the stream from its header, without consuming it.
+     *
+     * @param in Stream that supports mark and reset.
+     * @return format of the stream.
+     * @throws IOException If the stream cannot be read.
+     */
+    public static SnapshotFormat detect(BufferedInputStream in) throws IOException {
+        if (BinaryTaskFormat.isBinary(in)) {
+            return BINARY;
+        }
+        in.mark(CHECKED_HEADER_SIZE);
+        byte[] header = in.readNBytes(CHECKED_HEADER_SIZE);
+        in.reset();
+        return TextTaskFormat.hasChecksum(new String(header, StandardCharsets.US_ASCII)) ? CHECKED : TEXT;
+    }
+
+    /**
+     * Reads the tasks in a stream of any format, decompressing it first if it is compressed.
+     *
+     * @param in Stream to read from, which is closed afterwards.
+     * @param taskList List to add the tasks to.
+     * @param ui To deal with the error messages.
+     * @return report of the tasks that were loaded and lost.
+     * @throws IOException If the stream cannot be read.
+     */
+    public static RecoveryReport readAny(BufferedInputStream in, List<Task> taskList, Ui ui) throws IOException {
+        Compression compression = Compression.detect(in);
+        if (compression == Compression.NONE) {
+            return detect(in).read(in, taskList, ui);
+        }
+        try (BufferedInputStream data = new BufferedInputStream(compression.decompress(in))) {
+            return detect(data).read(data, taskList, ui);
+        }
+    }
+
+    /**
+     * Finds the format with the given name, ignoring case.
+     *
+     * @param name Name of the format.
+     * @return format with the name.
+     */
+    public static SnapshotFormat of(String name) {
+        return valueOf(name.toUpperCase());
+    }
+}
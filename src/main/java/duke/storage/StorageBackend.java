@@ -0,0 +1,45 @@
+package duke.storage;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+
+import duke.task.Task;
+
+/**
+ * Where a snapshot of the whole task list is loaded from and saved to. duke.util.Storage builds journaling,
+ * sharding and write-behind on top of the backend, and the backend is picked at startup by {@link BackendType}.
+ *
+ * @author marcuspeh
+ * @version A-Recovery
+ * @since 18 Oct 2026
+ */
+public interface StorageBackend {
+    /**
+     * Loads the saved tasks into the task list.
+     *
+     * @param taskList List to add the tasks to.
+     * @return checksum of the loaded snapshot.
+     * @throws FileNotFoundException If nothing has been saved yet.
+     * @throws IOException If the snapshot cannot be read.
+     */
+    long load(List<Task> taskList) throws IOException;
+
+    /**
+     * Replaces the saved tasks with the task list.
+     *
+     * @param taskList list of task to be stored.
+     * @return checksum of the saved snapshot.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    long save(List<Task> taskList) throws IOException;
+
+    /**
+     * Returns the report of the last load, listing the records that were damaged and could not be loaded.
+     *
+     * @return report of the last load.
+     */
+    default RecoveryReport getRecoveryReport() {
+        return new RecoveryReport();
+    }
+}
@@ -0,0 +1,289 @@
+package duke.storage;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Options for how duke.util.Storage saves and loads the tasks.
+ * The defaults keep a single txt file that is rewritten on every change.
+ * Each option can be overridden with a system property, e.g. {@code -Dduke.storage.journal=true}.
+ *
+ * @author marcuspeh
+ * @version A-CompactTasks
+ * @since 18 Oct 2026
+ */
+public class StorageOptions {
+    /** Default file name for the storage. */
+    public static final String DEFAULT_LOCATION = "./data/duke.txt";
+    /** Default size of the journal (in bytes) before it is compacted into a new snapshot. */
+    public static final long DEFAULT_CHECKPOINT_THRESHOLD = 64 * 1024;
+
+    /** Prefix of all the system properties read by the options. */
+    private static final String PROPERTY_PREFIX = "duke.storage.";
+
+    /** File name for the storage. */
+    private Path location = Paths.get(DEFAULT_LOCATION);
+    /** Whether changes are appended to a journal instead of rewriting the file. */
+    private boolean isJournaled = false;
+    /** Size of the journal (in bytes) before it is compacted into a new snapshot. */
+    private long checkpointThreshold = DEFAULT_CHECKPOINT_THRESHOLD;
+    /** Format the tasks are saved in. Files in either format can always be loaded. */
+    private SnapshotFormat format = SnapshotFormat.TEXT;
+    /** Codec new files are compressed with. */
+    private Compression compression = Compression.NONE;
+    /** Backend the tasks are saved to, null to pick it from the format and the loading options. */
+    private BackendType backend;
+    /** Whether txt files are loaded by mapping them into memory. */
+    private boolean isMapped = false;
+    /** Whether the descriptions in txt files are only loaded when they are first needed. */
+    private boolean isLazy = false;
+    /** Whether txt files are loaded on all the cores. */
+    private boolean isParallel = false;
+    /** Milliseconds to wait before saving changes in the background, or 0 to save on every change. */
+    private long flushInterval = 0;
+    /** Milliseconds concurrent saves are gathered into a single write, or 0 to write each save on its own. */
+    private long groupCommitWindow = 0;
+    /** How safely each save is written to the disk. */
+    private Durability durability = Durability.FLUSH;
+    /** Number of tasks in each shard file, or 0 to save all the tasks in a single file. */
+    private int shardSize = 0;
+    /** Whether the file is reloaded when it is changed outside of duke. */
+    private boolean isWatched = false;
+    /** Number of done tasks kept in the list before the oldest are archived, or -1 for no limit. */
+    private int archiveKeep = -1;
+    /** How long a done task is kept in the list before it is archived, null for no limit. */
+    private Duration archiveAge;
+    /** Whether the loaded tasks are kept only as their fields instead of as objects. */
+    private boolean isCompact = false;
+
+    /**
+     * Creates the options from the system properties, falling back to the defaults.
+     *
+     * @return options set by the system properties.
+     */
+    public static StorageOptions fromSystemProperties() {
+        StorageOptions options = new StorageOptions();
+        options.setLocation(Paths.get(property("location", DEFAULT_LOCATION)));
+        options.setJournaled(Boolean.parseBoolean(property("journal", "false")));
+        options.setCheckpointThreshold(Long.parseLong(
+                property("checkpoint", String.valueOf(DEFAULT_CHECKPOINT_THRESHOLD))));
+        options.setFormat(SnapshotFormat.of(property("format", SnapshotFormat.TEXT.name())));
+        options.setCompression(Compression.of(property("compression", Compression.NONE.name())));
+        String backend = property("backend", "");
+        if (!backend.isEmpty()) {
+            options.setBackend(BackendType.of(backend));
+        }
+        options.setMapped(Boolean.parseBoolean(property("mmap", "false")));
+        options.setLazy(Boolean.parseBoolean(property("lazy", "false")));
+        options.setParallel(Boolean.parseBoolean(property("parallel", "false")));
+        options.setFlushInterval(Long.parseLong(property("flushInterval", "0")));
+        options.setGroupCommitWindow(Long.parseLong(property("groupCommit", "0")));
+        options.setDurability(Durability.of(property("durability", Durability.FLUSH.name())));
+        options.setShardSize(Integer.parseInt(property("shardSize", "0")));
+        options.setWatched(Boolean.parseBoolean(property("watch", "false")));
+        options.setArchiveKeep(Integer.parseInt(property("archiveKeep", "-1")));
+        String archiveAge = property("archiveAge", "");
+        if (!archiveAge.isEmpty()) {
+            options.setArchiveAge(Duration.parse(archiveAge));
+        }
+        options.setCompact(Boolean.parseBoolean(property("compact", "false")));
+        return options;
+    }
+
+    /**
+     * Reads a system property of the storage.
+     *
+     * @param name Name of the property without the prefix.
+     * @param defaultValue Value used if the property is not set.
+     * @return value of the property.
+     */
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PROPERTY_PREFIX + name, defaultValue);
+    }
+
+    public Path getLocation() {
+        return location;
+    }
+
+    public StorageOptions setLocation(Path location) {
+        this.location = location;
+        return this;
+    }
+
+    public boolean getIsJournaled() {
+        return isJournaled;
+    }
+
+    public StorageOptions setJournaled(boolean isJournaled) {
+        this.isJournaled = isJournaled;
+        return this;
+    }
+
+    public long getCheckpointThreshold() {
+        return checkpointThreshold;
+    }
+
+    public StorageOptions setCheckpointThreshold(long checkpointThreshold) {
+        this.checkpointThreshold = checkpointThreshold;
+        return this;
+    }
+
+    /**
+     * Returns the format new files are saved in, which is the format of the backend if one was picked.
+     * The text backend keeps the checked format, as it is also a txt format.
+     *
+     * @return format of new files.
+     */
+    public SnapshotFormat getFormat() {
+        if (backend == null || backend == BackendType.TEXT && format == SnapshotFormat.CHECKED) {
+            return format;
+        }
+        return backend.getFormat();
+    }
+
+    public StorageOptions setFormat(SnapshotFormat format) {
+        this.format = format;
+        return this;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public StorageOptions setCompression(Compression compression) {
+        this.compression = compression;
+        return this;
+    }
+
+    /**
+     * Returns the backend the tasks are saved to. If none was picked, the binary backend is used for
+     * the binary format, the mmap backend if any of the mmap, parallel or lazy options are set,
+     * and the text backend otherwise.
+     *
+     * @return backend for the tasks.
+     */
+    public BackendType getBackend() {
+        if (backend != null) {
+            return backend;
+        } else if (format == SnapshotFormat.BINARY) {
+            return BackendType.BINARY;
+        } else if (isMapped || isParallel || isLazy) {
+            return BackendType.MMAP;
+        }
+        return BackendType.TEXT;
+    }
+
+    public StorageOptions setBackend(BackendType backend) {
+        this.backend = backend;
+        return this;
+    }
+
+    public boolean getIsMapped() {
+        return isMapped;
+    }
+
+    public StorageOptions setMapped(boolean isMapped) {
+        this.isMapped = isMapped;
+        return this;
+    }
+
+    public boolean getIsLazy() {
+        return isLazy;
+    }
+
+    public StorageOptions setLazy(boolean isLazy) {
+        this.isLazy = isLazy;
+        return this;
+    }
+
+    public boolean getIsParallel() {
+        return isParallel;
+    }
+
+    public StorageOptions setParallel(boolean isParallel) {
+        this.isParallel = isParallel;
+        return this;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public StorageOptions setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+        return this;
+    }
+
+    public long getGroupCommitWindow() {
+        return groupCommitWindow;
+    }
+
+    public StorageOptions setGroupCommitWindow(long groupCommitWindow) {
+        this.groupCommitWindow = groupCommitWindow;
+        return this;
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public StorageOptions setDurability(Durability durability) {
+        this.durability = durability;
+        return this;
+    }
+
+    public int getShardSize() {
+        return shardSize;
+    }
+
+    public StorageOptions setShardSize(int shardSize) {
+        this.shardSize = shardSize;
+        return this;
+    }
+
+    public boolean getIsWatched() {
+        return isWatched;
+    }
+
+    public StorageOptions setWatched(boolean isWatched) {
+        this.isWatched = isWatched;
+        return this;
+    }
+
+    public int getArchiveKeep() {
+        return archiveKeep;
+    }
+
+    public StorageOptions setArchiveKeep(int archiveKeep) {
+        this.archiveKeep = archiveKeep;
+        return this;
+    }
+
+    public Duration getArchiveAge() {
+        return archiveAge;
+    }
+
+    public StorageOptions setArchiveAge(Duration archiveAge) {
+        this.archiveAge = archiveAge;
+        return this;
+    }
+
+    public boolean getIsCompact() {
+        return isCompact;
+    }
+
+    public StorageOptions setCompact(boolean isCompact) {
+        this.isCompact = isCompact;
+        return this;
+    }
+
+    /**
+     * Checks if done tasks are moved out of the list into the archive.
+     *
+     * @return if a limit on the done tasks or their age is set.
+     */
+    public boolean getIsArchived() {
+        return archiveKeep >= 0 || archiveAge != null;
+    }
+}
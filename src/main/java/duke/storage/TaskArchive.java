@@ -0,0 +1,287 @@
+package duke.storage;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import duke.task.Task;
+import duke.task.TaskSequence;
+
+/**
+ * Cold tier for tasks that are done, so that the tasks loaded and saved on every change stay few.
+ * Done tasks are moved out of the list once they have been done for longer than the archive age, or
+ * once more done tasks than the archive limit are kept, oldest first. Moved tasks are appended to
+ * duke.txt.archive with a checksum on each line. The archive is never rewritten, and it is only read
+ * when it is searched.
+ *
+ * <p>The time a task was done is only known for tasks marked as done since duke started. Tasks that
+ * were already done when the list was loaded count as done when the file was last saved.
+ *
+ * <p>The done tasks are kept in the order they are archived in, so that selecting the tasks to archive only
+ * looks at the ones that are due. The list is only scanned for done tasks once it is loaded or reloaded, and
+ * deleted tasks must be forgotten so that they do not count towards the limit.
+ *
+ * @author marcuspeh
+ * @version A-Snapshots
+ * @since 18 Oct 2026
+ */
+public class TaskArchive {
+    /** File the archived tasks are appended to. */
+    private final Path location;
+    /** Number of done tasks kept in the list, or -1 for no limit. */
+    private final int keepCount;
+    /** How long a task stays in the list after it is done, null to keep it until the limit is reached. */
+    private final Duration age;
+    /** How safely each append is written to the disk. */
+    private final Durability durability;
+    /** Done tasks by their id, so that they are also found for tasks read again from a compact list. */
+    private final Map<Integer, DoneTask> doneTasks = new HashMap<>();
+    /** Done tasks in the order they are archived in, oldest first. Archived tasks are dropped. */
+    private final TreeSet<DoneTask> archiveOrder = new TreeSet<>(Comparator.<DoneTask>comparingLong(task -> task.time)
+            .thenComparingLong(task -> task.order));
+    /** Number of tasks marked as done. */
+    private long doneCount;
+    /** Whether the list has to be scanned for done tasks that are not known yet, i.e. after it is loaded. */
+    private boolean isScanNeeded = true;
+    /** Time of tasks that were done before they were loaded. */
+    private long loadedTime;
+
+    /**
+     * Constructor for TaskArchive.
+     *
+     * @param location File the archived tasks are appended to.
+     * @param keepCount Number of done tasks kept in the list, or -1 for no limit.
+     * @param age How long a task stays in the list after it is done, null for no limit.
+     * @param durability How safely each append is written to the disk.
+     */
+    public TaskArchive(Path location, int keepCount, Duration age, Durability durability) {
+        this.location = location;
+        this.keepCount = keepCount;
+        this.age = age;
+        this.durability = durability;
+    }
+
+    /**
+     * Sets the time the tasks that were already done when loaded count as done.
+     *
+     * @param loadedTime Time the file was last saved, in milliseconds.
+     */
+    public synchronized void setLoadedTime(long loadedTime) {
+        this.loadedTime = loadedTime;
+    }
+
+    /**
+     * Remembers when a task was marked as done.
+     *
+     * @param task Task that is done, which has its id in the list.
+     * @param time Time it was done, in milliseconds.
+     */
+    public synchronized void markDone(Task task, long time) {
+        track(new DoneTask(task.getId(), time, doneCount++));
+    }
+
+    /**
+     * Forgets a task that was deleted from the list.
+     *
+     * @param task Task that is deleted.
+     */
+    public synchronized void forget(Task task) {
+        forget(task.getId());
+    }
+
+    /**
+     * Scans the list for its done tasks on the next selection, e.g. after it was reloaded.
+     */
+    public synchronized void rescan() {
+        isScanNeeded = true;
+    }
+
+    private void track(DoneTask done) {
+        forget(done.id);
+        doneTasks.put(done.id, done);
+        archiveOrder.add(done);
+    }
+
+    private void forget(int id) {
+        DoneTask done = doneTasks.remove(id);
+        if (done != null) {
+            archiveOrder.remove(done);
+        }
+    }
+
+    /**
+     * Finds the done tasks that are due to be archived, either because they are too old or because
+     * too many done tasks are kept. Only the tasks that are due are looked at, unless the list has to be
+     * scanned for its done tasks first.
+     *
+     * @param taskList Tasks in the list, locked by the caller.
+     * @param now Current time, in milliseconds.
+     * @return indexes of the tasks to archive, in ascending order.
+     */
+    public synchronized List<Integer> select(List<Task> taskList, long now) {
+        if (!(taskList instanceof TaskSequence)) {
+            return selectByScan(taskList, now);
+        }
+        TaskSequence tasks = (TaskSequence) taskList;
+        if (isScanNeeded) {
+            scan(tasks);
+        }
+        long cutoff = age == null ? Long.MIN_VALUE : now - age.toMillis();
+        List<Integer> selected = new ArrayList<>();
+        Iterator<DoneTask> order = archiveOrder.iterator();
+        while (order.hasNext()) {
+            DoneTask done = order.next();
+            int excess = keepCount < 0 ? 0 : archiveOrder.size() - keepCount;
+            if (selected.size() >= excess && done.time > cutoff) {
+                break;
+            }
+            int index = tasks.indexOfId(done.id);
+            if (index < 0) {
+                order.remove();
+                doneTasks.remove(done.id);
+            } else {
+                selected.add(index);
+            }
+        }
+        selected.sort(null);
+        return selected;
+    }
+
+    /**
+     * Finds the done tasks in the list that are not known yet, which count as done when the list was loaded.
+     * Tasks that were done earlier come first, in the order of the list.
+     */
+    private void scan(TaskSequence taskList) {
+        List<DoneTask> known = new ArrayList<>(doneTasks.values());
+        doneTasks.clear();
+        archiveOrder.clear();
+        for (int i = 0; i < taskList.size(); i++) {
+            Task task = taskList.get(i);
+            if (task.getIsDone()) {
+                track(new DoneTask(task.getId(), loadedTime, i - (long) taskList.size()));
+            }
+        }
+        for (DoneTask done : known) {
+            if (doneTasks.containsKey(done.id)) {
+                track(done);
+            }
+        }
+        isScanNeeded = false;
+    }
+
+    /**
+     * Finds the tasks to archive by checking every task, for lists that do not give their tasks ids,
+     * e.g. the list being loaded.
+     */
+    private List<Integer> selectByScan(List<Task> taskList, long now) {
+        List<Integer> done = IntStream.range(0, taskList.size())
+                .filter(i -> taskList.get(i).getIsDone())
+                .boxed()
+                .sorted(Comparator.comparingLong(i -> doneTime(taskList.get(i))))
+                .collect(Collectors.toList());
+        int excess = keepCount < 0 ? 0 : Math.max(0, done.size() - keepCount);
+        List<Integer> selected = new ArrayList<>(done.subList(0, excess));
+        if (age != null) {
+            long cutoff = now - age.toMillis();
+            done.subList(excess, done.size()).stream()
+                    .filter(i -> doneTime(taskList.get(i)) <= cutoff)
+                    .forEach(selected::add);
+        }
+        selected.sort(null);
+        return selected;
+    }
+
+    private long doneTime(Task task) {
+        DoneTask done = doneTasks.get(task.getId());
+        return done == null ? loadedTime : done.time;
+    }
+
+    /**
+     * Appends the tasks to the end of the archive.
+     *
+     * @param tasks Tasks to archive.
+     * @throws IOException If the archive cannot be written.
+     */
+    public synchronized void append(List<Task> tasks) throws IOException {
+        Files.createDirectories(location.toAbsolutePath().getParent());
+        try (FileOutputStream stream = new FileOutputStream(location.toFile(), true);
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8))) {
+            for (Task task : tasks) {
+                writer.write(TextTaskFormat.withChecksum(task.saveOutput()));
+                writer.newLine();
+            }
+            writer.flush();
+            if (durability == Durability.FSYNC) {
+                stream.getFD().sync();
+            }
+        }
+        tasks.forEach(this::forget);
+    }
+
+    /**
+     * Reads the archived tasks containing the keyword. The archive is streamed from the file, so only
+     * the matching tasks are kept in memory. Damaged lines are skipped.
+     *
+     * @param keyword Keyword to search for, empty to return every task.
+     * @return archived tasks containing the keyword, oldest first.
+     * @throws IOException If the archive cannot be read.
+     */
+    public List<Task> search(String keyword) throws IOException {
+        if (!Files.exists(location)) {
+            return new ArrayList<>();
+        }
+        try (Stream<String> lines = Files.lines(location)) {
+            return lines.map(TaskArchive::toTask)
+                    .filter(Objects::nonNull)
+                    .filter(task -> task.getTask().contains(keyword))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Task toTask(String line) {
+        try {
+            return TextTaskFormat.toTask(line);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    public Path getLocation() {
+        return location;
+    }
+
+    /**
+     * Time and order a task was done in.
+     */
+    private static class DoneTask {
+        private final int id;
+        private final long time;
+        private final long order;
+
+        DoneTask(int id, long time, long order) {
+            this.id = id;
+            this.time = time;
+            this.order = order;
+        }
+    }
+}
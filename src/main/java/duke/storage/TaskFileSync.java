@@ -0,0 +1,236 @@
+package duke.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import duke.task.Task;
+
+/**
+ * Keeps the task list in sync with a task file that is also changed outside of duke.
+ * It remembers the records of the file as duke last loaded or saved it, so that a change made outside
+ * can be told apart from duke's own saves, and so that only the records that changed outside are
+ * loaded again and applied to the list. Changes made in duke that were not saved yet are kept as long
+ * as they do not touch the same records, otherwise the list of duke is kept aside in a conflict file.
+ * The list must be locked by the caller while it is merged.
+ *
+ * @author marcuspeh
+ * @version A-HotReload
+ * @since 18 Oct 2026
+ */
+public class TaskFileSync {
+    /**
+     * Enum file for the outcome of a merge.
+     */
+    public enum Result {
+        /** The file has the same records as duke last saw. */
+        UNCHANGED,
+        /** The records changed outside were applied to the list. */
+        RELOADED,
+        /** The records changed outside were applied on top of changes that are not saved yet. */
+        MERGED,
+        /** The same records were changed in duke and outside, the file was loaded as it is. */
+        CONFLICT
+    }
+
+    /** File the tasks are saved to. */
+    private final Path location;
+    /** Loads the file if it is not a plain txt file. */
+    private final StorageBackend backend;
+    /** Records in the file as duke last loaded or saved it. */
+    private List<String> baseRecords = new ArrayList<>();
+    /** Checksum of the file as duke last loaded or saved it. */
+    private long checksum;
+    /** Time the file was last modified, null if it did not exist. */
+    private FileTime modifiedTime;
+    /** Size of the file in bytes. */
+    private long size;
+    /** Number of records changed outside by the last merge. */
+    private int changedCount;
+
+    /**
+     * Constructor for TaskFileSync.
+     *
+     * @param location File the tasks are saved to.
+     * @param backend Loads the file if it is not a plain txt file.
+     */
+    public TaskFileSync(Path location, StorageBackend backend) {
+        this.location = location;
+        this.backend = backend;
+    }
+
+    /**
+     * Remembers the tasks as the content of the file, after it was loaded or saved by duke.
+     *
+     * @param taskList Tasks in the file.
+     * @param checksum Checksum of the file.
+     * @throws IOException If the file cannot be checked.
+     */
+    public void reset(List<Task> taskList, long checksum) throws IOException {
+        this.baseRecords = toRecords(taskList);
+        this.checksum = checksum;
+        stamp();
+    }
+
+    private void stamp() throws IOException {
+        boolean isSaved = Files.exists(location);
+        modifiedTime = isSaved ? Files.getLastModifiedTime(location) : null;
+        size = isSaved ? Files.size(location) : 0;
+    }
+
+    /**
+     * Checks if the file may have been changed since duke last loaded or saved it, from its time and size.
+     * A missing file is not a change, as it is replaced by the next save.
+     *
+     * @return if the file may have changed.
+     * @throws IOException If the file cannot be checked.
+     */
+    public boolean isModified() throws IOException {
+        return Files.exists(location)
+                && (!Files.getLastModifiedTime(location).equals(modifiedTime) || Files.size(location) != size);
+    }
+
+    /**
+     * Applies the records changed outside of duke to the list. The file is only parsed in full if it
+     * is not a plain txt file, otherwise only the changed records are turned into tasks.
+     * Records that are damaged or are not tasks are left out.
+     *
+     * @param taskList Tasks of duke, locked by the caller.
+     * @return outcome of the merge.
+     * @throws IOException If the file cannot be read.
+     */
+    public Result merge(List<Task> taskList) throws IOException {
+        if (!Files.exists(location)) {
+            return Result.UNCHANGED;
+        }
+        Snapshot remote = readSnapshot();
+        RecordDiff remoteDiff = RecordDiff.between(baseRecords, remote.records);
+        if (remote.checksum == checksum || remoteDiff.isEmpty()) {
+            checksum = remote.checksum;
+            stamp();
+            return Result.UNCHANGED;
+        }
+
+        List<String> localRecords = toRecords(taskList);
+        RecordDiff localDiff = RecordDiff.between(baseRecords, localRecords);
+        Result result;
+        if (!localDiff.isEmpty() && remoteDiff.overlaps(localDiff)) {
+            Files.write(getConflictLocation(), localRecords);
+            taskList.clear();
+            for (int i = 0; i < remote.records.size(); i++) {
+                Task task = remote.taskAt(i);
+                if (task != null) {
+                    taskList.add(task);
+                }
+            }
+            baseRecords = toRecords(taskList);
+            result = Result.CONFLICT;
+        } else {
+            List<String> addedRecords = new ArrayList<>();
+            List<Task> addedTasks = new ArrayList<>();
+            for (int i = remoteDiff.getFrom(); i < remoteDiff.getFrom() + remoteDiff.getAddedCount(); i++) {
+                Task task = remote.taskAt(i);
+                if (task != null) {
+                    addedRecords.add(remote.records.get(i));
+                    addedTasks.add(task);
+                }
+            }
+            int shift = localDiff.getFrom() < remoteDiff.getFrom() ? localDiff.getShift() : 0;
+            remoteDiff.apply(taskList, addedTasks, shift);
+            remoteDiff.apply(baseRecords, addedRecords, 0);
+            result = localDiff.isEmpty() ? Result.RELOADED : Result.MERGED;
+        }
+        changedCount = Math.max(remoteDiff.getRemovedCount(), remoteDiff.getAddedCount());
+        checksum = remote.checksum;
+        stamp();
+        return result;
+    }
+
+    /**
+     * Reads the records of the file. Plain txt files are only split into records, while other files
+     * are loaded by the backend.
+     *
+     * @return records of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    private Snapshot readSnapshot() throws IOException {
+        CRC32 crc = new CRC32();
+        try (BufferedInputStream in = new BufferedInputStream(
+                new CheckedInputStream(Files.newInputStream(location), crc))) {
+            if (Compression.detect(in) == Compression.NONE && SnapshotFormat.detect(in) != SnapshotFormat.BINARY) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in));
+                List<String> records = new ArrayList<>();
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    String record = line.isEmpty() ? null : TextTaskFormat.stripChecksum(line);
+                    if (record != null) {
+                        records.add(record);
+                    }
+                }
+                return new Snapshot(records, null, crc.getValue());
+            }
+        }
+        List<Task> tasks = new ArrayList<>();
+        long fileChecksum = backend.load(tasks);
+        return new Snapshot(toRecords(tasks), tasks, fileChecksum);
+    }
+
+    private static List<String> toRecords(List<Task> taskList) {
+        List<String> records = new ArrayList<>(taskList.size());
+        for (Task task : taskList) {
+            records.add(task.saveOutput());
+        }
+        return records;
+    }
+
+    public int getChangedCount() {
+        return changedCount;
+    }
+
+    public Path getConflictLocation() {
+        return location.resolveSibling(location.getFileName() + ".conflict");
+    }
+
+    /**
+     * Records read from the file, with their tasks if the whole file had to be loaded.
+     */
+    private static class Snapshot {
+        /** Records of the file without their checksums. */
+        private final List<String> records;
+        /** Tasks of the records, null if they are only parsed when needed. */
+        private final List<Task> tasks;
+        /** Checksum of the file. */
+        private final long checksum;
+
+        Snapshot(List<String> records, List<Task> tasks, long checksum) {
+            this.records = records;
+            this.tasks = tasks;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns the task of a record.
+         *
+         * @param index Index of the record.
+         * @return the task, or null if the record is not a task.
+         */
+        Task taskAt(int index) {
+            if (tasks != null) {
+                return tasks.get(index);
+            }
+            try {
+                return TextTaskFormat.toTask(TextTaskFormat.split(records.get(index)));
+            } catch (ParseException e) {
+                return null;
+            }
+        }
+    }
+}
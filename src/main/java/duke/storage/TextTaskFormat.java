@@ -0,0 +1,222 @@
+package duke.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import duke.task.Deadlines;
+import duke.task.Events;
+import duke.task.Task;
+import duke.task.ToDos;
+import duke.util.Keyword;
+import duke.util.Ui;
+
+/**
+ * Reads tasks saved in the txt format produced by {@link Task#saveOutput()}.
+ * Format is as follow: {@literal <}Type(T/D/E){@literal >} | {@literal <}Description{@literal >} |
+ * {@literal <}Done{@literal >} | {@literal <}DateTime if applicable{@literal >}.
+ *
+ * <p>A line can start with the CRC32 of the rest of the line as 8 hex digits, e.g.
+ * {@code 0a1b2c3d | T | read book | 0}, so that a damaged line is detected instead of being mis-parsed.
+ * Lines with and without a checksum can be mixed, and a damaged line only loses that line.
+ *
+ * @author marcuspeh
+ * @version A-Recovery
+ * @since 18 Oct 2026
+ */
+public class TextTaskFormat {
+    /** Separator between the fields of a saved task. */
+    public static final String SEPARATOR = " | ";
+    /** Regex used to split a saved task into its fields. */
+    private static final String SEPARATOR_REGEX = " \\| ";
+    /** Value of the done field for a task that is done. */
+    private static final String DONE = "1";
+    /** Number of hex digits of a checksum. */
+    private static final int CHECKSUM_LENGTH = 8;
+    /** Length of a checksum followed by the separator. */
+    private static final int PREFIX_LENGTH = CHECKSUM_LENGTH + SEPARATOR.length();
+
+    /**
+     * Splits a saved line into its fields.
+     *
+     * @param line Line from the txt file.
+     * @return fields of the saved task.
+     */
+    public static String[] split(String line) {
+        return line.split(SEPARATOR_REGEX);
+    }
+
+    /**
+     * Calculates the checksum of a record.
+     *
+     * @param record Record without a checksum.
+     * @return CRC32 of the UTF-8 bytes of the record.
+     */
+    public static long checksum(String record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * Adds the checksum of the record in front of it.
+     *
+     * @param record Record without a checksum.
+     * @return record starting with its checksum.
+     */
+    public static String withChecksum(String record) {
+        return String.format("%08x", checksum(record)) + SEPARATOR + record;
+    }
+
+    /**
+     * Checks if the line starts with a checksum.
+     *
+     * @param line Line from the file.
+     * @return if the line starts with 8 hex digits and the separator.
+     */
+    public static boolean hasChecksum(String line) {
+        if (line.length() < PREFIX_LENGTH || !line.startsWith(SEPARATOR, CHECKSUM_LENGTH)) {
+            return false;
+        }
+        for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+            if (Character.digit(line.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the checksum in front of the record after checking it.
+     * Lines without a checksum are returned as they are.
+     *
+     * @param line Line from the file.
+     * @return record without the checksum, or null if the checksum does not match.
+     */
+    public static String stripChecksum(String line) {
+        if (!hasChecksum(line)) {
+            return line;
+        }
+        String record = line.substring(PREFIX_LENGTH);
+        long expected = Long.parseLong(line.substring(0, CHECKSUM_LENGTH), 16);
+        return checksum(record) == expected ? record : null;
+    }
+
+    /**
+     * Converts the fields of a saved line back into a task.
+     * If the fields do not describe a task, null will be returned.
+     *
+     * @param taskData Fields of the saved task.
+     * @return the task described by the fields.
+     * @throws ParseException Date / Time format is invalid.
+     */
+    public static Task toTask(String[] taskData) throws ParseException {
+        if (taskData.length != 3 && taskData.length != 4) {
+            return null;
+        }
+        boolean isDone = taskData[2].equals(DONE);
+        if (taskData[0].equals(Keyword.TODOS.getSaveWord())) {
+            return new ToDos(taskData[1], isDone);
+        } else if (taskData.length != 4) {
+            return null;
+        } else if (taskData[0].equals(Keyword.DEADLINE.getSaveWord())) {
+            return new Deadlines(taskData[1], taskData[3], isDone);
+        } else if (taskData[0].equals(Keyword.EVENTS.getSaveWord())) {
+            return new Events(taskData[1], taskData[3], isDone);
+        }
+        return null;
+    }
+
+    /**
+     * Converts a saved line back into a task, checking its checksum if it has one.
+     * If the line does not describe a task or is damaged, null will be returned.
+     *
+     * @param line Line from the txt file.
+     * @return the task described by the line.
+     * @throws ParseException Date / Time format is invalid.
+     */
+    public static Task toTask(String line) throws ParseException {
+        String record = stripChecksum(line);
+        return record == null ? null : toTask(split(record));
+    }
+
+    /**
+     * Reads every saved line of the stream into the task list.
+     * Lines that are damaged or are not tasks are skipped, and reported together with tasks with
+     * invalid Date / Time. Empty lines are ignored.
+     *
+     * @param in Stream of the txt file.
+     * @param taskList List to add the tasks to.
+     * @param ui To deal with the error messages.
+     * @return report of the lines that were loaded and lost.
+     * @throws IOException If the stream cannot be read.
+     */
+    public static RecoveryReport read(InputStream in, List<Task> taskList, Ui ui) throws IOException {
+        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(in));
+        RecoveryReport report = new RecoveryReport();
+        int lineNumber = 0;
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty()) {
+                continue;
+            }
+            String record = stripChecksum(line);
+            if (record == null) {
+                report.addLost(lineNumber, "checksum mismatch", line);
+                continue;
+            }
+            String[] taskData = split(record);
+            try {
+                Task task = toTask(taskData);
+                if (task == null) {
+                    report.addLost(lineNumber, "not a task", line);
+                } else {
+                    taskList.add(task);
+                    report.addRecovered(1);
+                }
+            } catch (ParseException e) {
+                ui.formatImportTaskErrorMessage(taskData[1]);
+                report.addLost(lineNumber, "invalid date", line);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Writes every task as a saved line to the stream.
+     *
+     * @param out Stream of the txt file.
+     * @param taskList list of task to be stored.
+     * @throws IOException If the stream cannot be written.
+     */
+    public static void write(OutputStream out, List<Task> taskList) throws IOException {
+        write(out, taskList, false);
+    }
+
+    /**
+     * Writes every task as a saved line to the stream.
+     *
+     * @param out Stream of the txt file.
+     * @param taskList list of task to be stored.
+     * @param isChecked Whether each line starts with its checksum.
+     * @throws IOException If the stream cannot be written.
+     */
+    public static void write(OutputStream out, List<Task> taskList, boolean isChecked) throws IOException {
+        BufferedWriter bufferedWriter = new BufferedWriter(new OutputStreamWriter(out));
+        for (Task task : taskList) {
+            String record = task.saveOutput();
+            bufferedWriter.write(isChecked ? withChecksum(record) : record);
+            bufferedWriter.newLine();
+        }
+        bufferedWriter.flush();
+    }
+}
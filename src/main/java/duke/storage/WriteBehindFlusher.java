@@ -0,0 +1,147 @@
+package duke.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import duke.task.Task;
+
+/**
+ * Saves the task list in the background instead of on every change. A change only marks the list
+ * as dirty, and the list is saved at most once per interval, so a burst of changes costs a single write.
+ * With an interval of 0, the list is saved as soon as the background thread is free, so only the changes
+ * made while a save is running share the next write.
+ * The writer is given the list itself from the background thread, so it must copy what it saves while
+ * holding the lock of the list, and callers must change the list while holding that lock.
+ *
+ * <p>Each change gets a future that completes once a write that includes it has finished, so the
+ * flusher also serves as a group commit: concurrent saves that arrive within the interval share a single
+ * write and a single fsync, and each caller can wait until its change is on the disk.
+ *
+ * @author marcuspeh
+ * @version A-Snapshots
+ * @since 18 Oct 2026
+ */
+public class WriteBehindFlusher implements Closeable {
+    /**
+     * Saves the task list.
+     */
+    public interface Writer {
+        /**
+         * Saves the task list.
+         *
+         * @param taskList list of task to be stored, which may still be changed by other threads.
+         * @throws IOException If the list cannot be saved.
+         */
+        void write(List<Task> taskList) throws IOException;
+    }
+
+    /** Milliseconds to wait after the first change before saving. */
+    private final long interval;
+    /** Saves the task list. */
+    private final Writer writer;
+    /** Runs the flushes in the background. */
+    private final ScheduledExecutorService scheduler;
+    /** Makes sure only one flush writes at a time. */
+    private final Object flushLock = new Object();
+    /** List that changed since the last flush, null if nothing changed. */
+    private List<Task> dirtyList;
+    /** Completes once the changes since the last flush are saved. */
+    private CompletableFuture<Void> pendingWrite = new CompletableFuture<>();
+    /** Flush that is waiting to run. */
+    private ScheduledFuture<?> scheduled;
+    /** Number of times the list was saved. */
+    private int flushCount;
+
+    /**
+     * Constructor for WriteBehindFlusher.
+     *
+     * @param interval Milliseconds to wait after the first change before saving.
+     * @param writer Saves the task list.
+     */
+    public WriteBehindFlusher(long interval, Writer writer) {
+        this.interval = interval;
+        this.writer = writer;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Marks the list as changed. It will be saved once the interval has passed, or straight away
+     * if the flusher is closed.
+     *
+     * @param taskList list of task to be stored.
+     * @return future that completes once the change is saved, or fails with the error of the save.
+     */
+    public CompletableFuture<Void> markDirty(List<Task> taskList) {
+        CompletableFuture<Void> write;
+        boolean isClosed;
+        synchronized (this) {
+            dirtyList = taskList;
+            write = pendingWrite;
+            isClosed = scheduler.isShutdown();
+            if (scheduled == null && !isClosed) {
+                scheduled = scheduler.schedule(this::flush, interval, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (isClosed) {
+            flush();
+        }
+        return write;
+    }
+
+    /**
+     * Saves the list now if it changed since the last flush, and completes the futures of the changes.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<Task> taskList;
+            CompletableFuture<Void> write;
+            synchronized (this) {
+                taskList = dirtyList;
+                write = pendingWrite;
+                dirtyList = null;
+                pendingWrite = new CompletableFuture<>();
+                scheduled = null;
+            }
+            if (taskList == null) {
+                return;
+            }
+            try {
+                writer.write(taskList);
+                write.complete(null);
+            } catch (IOException | RuntimeException e) {
+                write.completeExceptionally(e);
+            }
+            flushCount++;
+        }
+    }
+
+    public int getFlushCount() {
+        synchronized (flushLock) {
+            return flushCount;
+        }
+    }
+
+    /**
+     * Stops the background flushes and saves any change that is left.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            scheduler.shutdown();
+        }
+        flush();
+    }
+}
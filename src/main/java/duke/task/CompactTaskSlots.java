@@ -0,0 +1,166 @@
+package duke.task;
+
+import java.util.BitSet;
+
+/**
+ * Slots that keep each task only as its fields, in parallel primitive arrays: the type, whether it is done,
+ * the date / time in milliseconds since the epoch, the handle of its description in a pool and its id.
+ * This takes about 20 bytes for each task besides the description, instead of the task object and its Date.
+ * Equal descriptions are kept once in the pool, and Latin-1 ones as bytes.
+ * Each read returns a new task with the same fields and id, so a change to a task that was read, such as
+ * marking it as done, is only kept once the task is put back in its slot.
+ *
+ * @author marcuspeh
+ * @version A-Snapshots
+ * @since 18 Oct 2026
+ */
+class CompactTaskSlots implements TaskSlots {
+    /** Type of an empty slot. */
+    private static final byte EMPTY = 0;
+    /** Type of a todo. */
+    private static final byte TODO = 1;
+    /** Type of a deadline. */
+    private static final byte DEADLINE = 2;
+    /** Type of an event. */
+    private static final byte EVENT = 3;
+
+    /** Type of the task in each slot. */
+    private final byte[] types;
+    /** Slots holding a task that is done. */
+    private final BitSet done;
+    /** Date / time of the task in each slot, in milliseconds since the epoch. */
+    private final long[] dateTimes;
+    /** Handle of the description of the task in each slot. */
+    private final int[] descriptions;
+    /** Id of the task in each slot. */
+    private final int[] ids;
+    /** Descriptions of the tasks, shared with the slots this was compacted from. */
+    private final DescriptionPool pool;
+
+    /**
+     * Constructor for CompactTaskSlots.
+     *
+     * @param capacity Number of slots.
+     * @param pool Pool to keep the descriptions in.
+     */
+    CompactTaskSlots(int capacity, DescriptionPool pool) {
+        this(new byte[capacity], new BitSet(capacity), new long[capacity], new int[capacity], new int[capacity],
+                pool);
+    }
+
+    private CompactTaskSlots(byte[] types, BitSet done, long[] dateTimes, int[] descriptions, int[] ids,
+            DescriptionPool pool) {
+        this.types = types;
+        this.done = done;
+        this.dateTimes = dateTimes;
+        this.descriptions = descriptions;
+        this.ids = ids;
+        this.pool = pool;
+    }
+
+    DescriptionPool getPool() {
+        return pool;
+    }
+
+    @Override
+    public int capacity() {
+        return types.length;
+    }
+
+    @Override
+    public Task get(int slot) {
+        Task task;
+        String description = pool.get(descriptions[slot]);
+        if (types[slot] == DEADLINE) {
+            task = new Deadlines(description, dateTimes[slot], done.get(slot));
+        } else if (types[slot] == EVENT) {
+            task = new Events(description, dateTimes[slot], done.get(slot));
+        } else if (types[slot] == TODO) {
+            task = new ToDos(description, done.get(slot));
+        } else {
+            return null;
+        }
+        task.setId(ids[slot]);
+        return task;
+    }
+
+    @Override
+    public boolean isEmpty(int slot) {
+        return types[slot] == EMPTY;
+    }
+
+    @Override
+    public int idAt(int slot) {
+        return ids[slot];
+    }
+
+    /**
+     * Puts the fields of the task in the slot. A lazily loaded description is loaded first. The description
+     * of the task in the slot is kept if it is the same, e.g. when a task is put back after being marked done.
+     */
+    @Override
+    public void set(int slot, Task task) {
+        String description = task.getTask();
+        if (types[slot] == EMPTY) {
+            descriptions[slot] = pool.add(description);
+        } else if (!pool.matches(descriptions[slot], description)) {
+            pool.release(descriptions[slot]);
+            descriptions[slot] = pool.add(description);
+        }
+        types[slot] = typeOf(task);
+        done.set(slot, task.getIsDone());
+        dateTimes[slot] = task.getDateTimeMillis();
+        ids[slot] = task.getId();
+    }
+
+    private static byte typeOf(Task task) {
+        if (task instanceof Deadlines) {
+            return DEADLINE;
+        } else if (task instanceof Events) {
+            return EVENT;
+        }
+        return TODO;
+    }
+
+    @Override
+    public void clear(int slot) {
+        pool.release(descriptions[slot]);
+        types[slot] = EMPTY;
+        done.clear(slot);
+    }
+
+    /**
+     * Creates empty slots with a pool of their own, as every task is put in the new slots again.
+     */
+    @Override
+    public TaskSlots newSlots(int capacity) {
+        return new CompactTaskSlots(capacity, new DescriptionPool());
+    }
+
+    @Override
+    public TaskSlots compacted(int capacity, int slotCount) {
+        CompactTaskSlots compacted = new CompactTaskSlots(capacity, pool);
+        int count = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (types[slot] != EMPTY) {
+                compacted.types[count] = types[slot];
+                compacted.done.set(count, done.get(slot));
+                compacted.dateTimes[count] = dateTimes[slot];
+                compacted.descriptions[count] = descriptions[slot];
+                compacted.ids[count] = ids[slot];
+                count++;
+            }
+        }
+        return compacted;
+    }
+
+    /**
+     * Copies the fields along with the pool, as the descriptions released by the copy must stay in the pool
+     * of these slots.
+     */
+    @Override
+    public TaskSlots copy() {
+        return new CompactTaskSlots(types.clone(), (BitSet) done.clone(), dateTimes.clone(), descriptions.clone(),
+                ids.clone(), pool.copy());
+    }
+}
@@ -1,6 +1,7 @@
 package duke.task;
 
 import java.text.ParseException;
+import java.util.function.Supplier;
 
 /**
  * Class to store deadline. Subclass of task.
@@ -32,6 +33,28 @@ public class Deadlines extends Task {
         super(task, dateTime, done);
     }
 
+    /**
+     * Constructor for Deadline.
+     *
+     * @param task task to be stored.
+     * @param dateTime dateTime for the task in milliseconds since the epoch.
+     * @param done whether the task is done.
+     */
+    public Deadlines(String task, long dateTime, boolean done) {
+        super(task, dateTime, done);
+    }
+
+    /**
+     * Constructor for Deadline whose description is only loaded when it is first needed.
+     *
+     * @param lazyTask Loads the task to be stored.
+     * @param dateTime dateTime for the task in milliseconds since the epoch.
+     * @param done whether the task is done.
+     */
+    public Deadlines(Supplier<String> lazyTask, long dateTime, boolean done) {
+        super(lazyTask, dateTime, done);
+    }
+
     /**
      * Saves the task to the txt file.
      * Format is as follow: {@literal <}Type(D){@literal >} | {@literal <}Description{@literal >} |
@@ -0,0 +1,272 @@
+package duke.task;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Descriptions of the tasks kept as fields, each under a handle. Equal descriptions share one handle, which
+ * is counted for each task using it, so a description repeated across many tasks is kept once. Descriptions
+ * made only of Latin-1 characters, such as plain ASCII, are kept as their bytes without a String around
+ * them, and a String is created each time one is read.
+ *
+ * <p>The descriptions are found by their content with an open addressing table of handles, so that the pool
+ * does not need an object for each entry. The handle of a released description is given to the next new
+ * description, so that the pool does not grow as tasks are deleted and added. The pool also counts how often
+ * a description was already in it and estimates the bytes this saves, to check the heap it saves on a list.
+ *
+ * @author marcuspeh
+ * @version A-Snapshots
+ * @since 18 Oct 2026
+ */
+public class DescriptionPool {
+    /** Estimated bytes of a String object, without its bytes, with compressed references. */
+    private static final int STRING_BYTES = 24;
+    /** Estimated bytes of the header of an array, with compressed references. */
+    private static final int ARRAY_HEADER_BYTES = 16;
+    /** Highest character that can be kept as a single byte. */
+    private static final char MAX_LATIN1 = 0xFF;
+
+    /** Description under each handle, as Latin-1 bytes or a String, null if the handle is free. */
+    private Object[] descriptions = new Object[16];
+    /** Number of tasks using the description under each handle. */
+    private int[] useCounts = new int[16];
+    /** Number of handles given out, including the free ones. */
+    private int size;
+    /** Handles that were released, to be given out again. */
+    private int[] free = new int[16];
+    /** Number of free handles. */
+    private int freeCount;
+    /** Each handle plus one at the slot its description hashes to or the next empty one, 0 if the slot is empty. */
+    private int[] table = new int[32];
+    /** Number of descriptions in the table. */
+    private int entryCount;
+    /** Number of descriptions added. */
+    private long addCount;
+    /** Number of descriptions added that were already in the pool. */
+    private long hitCount;
+    /** Estimated bytes saved by sharing and by keeping descriptions as bytes, for the descriptions kept now. */
+    private long bytesSaved;
+
+    /**
+     * Adds a description to the pool, or counts one more use of it if it is already in the pool.
+     *
+     * @param description Description to add.
+     * @return handle of the description.
+     */
+    public int add(String description) {
+        addCount++;
+        int mask = table.length - 1;
+        int slot = hash(description) & mask;
+        while (table[slot] != 0) {
+            int handle = table[slot] - 1;
+            if (matches(handle, description)) {
+                useCounts[handle]++;
+                hitCount++;
+                bytesSaved += stringBytes(description.length(), isLatin1(description));
+                return handle;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int handle = newHandle();
+        boolean isLatin1 = isLatin1(description);
+        descriptions[handle] = isLatin1 ? description.getBytes(StandardCharsets.ISO_8859_1) : description;
+        useCounts[handle] = 1;
+        bytesSaved += isLatin1 ? STRING_BYTES : 0;
+        table[slot] = handle + 1;
+        entryCount++;
+        if (entryCount * 3 > table.length * 2) {
+            resizeTable();
+        }
+        return handle;
+    }
+
+    private int newHandle() {
+        if (freeCount > 0) {
+            return free[--freeCount];
+        }
+        if (size == descriptions.length) {
+            descriptions = Arrays.copyOf(descriptions, size + size / 2);
+            useCounts = Arrays.copyOf(useCounts, descriptions.length);
+        }
+        return size++;
+    }
+
+    /**
+     * Reads the description under the handle.
+     *
+     * @param handle Handle of the description.
+     * @return the description.
+     */
+    public String get(int handle) {
+        Object description = descriptions[handle];
+        return description instanceof byte[]
+                ? new String((byte[]) description, StandardCharsets.ISO_8859_1)
+                : (String) description;
+    }
+
+    /**
+     * Checks if the description under the handle is equal to the description, without creating a String.
+     *
+     * @param handle Handle of a description.
+     * @param description Description to compare with.
+     * @return if they are equal.
+     */
+    public boolean matches(int handle, String description) {
+        Object kept = descriptions[handle];
+        if (!(kept instanceof byte[])) {
+            return kept.equals(description);
+        }
+        byte[] bytes = (byte[]) kept;
+        if (bytes.length != description.length()) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if ((bytes[i] & 0xFF) != description.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Releases one use of a description. Once no task uses it, it is removed and its handle can be given
+     * out again.
+     *
+     * @param handle Handle of the description.
+     */
+    public void release(int handle) {
+        Object description = descriptions[handle];
+        boolean isLatin1 = description instanceof byte[];
+        int length = isLatin1 ? ((byte[]) description).length : ((String) description).length();
+        if (--useCounts[handle] > 0) {
+            bytesSaved -= stringBytes(length, isLatin1);
+            return;
+        }
+        removeFromTable(handle);
+        bytesSaved -= isLatin1 ? STRING_BYTES : 0;
+        descriptions[handle] = null;
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount++] = handle;
+    }
+
+    /**
+     * Removes the handle from the table, moving the handles after it back so that each can still be found
+     * from the slot its description hashes to.
+     */
+    private void removeFromTable(int handle) {
+        int mask = table.length - 1;
+        int empty = hashAt(handle) & mask;
+        while (table[empty] != handle + 1) {
+            empty = (empty + 1) & mask;
+        }
+        table[empty] = 0;
+        entryCount--;
+        for (int slot = (empty + 1) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int home = hashAt(table[slot] - 1) & mask;
+            boolean isBetween = empty <= slot ? empty < home && home <= slot : empty < home || home <= slot;
+            if (!isBetween) {
+                table[empty] = table[slot];
+                table[slot] = 0;
+                empty = slot;
+            }
+        }
+    }
+
+    private void resizeTable() {
+        int[] oldTable = table;
+        table = new int[oldTable.length * 2];
+        int mask = table.length - 1;
+        for (int entry : oldTable) {
+            if (entry != 0) {
+                int slot = hashAt(entry - 1) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = entry;
+            }
+        }
+    }
+
+    private static int hash(String description) {
+        int hash = description.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Hashes the description under the handle the same way as {@link #hash(String)}, without creating a String.
+     */
+    private int hashAt(int handle) {
+        Object description = descriptions[handle];
+        if (!(description instanceof byte[])) {
+            return hash((String) description);
+        }
+        int hash = 0;
+        for (byte b : (byte[]) description) {
+            hash = 31 * hash + (b & 0xFF);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean isLatin1(String description) {
+        for (int i = 0; i < description.length(); i++) {
+            if (description.charAt(i) > MAX_LATIN1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the bytes of a String of the length, rounded up to 8 bytes like the objects on the heap.
+     */
+    private static long stringBytes(int length, boolean isLatin1) {
+        long valueBytes = ARRAY_HEADER_BYTES + (long) length * (isLatin1 ? 1 : 2);
+        return STRING_BYTES + (valueBytes + 7) / 8 * 8;
+    }
+
+    /**
+     * Copies the pool, so that the copy can be changed without changing this one. The descriptions themselves
+     * are never changed, so they are shared.
+     *
+     * @return copy of the pool with the same handles.
+     */
+    DescriptionPool copy() {
+        DescriptionPool copy = new DescriptionPool();
+        copy.descriptions = descriptions.clone();
+        copy.useCounts = useCounts.clone();
+        copy.size = size;
+        copy.free = free.clone();
+        copy.freeCount = freeCount;
+        copy.table = table.clone();
+        copy.entryCount = entryCount;
+        copy.addCount = addCount;
+        copy.hitCount = hitCount;
+        copy.bytesSaved = bytesSaved;
+        return copy;
+    }
+
+    /**
+     * Returns the fraction of the descriptions added that were already in the pool.
+     *
+     * @return hit rate from 0 to 1, or 0 if nothing was added.
+     */
+    public double getHitRate() {
+        return addCount == 0 ? 0 : (double) hitCount / addCount;
+    }
+
+    public long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * Returns the number of different descriptions kept.
+     *
+     * @return number of descriptions.
+     */
+    public int getDescriptionCount() {
+        return entryCount;
+    }
+}
@@ -0,0 +1,78 @@
+package duke.task;
+
+/**
+ * Slots that keep each task as the object itself.
+ *
+ * @author marcuspeh
+ * @version A-Snapshots
+ * @since 18 Oct 2026
+ */
+class ObjectTaskSlots implements TaskSlots {
+    /** Tasks in the slots, null where a slot is empty. */
+    private final Task[] tasks;
+
+    /**
+     * Constructor for ObjectTaskSlots.
+     *
+     * @param capacity Number of slots.
+     */
+    ObjectTaskSlots(int capacity) {
+        this(new Task[capacity]);
+    }
+
+    private ObjectTaskSlots(Task[] tasks) {
+        this.tasks = tasks;
+    }
+
+    @Override
+    public int capacity() {
+        return tasks.length;
+    }
+
+    @Override
+    public Task get(int slot) {
+        return tasks[slot];
+    }
+
+    @Override
+    public boolean isEmpty(int slot) {
+        return tasks[slot] == null;
+    }
+
+    @Override
+    public int idAt(int slot) {
+        return tasks[slot].getId();
+    }
+
+    @Override
+    public void set(int slot, Task task) {
+        tasks[slot] = task;
+    }
+
+    @Override
+    public void clear(int slot) {
+        tasks[slot] = null;
+    }
+
+    @Override
+    public TaskSlots newSlots(int capacity) {
+        return new ObjectTaskSlots(capacity);
+    }
+
+    @Override
+    public TaskSlots compacted(int capacity, int slotCount) {
+        ObjectTaskSlots compacted = new ObjectTaskSlots(capacity);
+        int count = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (tasks[slot] != null) {
+                compacted.tasks[count++] = tasks[slot];
+            }
+        }
+        return compacted;
+    }
+
+    @Override
+    public TaskSlots copy() {
+        return new ObjectTaskSlots(tasks.clone());
+    }
+}
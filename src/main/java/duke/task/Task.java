@@ -3,25 +3,32 @@ package duke.task;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.function.Supplier;
 
 /**
  * Abstract Class to manage task stored in chatbot.
  *
  * @author marcuspeh
- * @version A-JavaDoc
+ * @version A-TaskId
  * @since 23 Aug 2021
  */
 public abstract class Task {
     /** Date format. */
     private static final String DATETIME = "dd/MM/yy HHmm";
-    private static final SimpleDateFormat formatDateTime = new SimpleDateFormat(DATETIME);
+    /** SimpleDateFormat is not thread-safe, so each thread loading or saving tasks gets its own. */
+    private static final ThreadLocal<SimpleDateFormat> formatDateTime =
+            ThreadLocal.withInitial(() -> new SimpleDateFormat(DATETIME));
 
-    /** Stores the task. */
+    /** Stores the task, null until a lazily loaded description is first needed. */
     private String task;
+    /** Loads the description from the txt file, null if the description was given straight away. */
+    private Supplier<String> lazyTask;
     /** Stores if the task is done. */
     private boolean isDone;
     /** Stores the date time for the task. */
     private Date dateTime;
+    /** Id given by the task list when the task is first added to it, -1 before. */
+    private int id = -1;
 
     /**
      * Constructor for duke.task.Task.
@@ -55,7 +62,7 @@ public abstract class Task {
     Task(String task, String dateTime, boolean isDone) throws ParseException {
         this.task = task;
         this.isDone = isDone;
-        this.dateTime = formatDateTime.parse(dateTime);
+        this.dateTime = formatDateTime.get().parse(dateTime);
     }
 
     /**
@@ -68,7 +75,44 @@ public abstract class Task {
     Task(String task, String dateTime) throws ParseException {
         this.task = task;
         this.isDone = false;
-        this.dateTime = formatDateTime.parse(dateTime);
+        this.dateTime = formatDateTime.get().parse(dateTime);
+    }
+
+    /**
+     * Constructor for duke.task.Task.
+     *
+     * @param task duke.task.Task to be stored.
+     * @param dateTime Date / Time of the task in milliseconds since the epoch.
+     * @param isDone Whether the task is done.
+     */
+    Task(String task, long dateTime, boolean isDone) {
+        this.task = task;
+        this.isDone = isDone;
+        this.dateTime = new Date(dateTime);
+    }
+
+    /**
+     * Constructor for duke.task.Task whose description is only loaded when it is first needed.
+     *
+     * @param lazyTask Loads the task to be stored.
+     * @param isDone Whether the task is done.
+     */
+    Task(Supplier<String> lazyTask, boolean isDone) {
+        this.lazyTask = lazyTask;
+        this.isDone = isDone;
+    }
+
+    /**
+     * Constructor for duke.task.Task whose description is only loaded when it is first needed.
+     *
+     * @param lazyTask Loads the task to be stored.
+     * @param dateTime Date / Time of the task in milliseconds since the epoch.
+     * @param isDone Whether the task is done.
+     */
+    Task(Supplier<String> lazyTask, long dateTime, boolean isDone) {
+        this.lazyTask = lazyTask;
+        this.isDone = isDone;
+        this.dateTime = new Date(dateTime);
     }
 
     /**
@@ -100,16 +144,63 @@ public abstract class Task {
         return isDone;
     }
 
+    /**
+     * Returns the description of the task, loading it first if it was loaded lazily.
+     * Threads loading the same description at once each get an equal String.
+     *
+     * @return description of the task.
+     */
     public String getTask() {
-        return task;
+        String description = task;
+        if (description == null) {
+            description = lazyTask.get();
+            task = description;
+        }
+        return description;
+    }
+
+    /**
+     * Checks if the description has been loaded.
+     *
+     * @return if the description is in memory.
+     */
+    public boolean isLoaded() {
+        return task != null;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    void setId(int id) {
+        this.id = id;
     }
 
     public String getDateTime() {
-        return formatDateTime.format(dateTime);
+        return formatDateTime.get().format(dateTime);
+    }
+
+    /**
+     * Checks if the task has a date / time, i.e. it is a deadline or an event.
+     *
+     * @return if the task has a date / time.
+     */
+    public boolean hasDateTime() {
+        return dateTime != null;
+    }
+
+    /**
+     * Returns the date / time of the task in milliseconds since the epoch.
+     * If the task has no date / time, 0 will be returned.
+     *
+     * @return date / time in milliseconds.
+     */
+    public long getDateTimeMillis() {
+        return dateTime == null ? 0 : dateTime.getTime();
     }
 
     @Override
     public String toString() {
-        return (isDone ? "[X] " : "[ ] ") + task.toString();
+        return (isDone ? "[X] " : "[ ] ") + getTask();
     }
 }
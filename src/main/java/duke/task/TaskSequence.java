@@ -0,0 +1,665 @@
+package duke.task;
+
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * List of tasks in which each task has a stable id, and in which deleting a task does not shift the tasks
+ * after it. The tasks are kept in slots in the order of the list, and a deleted task only leaves an empty
+ * slot. A Fenwick tree counts the tasks in the slots, so the slot of the nth task and the position of a slot
+ * are both found in O(log n), or in O(1) before the first empty slot. The empty slots are compacted once
+ * they outnumber the tasks, which keeps deletes O(log n) amortized, even from the front of a long list.
+ *
+ * <p>Each task is given an id when it is first added, which it keeps for as long as Duke runs, even as
+ * the tasks before it are deleted. The slot of each id is kept in an array, so a task is found by its id
+ * in O(1) and its position in O(log n). Adding to the end of the list is O(log n) amortized, while adding
+ * in the middle, which only happens when the task file is reloaded, rebuilds the list in O(n).
+ *
+ * <p>A compact list keeps the tasks only as their fields in {@link CompactTaskSlots}, with a much smaller
+ * footprint for long lists. Each task read from it is a new task with the same fields and id, so a task
+ * changed after it is read, e.g. marked as done, has to be set back into the list for the change to be kept.
+ * Its descriptions are kept in a {@link DescriptionPool}, which keeps equal descriptions once. A list that
+ * is rebuilt, e.g. when cleared or when tasks are inserted in the middle, starts a new pool.
+ *
+ * <p>The list is changed while holding its lock, and may be read without it in the same way as with
+ * {@link java.util.concurrent.locks.StampedLock}: the reader takes a stamp, reads, and validates the stamp,
+ * which fails if any change overlapped the read, in which case it reads again under the lock. Each change
+ * to the list invalidates the stamps, and callers changing other data along with the list mark the whole
+ * change with {@link #beginChange()} and {@link #endChange()}. Changes thus stay as cheap as a lock,
+ * while reads do not wait for each other.
+ *
+ * <p>A snapshot of the list is taken in O(1), as it shares the slots, which are copied before the list is
+ * next changed. It is used to save the list on another thread while the list is changed, and costs at most
+ * one copy of the slots, instead of holding the lock while the list is saved.
+ *
+ * @author marcuspeh
+ * @version A-BulkChanges
+ * @since 18 Oct 2026
+ */
+public class TaskSequence extends AbstractList<Task> implements RandomAccess {
+    /** Smallest number of slots. */
+    private static final int MIN_CAPACITY = 16;
+
+    /** Tasks in the order of the list, with empty slots where a task was deleted. */
+    private TaskSlots slots;
+    /** Fenwick tree of the number of tasks in the slots, starting from 1. */
+    private int[] tree;
+    /** Number of slots used, including the empty ones. */
+    private int slotCount;
+    /** First empty slot, or the number of slots used if there is none. Each task before it is in its own slot. */
+    private int firstHole;
+    /** Number of tasks. */
+    private int size;
+    /** Slot of the task with each id, -1 once the task is deleted. */
+    private int[] slotOfId = new int[MIN_CAPACITY];
+    /** Id of the next task that is added for the first time. */
+    private int nextId;
+    /**
+     * Odd while the list is being changed, and increased by two with each change, so that reads without
+     * the lock can tell if they overlapped a change.
+     */
+    private volatile long sequence;
+    /** Number of changes started and not ended yet, as changes may be nested. */
+    private int changeDepth;
+    /** Snapshot sharing the slots, which have to be copied before they are changed, or null if there is none. */
+    private Snapshot snapshot;
+
+    /**
+     * Constructor for an empty TaskSequence.
+     */
+    public TaskSequence() {
+        this(List.of());
+    }
+
+    /**
+     * Constructor for TaskSequence.
+     *
+     * @param tasks Tasks in the order of the list.
+     */
+    public TaskSequence(Collection<Task> tasks) {
+        this(tasks, false);
+    }
+
+    /**
+     * Constructor for TaskSequence that may keep the tasks only as their fields.
+     *
+     * @param tasks Tasks in the order of the list.
+     * @param isCompact Whether the tasks are kept as their fields instead of as objects.
+     */
+    public TaskSequence(Collection<Task> tasks, boolean isCompact) {
+        slots = isCompact ? new CompactTaskSlots(MIN_CAPACITY, new DescriptionPool())
+                : new ObjectTaskSlots(MIN_CAPACITY);
+        rebuild(tasks.toArray(new Task[0]), tasks.size());
+    }
+
+    @Override
+    public Task get(int index) {
+        checkIndex(index, size);
+        return slots.get(slotAt(index));
+    }
+
+    /**
+     * Finds the task with the id.
+     *
+     * @param id Id of the task.
+     * @return the task, or null if it is not in the list.
+     */
+    public Task getById(int id) {
+        int slot = id >= 0 && id < nextId ? slotOfId[id] : -1;
+        return slot < 0 ? null : slots.get(slot);
+    }
+
+    /**
+     * Finds the id of the task at the position, without building the task.
+     *
+     * @param index Position of the task starting from 0.
+     * @return id of the task.
+     */
+    public int idAt(int index) {
+        checkIndex(index, size);
+        return slots.idAt(slotAt(index));
+    }
+
+    /**
+     * Finds the position of the task with the id.
+     *
+     * @param id Id of the task.
+     * @return position of the task starting from 0, or -1 if it is not in the list.
+     */
+    public int indexOfId(int id) {
+        int slot = id >= 0 && id < nextId ? slotOfId[id] : -1;
+        return slot < 0 ? -1 : countUpTo(slot) - 1;
+    }
+
+    /**
+     * Returns the pool the descriptions of a compact list are kept in, e.g. to report how much it saves.
+     *
+     * @return the pool, or null if the tasks are kept as objects.
+     */
+    public DescriptionPool getDescriptionPool() {
+        return slots instanceof CompactTaskSlots ? ((CompactTaskSlots) slots).getPool() : null;
+    }
+
+    /**
+     * Takes a snapshot of the tasks as they are now, which later changes to the list do not change.
+     * It must be taken while holding the lock of the list, and tasks kept as objects must not be changed
+     * in place, see {@link #markDone(int)}. The same snapshot is returned until the list is changed, so that
+     * the positions it finds are reused.
+     *
+     * @return unmodifiable list of the tasks.
+     */
+    public List<Task> snapshot() {
+        if (snapshot == null) {
+            snapshot = new Snapshot(slots, slotCount, size, firstHole);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Copies the slots if they are shared with a snapshot, before they are changed.
+     */
+    private void copyIfShared() {
+        if (snapshot != null) {
+            slots = slots.copy();
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Marks the task at the position as done. The task is replaced by a copy that is done instead of being
+     * changed, so that a snapshot taken before still has the task as it was.
+     *
+     * @param index Position of the task, starting from 0.
+     * @return if update is successful, i.e. the task was not done yet.
+     */
+    public boolean markDone(int index) {
+        Task task = copyOf(get(index));
+        if (!task.markDone()) {
+            return false;
+        }
+        set(index, task);
+        return true;
+    }
+
+    private static Task copyOf(Task task) {
+        Task copy;
+        if (task instanceof Deadlines) {
+            copy = new Deadlines(task.getTask(), task.getDateTimeMillis(), task.getIsDone());
+        } else if (task instanceof Events) {
+            copy = new Events(task.getTask(), task.getDateTimeMillis(), task.getIsDone());
+        } else {
+            copy = new ToDos(task.getTask(), task.getIsDone());
+        }
+        copy.setId(task.getId());
+        return copy;
+    }
+
+    /**
+     * Starts reading the list without a lock. The result of the read can only be used if
+     * {@link #validate(long)} passes afterwards, as the list may be changed while it is read.
+     * A read that throws may also have overlapped a change, and should be done again under the lock.
+     *
+     * @return stamp to validate the read with.
+     */
+    public long tryOptimisticRead() {
+        return sequence;
+    }
+
+    /**
+     * Checks if the list was changed since the stamp was taken, or was being changed at the time.
+     *
+     * @param stamp Stamp from {@link #tryOptimisticRead()}.
+     * @return if whatever was read since the stamp was taken is consistent.
+     */
+    public boolean validate(long stamp) {
+        VarHandle.acquireFence();
+        return (stamp & 1) == 0 && sequence == stamp;
+    }
+
+    /**
+     * Marks the start of a change, so that the reads overlapping it fail to validate. Changes to the list
+     * mark themselves, while a caller changing other data along with the list, such as an index of it,
+     * marks the whole change. Changes may be nested. The caller must hold the lock of the list.
+     */
+    public void beginChange() {
+        if (changeDepth++ == 0) {
+            sequence++;
+            VarHandle.releaseFence();
+        }
+    }
+
+    /**
+     * Marks the end of a change started with {@link #beginChange()}.
+     */
+    public void endChange() {
+        if (--changeDepth == 0) {
+            sequence++;
+        }
+    }
+
+    @Override
+    public Task set(int index, Task task) {
+        checkIndex(index, size);
+        beginChange();
+        try {
+            copyIfShared();
+            int slot = slotAt(index);
+            Task replaced = slots.get(slot);
+            slotOfId[replaced.getId()] = -1;
+            place(task, slot);
+            return replaced;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public boolean add(Task task) {
+        beginChange();
+        try {
+            copyIfShared();
+            if (slotCount == slots.capacity()) {
+                compact();
+            }
+            place(task, slotCount);
+            increment(slotCount, 1);
+            if (firstHole == slotCount) {
+                firstHole++;
+            }
+            slotCount++;
+            size++;
+            modCount++;
+            return true;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void add(int index, Task task) {
+        addAll(index, List.of(task));
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Task> tasks) {
+        checkIndex(index, size + 1);
+        beginChange();
+        try {
+            if (index == size) {
+                tasks.forEach(this::add);
+            } else {
+                Task[] merged = new Task[size + tasks.size()];
+                int count = 0;
+                for (Task task : this) {
+                    if (count == index) {
+                        for (Task added : tasks) {
+                            merged[count++] = added;
+                        }
+                    }
+                    merged[count++] = task;
+                }
+                rebuild(merged, count);
+            }
+            modCount++;
+            return !tasks.isEmpty();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public Task remove(int index) {
+        checkIndex(index, size);
+        beginChange();
+        try {
+            copyIfShared();
+            int slot = slotAt(index);
+            Task removed = slots.get(slot);
+            slots.clear(slot);
+            slotOfId[removed.getId()] = -1;
+            increment(slot, -1);
+            firstHole = Math.min(firstHole, slot);
+            size--;
+            modCount++;
+            if (slotCount - size > Math.max(size, MIN_CAPACITY)) {
+                compact();
+            }
+            return removed;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the tasks at the positions at once. Their slots are found before any is emptied, and the empty
+     * slots are compacted at most once, so the tasks after them are never shifted.
+     *
+     * @param indexes Positions of the tasks, starting from 0, in ascending order without repeats.
+     * @return the removed tasks, in the order of the positions.
+     */
+    public List<Task> removeAt(int[] indexes) {
+        for (int i = 0; i < indexes.length; i++) {
+            checkIndex(indexes[i], size);
+            if (i > 0 && indexes[i] <= indexes[i - 1]) {
+                throw new IllegalArgumentException("Positions must be ascending: " + Arrays.toString(indexes));
+            }
+        }
+        beginChange();
+        try {
+            copyIfShared();
+            int[] removedSlots = new int[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                removedSlots[i] = slotAt(indexes[i]);
+            }
+            List<Task> removed = new ArrayList<>(indexes.length);
+            for (int slot : removedSlots) {
+                Task task = slots.get(slot);
+                removed.add(task);
+                slots.clear(slot);
+                slotOfId[task.getId()] = -1;
+                increment(slot, -1);
+            }
+            if (removedSlots.length > 0) {
+                firstHole = Math.min(firstHole, removedSlots[0]);
+            }
+            size -= indexes.length;
+            modCount++;
+            if (slotCount - size > Math.max(size, MIN_CAPACITY)) {
+                compact();
+            }
+            return removed;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void clear() {
+        beginChange();
+        try {
+            for (int slot = nextSlot(0); slot < slotCount; slot = nextSlot(slot + 1)) {
+                slotOfId[slots.idAt(slot)] = -1;
+            }
+            rebuild(new Task[0], 0);
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Iterates over the slots instead of finding each position in the tree.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<>() {
+            /** Slot of the next task. */
+            private int slot = nextSlot(0);
+            /** Position of the next task. */
+            private int position;
+            /** Whether the last task returned can still be removed. */
+            private boolean canRemove;
+            /** Number of changes to the list the iterator has seen. */
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return slot < slotCount;
+            }
+
+            @Override
+            public Task next() {
+                checkForChange();
+                if (slot >= slotCount) {
+                    throw new NoSuchElementException();
+                }
+                Task task = slots.get(slot);
+                slot = nextSlot(slot + 1);
+                position++;
+                canRemove = true;
+                return task;
+            }
+
+            @Override
+            public void remove() {
+                checkForChange();
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+                TaskSequence.this.remove(--position);
+                slot = position < size ? slotAt(position) : slotCount;
+                canRemove = false;
+                expectedModCount = modCount;
+            }
+
+            private void checkForChange() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<Task> spliterator() {
+        return Spliterators.spliterator(this, Spliterator.ORDERED);
+    }
+
+    private int nextSlot(int from) {
+        int slot = from;
+        while (slot < slotCount && slots.isEmpty(slot)) {
+            slot++;
+        }
+        return slot;
+    }
+
+    /**
+     * Puts the task in the slot, giving it an id if it has none yet.
+     */
+    private void place(Task task, int slot) {
+        if (task.getId() < 0) {
+            task.setId(nextId++);
+        }
+        if (task.getId() >= slotOfId.length) {
+            int oldLength = slotOfId.length;
+            slotOfId = Arrays.copyOf(slotOfId, Math.max(task.getId() + 1, oldLength + oldLength / 2));
+            Arrays.fill(slotOfId, oldLength, slotOfId.length, -1);
+        }
+        slots.set(slot, task);
+        slotOfId[task.getId()] = slot;
+    }
+
+    /**
+     * Puts the tasks into new slots without empty slots, with room for half as many tasks again.
+     */
+    private void rebuild(Task[] tasks, int count) {
+        slots = slots.newSlots(capacityFor(count));
+        snapshot = null;
+        for (int i = 0; i < count; i++) {
+            place(tasks[i], i);
+        }
+        slotCount = count;
+        firstHole = count;
+        size = count;
+        buildTree();
+    }
+
+    /**
+     * Moves the tasks into new slots without empty slots, with room for half as many tasks again. Unlike
+     * {@link #rebuild(Task[], int)}, the tasks are moved without being read.
+     */
+    private void compact() {
+        slots = slots.compacted(capacityFor(size), slotCount);
+        for (int slot = 0; slot < size; slot++) {
+            slotOfId[slots.idAt(slot)] = slot;
+        }
+        slotCount = size;
+        firstHole = size;
+        buildTree();
+    }
+
+    /**
+     * Leaves room for half as many tasks again, which keeps adding O(1) amortized with less unused room
+     * than doubling, as each unused slot of a compact list still takes the room of every field.
+     */
+    private static int capacityFor(int count) {
+        return Math.max(MIN_CAPACITY, count + count / 2);
+    }
+
+    private void buildTree() {
+        tree = new int[slots.capacity() + 1];
+        for (int i = 1; i < tree.length; i++) {
+            tree[i] += slots.isEmpty(i - 1) ? 0 : 1;
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private void increment(int slot, int delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Counts the tasks in the slots up to and including the slot.
+     */
+    private int countUpTo(int slot) {
+        if (slot < firstHole) {
+            return slot + 1;
+        }
+        int count = 0;
+        for (int i = slot + 1; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Finds the slot of the task at the position by walking down the tree, unless it comes before the
+     * first empty slot.
+     */
+    private int slotAt(int index) {
+        if (index < firstHole) {
+            return index;
+        }
+        int remaining = index + 1;
+        int slot = 0;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            if (slot + step < tree.length && tree[slot + step] < remaining) {
+                slot += step;
+                remaining -= tree[slot];
+            }
+        }
+        return slot;
+    }
+
+    private static void checkIndex(int index, int length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+        }
+    }
+
+    /**
+     * Tasks of the list when the snapshot was taken, read from slots that are no longer changed.
+     */
+    private static class Snapshot extends AbstractList<Task> implements RandomAccess {
+        /** Slots of the list, with empty slots where a task was deleted. */
+        private final TaskSlots slots;
+        /** Number of slots used, including the empty ones. */
+        private final int slotCount;
+        /** Number of tasks. */
+        private final int size;
+        /** First empty slot, before which the slot of each task is its position. */
+        private final int firstHole;
+        /** Slot of the task at each position, null until a task after the first empty slot is read by its position. */
+        private int[] slotOfPosition;
+
+        Snapshot(TaskSlots slots, int slotCount, int size, int firstHole) {
+            this.slots = slots;
+            this.slotCount = slotCount;
+            this.size = size;
+            this.firstHole = firstHole;
+        }
+
+        @Override
+        public Task get(int index) {
+            checkIndex(index, size);
+            return slots.get(index < firstHole ? index : slotsOfPositions()[index]);
+        }
+
+        /**
+         * Finds the slot of every position once, as a snapshot is mostly read in order with its iterator.
+         */
+        private synchronized int[] slotsOfPositions() {
+            if (slotOfPosition == null) {
+                slotOfPosition = new int[size];
+                int position = 0;
+                for (int slot = 0; slot < slotCount; slot++) {
+                    if (!slots.isEmpty(slot)) {
+                        slotOfPosition[position++] = slot;
+                    }
+                }
+            }
+            return slotOfPosition;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Task> iterator() {
+            return new Iterator<>() {
+                /** Slot of the next task. */
+                private int slot = nextSlot(0);
+
+                @Override
+                public boolean hasNext() {
+                    return slot < slotCount;
+                }
+
+                @Override
+                public Task next() {
+                    if (slot >= slotCount) {
+                        throw new NoSuchElementException();
+                    }
+                    Task task = slots.get(slot);
+                    slot = nextSlot(slot + 1);
+                    return task;
+                }
+            };
+        }
+
+        @Override
+        public Spliterator<Task> spliterator() {
+            return Spliterators.spliterator(this, Spliterator.ORDERED);
+        }
+
+        private int nextSlot(int from) {
+            int slot = from;
+            while (slot < slotCount && slots.isEmpty(slot)) {
+                slot++;
+            }
+            return slot;
+        }
+    }
+}
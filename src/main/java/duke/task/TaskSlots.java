@@ -0,0 +1,82 @@
+package duke.task;
+
+/**
+ * Storage of the tasks in the slots of a {@link TaskSequence}. A slot either holds a task or is empty.
+ * The task in a slot may be kept as the object itself or only as its fields, in which case a new task
+ * with the same fields and id is returned each time the slot is read.
+ *
+ * @author marcuspeh
+ * @version A-Snapshots
+ * @since 18 Oct 2026
+ */
+interface TaskSlots {
+    /**
+     * Returns the number of slots.
+     *
+     * @return number of slots.
+     */
+    int capacity();
+
+    /**
+     * Reads the task in the slot.
+     *
+     * @param slot Slot to read.
+     * @return the task, or null if the slot is empty.
+     */
+    Task get(int slot);
+
+    /**
+     * Checks if the slot is empty, without reading its task.
+     *
+     * @param slot Slot to check.
+     * @return if the slot is empty.
+     */
+    boolean isEmpty(int slot);
+
+    /**
+     * Reads the id of the task in the slot, without reading the task.
+     *
+     * @param slot Slot holding a task.
+     * @return id of the task.
+     */
+    int idAt(int slot);
+
+    /**
+     * Puts the task in the slot, in place of the task in it if any.
+     *
+     * @param slot Slot to write.
+     * @param task Task with its id.
+     */
+    void set(int slot, Task task);
+
+    /**
+     * Empties the slot.
+     *
+     * @param slot Slot holding a task.
+     */
+    void clear(int slot);
+
+    /**
+     * Creates empty slots of the same kind.
+     *
+     * @param capacity Number of slots.
+     * @return the empty slots.
+     */
+    TaskSlots newSlots(int capacity);
+
+    /**
+     * Copies the tasks in the first slots to new slots of the same kind, without the empty slots.
+     *
+     * @param capacity Number of new slots, at least the number of tasks.
+     * @param slotCount Number of slots to copy from.
+     * @return the new slots, with the tasks at the start in the same order.
+     */
+    TaskSlots compacted(int capacity, int slotCount);
+
+    /**
+     * Copies every slot to new slots of the same kind, which can be changed without changing these.
+     *
+     * @return the new slots.
+     */
+    TaskSlots copy();
+}
@@ -1,5 +1,7 @@
 package duke.task;
 
+import java.util.function.Supplier;
+
 /**
  * Class to store task. Subclass of duke.task.Task.
  *
@@ -27,6 +29,16 @@ public class ToDos extends Task {
         super(task, done);
     }
 
+    /**
+     * Constructor for Todo whose description is only loaded when it is first needed.
+     *
+     * @param lazyTask Loads the task to be stored.
+     * @param done Whether the task is done.
+     */
+    public ToDos(Supplier<String> lazyTask, boolean done) {
+        super(lazyTask, done);
+    }
+
     /**
      * Saves the task to the txt file.
      * Format is as follow: {@literal <}Type(T){@literal >} | {@literal <}Description{@literal >} |
@@ -25,7 +25,13 @@ public enum Keyword {
     /** duke.util.Keyword for finding task. */
     FIND("find"),
     /** duke.util.Keyword for help. */
-    HELP("help");
+    HELP("help"),
+    /** duke.util.Keyword for searching the archived task. */
+    ARCHIVE("archive"),
+    /** duke.util.Keyword for finding the deadlines and events before a date. */
+    DUE("due", " before ", ""),
+    /** duke.util.Keyword for finding the deadlines and events on a day. */
+    ON("on");
 
     /** duke.util.Keyword for command. */
     private String keyword;
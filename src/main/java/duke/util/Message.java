@@ -1,15 +1,23 @@
 package duke.util;
 
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 /**
  * Class to handle the message from duke.
+ * The lines of a long message, such as the whole task list, may be rendered only as they are printed,
+ * so that the text of the whole message is never built at once. Every line is still allocated as it is
+ * rendered, so printing does not allocate less in total.
  *
  * @author marcuspeh
- * @version A-Assertions
+ * @version A-StreamingList
  * @since 6 Sep 2021
  */
 public class Message {
-    /** Message to be printed. */
-    private String[] message;
+    /** Renders the lines of the message to be printed, each time it is printed. */
+    private Supplier<Stream<String>> lines;
 
     /**
      * Constructor for Message.
@@ -18,18 +26,31 @@ public class Message {
      */
     Message(String... s) {
         assert s.length > 0 : "Message cannot be blank.";
-        this.message = s;
+        this.lines = () -> Arrays.stream(s);
+    }
+
+    /**
+     * Constructor for Message whose lines are rendered as they are printed.
+     *
+     * @param lines Renders the lines of the message, which must not be empty.
+     */
+    Message(Supplier<Stream<String>> lines) {
+        this.lines = lines;
     }
 
     /**
-     * Prints out the message from the command.
+     * Prints out the message from the command, one line at a time.
      */
     public void printMessage() {
-        Ui.printMessage(message);
+        try (Stream<String> rendered = lines.get()) {
+            Ui.printMessage(rendered);
+        }
     }
 
     @Override
     public String toString() {
-        return String.join("\n", message);
+        try (Stream<String> rendered = lines.get()) {
+            return rendered.collect(Collectors.joining("\n"));
+        }
     }
 }
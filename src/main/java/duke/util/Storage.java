@@ -1,33 +1,104 @@
 package duke.util;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.text.ParseException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
 
-import duke.task.Deadlines;
-import duke.task.Events;
+import duke.index.TokenIndex;
+import duke.storage.AtomicFileWriter;
+import duke.storage.BackendType;
+import duke.storage.Compression;
+import duke.storage.Durability;
+import duke.storage.FileWatcher;
+import duke.storage.IndexSidecar;
+import duke.storage.Journal;
+import duke.storage.RecoveryReport;
+import duke.storage.ShardedTaskStore;
+import duke.storage.SnapshotFormat;
+import duke.storage.StorageBackend;
+import duke.storage.StorageOptions;
+import duke.storage.TaskArchive;
+import duke.storage.TaskFileSync;
+import duke.storage.WriteBehindFlusher;
 import duke.task.Task;
-import duke.task.ToDos;
+import duke.task.TaskSequence;
 
 /**
  * Deals with loading tasks from the file and saving tasks in the file.
+ * Snapshots of the whole list are loaded from and saved to a {@link StorageBackend}, which keeps the tasks
+ * in memory or in a text or binary file. A save replaces the file atomically and is forced to the disk
+ * depending on the durability.
+ * If journaling is enabled, each change is appended to a journal instead and the journal is
+ * compacted into the file in the background once it grows past the checkpoint threshold.
+ * Otherwise, each change is saved in the background from a snapshot of the list, so that the list is not
+ * locked while it is written, and changes made during a save share the next one. The change still waits until
+ * it is saved. Shards are saved straight away.
+ * If write-behind is enabled, changes are saved in the background at most once per flush interval.
+ * If group commit is enabled, saves that arrive within the window share a single write, and each save
+ * returns a future that completes once its change is on the disk.
+ * If sharding is enabled, the tasks are split across shard files and a save only rewrites the shards that changed.
+ * Damaged records found while loading are skipped and kept in duke.txt.lost.
+ * If watching is enabled, changes made to the single txt file outside of duke are merged into the list,
+ * and a save first merges such changes instead of writing over them.
+ * If archiving is enabled, done tasks are moved out of the list into an append-only archive once they are
+ * too old or too many, so that the list loaded and saved stays small.
+ * The search index of a single txt file is kept next to it, so that it is only rebuilt when the file changed.
  *
  * @author marcuspeh
- * @version A-JavaDoc
+ * @version A-BulkChanges
  * @since 23 Aug 2021
  */
 public class Storage {
-    /** File name for the storage. */
-    private static final String LOCATION_OF_FILE = "./data/duke.txt";
     /** To deals with the errorMessages. */
     private Ui ui;
+    /** Options for saving and loading the tasks. */
+    private StorageOptions options;
+    /** File name for the storage. */
+    private Path location;
+    /** Where snapshots of the whole list are loaded from and saved to. */
+    private StorageBackend backend;
+    /** Journal of the changes since the last snapshot, null if journaling is disabled. */
+    private Journal journal;
+    /** Checksum of the snapshot currently in the file. */
+    private volatile long snapshotChecksum;
+    /** Runs the checkpoints in the background. */
+    private ExecutorService checkpointer;
+    /** Checkpoint that is currently running. */
+    private Future<?> checkpoint;
+    /** Saves the tasks in the background, null if every change is saved straight away. */
+    private WriteBehindFlusher flusher;
+    /** Shard files the tasks are split across, null if the tasks are saved in a single file. */
+    private ShardedTaskStore shards;
+    /** Whether the single file was loaded and has to be removed once the shards are saved. */
+    private boolean isSingleFileStale;
+    /** Report of the records that were damaged when the tasks were loaded. */
+    private RecoveryReport recoveryReport = new RecoveryReport();
+    /** Tracks changes made to the file outside of duke, null if the file is not watched. */
+    private TaskFileSync sync;
+    /** Watches the file for changes made outside of duke, null if the file is not watched. */
+    private FileWatcher watcher;
+    /** List the changes made outside of duke are merged into. */
+    private List<Task> watchedList;
+    /** Shows the user that the list was reloaded. */
+    private Consumer<Message> reloadListener;
+    /** Archive the done tasks are moved to, null if archiving is disabled. */
+    private TaskArchive archive;
+    /** Search index saved next to the file. */
+    private IndexSidecar indexSidecar;
+    /** Runs when tasks are added or removed by storage instead of the task list, e.g. when they are archived. */
+    private Runnable changeListener = () -> { };
 
     /**
      * Constructor for duke.main.Storage.
@@ -35,71 +106,745 @@ public class Storage {
      * @param ui to deal with the errorMessages.
      */
     public Storage(Ui ui) {
+        this(ui, StorageOptions.fromSystemProperties());
+    }
+
+    /**
+     * Constructor for duke.main.Storage.
+     *
+     * @param ui to deal with the errorMessages.
+     * @param options Options for saving and loading the tasks.
+     */
+    public Storage(Ui ui, StorageOptions options) {
         this.ui = ui;
+        this.options = options;
+        this.location = options.getLocation();
+        this.backend = options.getBackend().create(options, ui);
+        boolean isInMemory = options.getBackend() == BackendType.MEMORY;
+        indexSidecar = new IndexSidecar(location);
+        if (options.getIsArchived() && !isInMemory) {
+            archive = new TaskArchive(location.resolveSibling(location.getFileName() + ".archive"),
+                    options.getArchiveKeep(), options.getArchiveAge(), options.getDurability());
+        }
+        if (options.getIsJournaled() && !isInMemory) {
+            journal = new Journal(location, options.getDurability());
+            return;
+        }
+        if (options.getShardSize() > 0 && !isInMemory) {
+            shards = newShardedStore();
+        }
+        if (options.getGroupCommitWindow() > 0) {
+            flusher = new WriteBehindFlusher(options.getGroupCommitWindow(), this::flushTaskList);
+        } else if (options.getFlushInterval() > 0) {
+            flusher = new WriteBehindFlusher(options.getFlushInterval(), this::flushTaskList);
+        } else if (shards == null) {
+            flusher = new WriteBehindFlusher(0, this::flushTaskList);
+        }
+    }
+
+    private ShardedTaskStore newShardedStore() {
+        return new ShardedTaskStore(location, Math.max(1, options.getShardSize()), options.getFormat(),
+                options.getDurability(), options.getCompression());
     }
 
     /**
-     * Exports the task in list to a txt file in ./data.
+     * Exports the task in list to the backend, or to all the shard files if sharding is enabled.
      *
      * @param taskList list of task to be stored.
      */
     public void exportTask(List<Task> taskList) {
+        if (shards != null) {
+            shards.markAll();
+        }
+        try {
+            writeTaskList(taskList);
+        } catch (IOException e) {
+            ui.formatExportTaskErrorMessage();
+        }
+    }
+
+    /**
+     * Saves the whole task list as part of the next group commit, so that concurrent saves share
+     * a single write and fsync. Without group commit the list is saved straight away.
+     *
+     * @param taskList list of task to be stored.
+     * @return future that completes once the list is saved, or fails with the error of the save.
+     */
+    public CompletableFuture<Void> commit(List<Task> taskList) {
+        if (shards != null) {
+            shards.markAll();
+        }
+        return saveTaskList(taskList, true);
+    }
+
+    /**
+     * Saves the whole task list in the background, or straight away if it is split into shards.
+     *
+     * @param taskList list of task to be stored.
+     * @return future that completes once the list is saved. With write-behind it completes straight away,
+     *     unless the caller asked to wait for the write.
+     */
+    private CompletableFuture<Void> saveTaskList(List<Task> taskList) {
+        return saveTaskList(taskList, options.getGroupCommitWindow() > 0 || options.getFlushInterval() <= 0);
+    }
+
+    private CompletableFuture<Void> saveTaskList(List<Task> taskList, boolean isWaiting) {
+        if (flusher != null) {
+            CompletableFuture<Void> write = flusher.markDirty(taskList);
+            return isWaiting ? write : CompletableFuture.completedFuture(null);
+        }
+        try {
+            writeTaskList(taskList);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Writes the task list to the shards that changed, the watched file or the backend.
+     *
+     * @param taskList list of task to be stored.
+     * @throws IOException If the tasks cannot be written.
+     */
+    private void writeTaskList(List<Task> taskList) throws IOException {
+        if (shards != null) {
+            writeShards(taskList);
+        } else if (sync != null) {
+            writeWatched(taskList);
+        } else {
+            snapshotChecksum = backend.save(taskList);
+        }
+    }
+
+    /**
+     * Saves the task list from the background thread of the flusher.
+     *
+     * @param taskList list of task to be stored, which may still be changed by other threads.
+     * @throws IOException If the tasks cannot be written.
+     */
+    private void flushTaskList(List<Task> taskList) throws IOException {
+        if (shards != null || sync != null) {
+            writeTaskList(taskList);
+            return;
+        }
+        snapshotChecksum = backend.save(snapshotOf(taskList));
+    }
+
+    /**
+     * Takes a snapshot of the list, which is cheap if the list is a {@link TaskSequence} and a copy otherwise.
+     *
+     * @param taskList list of task, which may still be changed by other threads.
+     * @return tasks of the list as they are now.
+     */
+    private static List<Task> snapshotOf(List<Task> taskList) {
+        synchronized (taskList) {
+            return taskList instanceof TaskSequence
+                    ? ((TaskSequence) taskList).snapshot()
+                    : new ArrayList<>(taskList);
+        }
+    }
+
+    /**
+     * Rewrites the shards that changed. The single file is removed once its tasks have been moved into the shards.
+     *
+     * @param taskList list of task to be stored.
+     * @throws IOException If a shard cannot be written.
+     */
+    private void writeShards(List<Task> taskList) throws IOException {
+        shards.save(taskList);
+        if (isSingleFileStale) {
+            Files.deleteIfExists(location);
+            isSingleFileStale = false;
+        }
+    }
+
+    /**
+     * Saves the watched file, first merging any change made to it outside of duke so that it is not
+     * written over. The list is locked for the whole save, so that a reload cannot run in between, and the
+     * merge and the rebuild of the indexes are a single change for the reads without the lock.
+     *
+     * @param taskList list of task to be stored.
+     * @throws IOException If the file cannot be read or written.
+     */
+    private void writeWatched(List<Task> taskList) throws IOException {
+        synchronized (taskList) {
+            if (sync.isModified()) {
+                beginChange(taskList);
+                try {
+                    notifyReload(sync.merge(taskList));
+                } finally {
+                    endChange(taskList);
+                }
+            }
+            snapshotChecksum = backend.save(taskList);
+            sync.reset(taskList, snapshotChecksum);
+        }
+    }
+
+    /**
+     * Starts reloading the txt file when it is changed outside of duke, if watching is enabled.
+     * Only a single txt file is watched, so the journal, shards and the memory backend are never watched.
+     *
+     * @param taskList List loaded from the file, which the changes are merged into.
+     * @param listener Shows the user that the list was reloaded.
+     */
+    public void watch(List<Task> taskList, Consumer<Message> listener) {
+        boolean isSingleFile = journal == null && shards == null && options.getBackend() != BackendType.MEMORY;
+        if (!options.getIsWatched() || !isSingleFile || watcher != null) {
+            return;
+        }
+        try {
+            TaskFileSync fileSync = new TaskFileSync(location, backend);
+            synchronized (taskList) {
+                fileSync.reset(taskList, snapshotChecksum);
+                watchedList = taskList;
+                reloadListener = listener;
+                sync = fileSync;
+            }
+            watcher = new FileWatcher(location, this::reloadExternalChanges);
+            watcher.start();
+        } catch (IOException e) {
+            ui.formatImportTaskErrorMessage(location.toString());
+        }
+    }
+
+    /**
+     * Merges the changes made to the file outside of duke into the list. Changes of duke that were
+     * not saved yet are saved on top of them. The merge and the rebuild of the indexes are a single change
+     * for the reads without the lock.
+     */
+    private void reloadExternalChanges() {
+        synchronized (watchedList) {
+            beginChange(watchedList);
+            try {
+                TaskFileSync.Result result = sync.merge(watchedList);
+                if (result == TaskFileSync.Result.MERGED) {
+                    snapshotChecksum = backend.save(watchedList);
+                    sync.reset(watchedList, snapshotChecksum);
+                }
+                notifyReload(result);
+            } catch (IOException e) {
+                ui.formatImportTaskErrorMessage(location.toString());
+            } finally {
+                endChange(watchedList);
+            }
+        }
+    }
+
+    /**
+     * Marks the start of a change made by storage, if the list is a {@link TaskSequence} that is read
+     * without the lock.
+     */
+    private static void beginChange(List<Task> taskList) {
+        if (taskList instanceof TaskSequence) {
+            ((TaskSequence) taskList).beginChange();
+        }
+    }
+
+    private static void endChange(List<Task> taskList) {
+        if (taskList instanceof TaskSequence) {
+            ((TaskSequence) taskList).endChange();
+        }
+    }
+
+    private void notifyReload(TaskFileSync.Result result) {
+        if (result != TaskFileSync.Result.UNCHANGED && archive != null) {
+            archive.rescan();
+        }
+        if (result != TaskFileSync.Result.UNCHANGED) {
+            changeListener.run();
+        }
+        if (result == TaskFileSync.Result.CONFLICT) {
+            reloadListener.accept(ui.formatReloadConflictMessage(sync.getConflictLocation().toString()));
+        } else if (result != TaskFileSync.Result.UNCHANGED) {
+            reloadListener.accept(ui.formatReloadMessage(sync.getChangedCount()));
+        }
+    }
+
+    /**
+     * Saves a task that is added to the end of the list.
+     *
+     * @param taskList list of task to be stored.
+     * @param task Task that is added.
+     * @return future that completes once the task is saved, see {@link #saveTaskList(List)}.
+     */
+    public CompletableFuture<Void> saveAddedTask(List<Task> taskList, Task task) {
+        if (journal == null) {
+            if (shards != null) {
+                shards.markChanged(taskList.size() - 1);
+            }
+            return saveTaskList(taskList);
+        }
+        try {
+            journal.appendAdd(task);
+            checkpointIfNeeded(taskList);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Saves a task that is marked as done.
+     *
+     * @param taskList list of task to be stored.
+     * @param index Index of the task, starting from 0.
+     * @return future that completes once the task is saved, see {@link #saveTaskList(List)}.
+     */
+    public CompletableFuture<Void> saveDoneTask(List<Task> taskList, int index) {
+        if (archive != null) {
+            archive.markDone(taskList.get(index), System.currentTimeMillis());
+        }
+        if (journal == null) {
+            if (shards != null) {
+                shards.markChanged(index);
+            }
+            archiveDoneTasks(taskList);
+            return saveTaskList(taskList);
+        }
+        try {
+            journal.appendDone(index);
+            archiveDoneTasks(taskList);
+            checkpointIfNeeded(taskList);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Saves tasks marked as done at once, with a single save or a single flush of the journal.
+     *
+     * @param taskList list of task to be stored.
+     * @param indexes Indexes of the tasks, starting from 0.
+     * @return future that completes once the tasks are saved, see {@link #saveTaskList(List)}.
+     */
+    public CompletableFuture<Void> saveDoneTasks(List<Task> taskList, int[] indexes) {
+        if (archive != null) {
+            long now = System.currentTimeMillis();
+            for (int index : indexes) {
+                archive.markDone(taskList.get(index), now);
+            }
+        }
+        if (journal == null) {
+            if (shards != null) {
+                for (int index : indexes) {
+                    shards.markChanged(index);
+                }
+            }
+            archiveDoneTasks(taskList);
+            return saveTaskList(taskList);
+        }
+        try {
+            journal.appendDone(indexes);
+            archiveDoneTasks(taskList);
+            checkpointIfNeeded(taskList);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Moves the done tasks that are due out of the list and appends them to the archive. The tasks are
+     * only removed once they are in the archive, so a failed append keeps them in the list. The removals
+     * are journaled or marked in the shards, and the list itself is saved by the caller.
+     *
+     * @param taskList list of task, locked by the caller.
+     * @return if any task was archived.
+     */
+    private boolean archiveDoneTasks(List<Task> taskList) {
+        List<Integer> indexes = archive == null ? List.of() : archive.select(taskList, System.currentTimeMillis());
+        if (indexes.isEmpty()) {
+            return false;
+        }
+        try {
+            List<Task> tasks = new ArrayList<>();
+            for (int index : indexes) {
+                tasks.add(taskList.get(index));
+            }
+            archive.append(tasks);
+            for (int i = indexes.size() - 1; i >= 0; i--) {
+                int index = indexes.get(i);
+                taskList.remove(index);
+                if (journal != null) {
+                    journal.appendDelete(index);
+                } else if (shards != null) {
+                    shards.markShifted(index);
+                }
+            }
+        } catch (IOException e) {
+            ui.formatExportTaskErrorMessage();
+        }
+        changeListener.run();
+        return true;
+    }
+
+    /**
+     * Sets what runs when tasks are added or removed by storage instead of the task list, i.e. when done
+     * tasks are archived or changes made outside of duke are reloaded. It runs while the list is locked.
+     *
+     * @param changeListener Runs when the tasks changed.
+     */
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Reads the search index saved next to the txt file, if it was built from the file as it was loaded.
+     * Only a single txt file has a saved index.
+     *
+     * @param idAtPosition Finds the id of the task at each position of the loaded list.
+     * @return the index, or null if it has to be rebuilt.
+     */
+    public TokenIndex loadIndex(IntUnaryOperator idAtPosition) {
+        return hasIndexSidecar() ? indexSidecar.read(snapshotChecksum, idAtPosition) : null;
+    }
+
+    /**
+     * Saves the search index next to the txt file. It must be the index of the tasks as they were last saved.
+     *
+     * @param index Index of the saved tasks.
+     * @param positionOfId Finds the position of the task with each id.
+     */
+    public void saveIndex(TokenIndex index, IntUnaryOperator positionOfId) {
+        if (!hasIndexSidecar()) {
+            return;
+        }
         try {
-            File file = new File(LOCATION_OF_FILE);
-            file.getParentFile().mkdirs();
-            file.createNewFile();
-
-            BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(file));
-            taskList.stream()
-                    .forEach(task -> {
-                        try {
-                            bufferedWriter.write(task.saveOutput());
-                            bufferedWriter.newLine();
-                        } catch (IOException e) {
-                            ui.formatExportTaskErrorMessage(task);
-                        }
-                    });
-            bufferedWriter.flush();
+            indexSidecar.write(index, snapshotChecksum, positionOfId);
         } catch (IOException e) {
             ui.formatExportTaskErrorMessage();
         }
     }
 
+    private boolean hasIndexSidecar() {
+        return journal == null && shards == null && options.getBackend() != BackendType.MEMORY;
+    }
+
+    /**
+     * Finds the archived tasks containing the keyword, reading the archive from the file.
+     *
+     * @param keyword Keyword to search for, empty to return every archived task.
+     * @return archived tasks containing the keyword, oldest first.
+     * @throws IOException If the archive cannot be read.
+     */
+    public List<Task> searchArchive(String keyword) throws IOException {
+        return archive == null ? new ArrayList<>() : archive.search(keyword);
+    }
+
+    /**
+     * Saves a task that is removed from the list.
+     *
+     * @param taskList list of task to be stored.
+     * @param index Index the task was removed from, starting from 0.
+     * @param task Task that is removed.
+     * @return future that completes once the removal is saved, see {@link #saveTaskList(List)}.
+     */
+    public CompletableFuture<Void> saveDeletedTask(List<Task> taskList, int index, Task task) {
+        if (archive != null) {
+            archive.forget(task);
+        }
+        if (journal == null) {
+            if (shards != null) {
+                shards.markShifted(index);
+            }
+            return saveTaskList(taskList);
+        }
+        try {
+            journal.appendDelete(index);
+            checkpointIfNeeded(taskList);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Saves tasks removed from the list at once, with a single save or a single flush of the journal.
+     *
+     * @param taskList list of task to be stored.
+     * @param indexes Indexes the tasks were removed from, starting from 0, in ascending order.
+     * @param tasks Tasks that are removed.
+     * @return future that completes once the removals are saved, see {@link #saveTaskList(List)}.
+     */
+    public CompletableFuture<Void> saveDeletedTasks(List<Task> taskList, int[] indexes, List<Task> tasks) {
+        if (archive != null) {
+            tasks.forEach(archive::forget);
+        }
+        if (journal == null) {
+            if (shards != null && indexes.length > 0) {
+                shards.markShifted(indexes[0]);
+            }
+            return saveTaskList(taskList);
+        }
+        try {
+            journal.appendDelete(indexes);
+            checkpointIfNeeded(taskList);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Compacts the journal into a new snapshot in the background once it passes the checkpoint threshold.
+     * A snapshot of the tasks is written, so that the list can still be changed while it is written.
+     * If the last compaction failed, its pending journal is compacted again instead, and its error is thrown
+     * so that the user is told.
+     *
+     * @param taskList list of task to be stored.
+     * @throws IOException If the journal cannot be moved aside, or the last compaction failed.
+     */
+    private void checkpointIfNeeded(List<Task> taskList) throws IOException {
+        boolean isRunning = checkpoint != null && !checkpoint.isDone();
+        if (journal.size() < options.getCheckpointThreshold() || isRunning) {
+            return;
+        }
+
+        IOException failure = getCheckpointFailure();
+        if (checkpointer == null) {
+            checkpointer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "duke-checkpoint");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        if (journal.hasPending()) {
+            checkpoint = checkpointer.submit(() -> {
+                compactPending();
+                return null;
+            });
+        } else {
+            List<Task> snapshot = snapshotOf(taskList);
+            journal.rotate(snapshotChecksum);
+            checkpoint = checkpointer.submit(() -> {
+                snapshotChecksum = writeSnapshot(snapshot);
+                journal.discardPending();
+                return null;
+            });
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the error of the last checkpoint, which has finished.
+     *
+     * @return the error, or null if there was no checkpoint or it succeeded.
+     */
+    private IOException getCheckpointFailure() {
+        try {
+            if (checkpoint != null) {
+                checkpoint.get();
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
+    }
+
     /**
-     * Loads the txt file containing information on the task.
+     * Compacts the pending journal left by a failed checkpoint. The list already holds newer changes, so the
+     * snapshot is read back and only the pending journal is applied to it.
+     *
+     * @throws IOException If the snapshot cannot be read or written.
+     */
+    private void compactPending() throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        long checksum = Files.exists(location) ? backend.load(tasks) : 0;
+        journal.replayPending(tasks, checksum);
+        snapshotChecksum = writeSnapshot(tasks);
+        journal.discardPending();
+    }
+
+    /**
+     * Writes the tasks to a temporary file and moves it over the txt file, so that the txt file
+     * always contains a complete snapshot. This is done even if durability is none, as the journal
+     * relies on it.
+     *
+     * @param taskList list of task to be stored.
+     * @return checksum of the snapshot.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    private long writeSnapshot(List<Task> taskList) throws IOException {
+        Durability durability = options.getDurability() == Durability.FSYNC ? Durability.FSYNC : Durability.FLUSH;
+        Compression compression = options.getCompression();
+        SnapshotFormat format = options.getFormat();
+        return AtomicFileWriter.write(location, durability,
+                out -> compression.write(out, compressed -> format.write(compressed, taskList)));
+    }
+
+    /**
+     * Loads the txt file containing information on the task from the backend.
+     * If journaling is enabled, the changes in the journal are applied on top of the txt file.
+     * Shard files are merged back in order. A single txt file is split into shards on the first save
+     * if sharding is enabled, and shards are loaded if only they exist when sharding is disabled.
+     * Done tasks that are due to be archived are moved to the archive straight away.
+     * With the compact option, the tasks are loaded into a compact {@link TaskSequence}.
      * If dir/file is not found, a welcome message will be printed.
      *
      * @return A list of all the task stored.
      */
     public List<Task> importTask() throws FileNotFoundException {
-        File file = new File(LOCATION_OF_FILE);
-        List<Task> taskList = new ArrayList<>();
-        FileReader fileReader = new FileReader(file);
-        BufferedReader bufferedReader = new BufferedReader(fileReader);
-        bufferedReader.lines()
-                .forEach(task -> {
-                    String[] taskData = task.split(" \\| ");
-                    if (taskData.length == 3 || taskData.length == 4) {
-                        if (taskData[0].equals(Keyword.DEADLINE.getSaveWord())) {
-                            try {
-                                taskList.add(new Deadlines(taskData[1], taskData[3],
-                                        taskData[2].equals("1") ? true : false));
-                            } catch (ParseException e) {
-                                ui.formatImportTaskErrorMessage(taskData[1]);
-                            }
-                        } else if (taskData[0].equals(Keyword.EVENTS.getSaveWord())) {
-                            try {
-                                taskList.add(new Events(taskData[1], taskData[3],
-                                        taskData[2].equals("1") ? true : false));
-                            } catch (ParseException e) {
-                                ui.formatImportTaskErrorMessage(taskData[1]);
-                            }
-                        } else if (taskData[0].equals(Keyword.TODOS.getSaveWord())) {
-                            taskList.add(new ToDos(taskData[1],
-                                    taskData[2].equals("1") ? true : false));
-                        }
-                    }
-                });
+        List<Task> taskList = options.getIsCompact() ? new TaskSequence(List.of(), true) : new ArrayList<>();
+        ShardedTaskStore store = shards != null ? shards : newShardedStore();
+        boolean hasShards = journal == null && options.getBackend() != BackendType.MEMORY && store.exists();
+        if (hasShards && (shards != null || !Files.exists(location))) {
+            readShards(store, taskList);
+            archiveLoadedTasks(taskList);
+            return taskList;
+        }
+        if (shards != null) {
+            shards.markAll();
+            isSingleFileStale = true;
+        }
+        if (journal == null || Files.exists(location) || !journal.exists()) {
+            snapshotChecksum = readSnapshot(taskList);
+            recoveryReport = backend.getRecoveryReport();
+            saveLostRecords();
+        }
+        if (journal != null) {
+            replayJournal(taskList);
+        }
+        archiveLoadedTasks(taskList);
         return taskList;
     }
+
+    /**
+     * Archives the done tasks that are due as soon as they are loaded. Tasks that were already done
+     * count as done when the file was last saved.
+     *
+     * @param taskList Tasks that were loaded.
+     */
+    private void archiveLoadedTasks(List<Task> taskList) {
+        if (archive == null) {
+            return;
+        }
+        long savedTime = 0;
+        for (String suffix : new String[] {"", ".journal", ".shards", ".shard0"}) {
+            Path file = location.resolveSibling(location.getFileName() + suffix);
+            try {
+                savedTime = Math.max(savedTime, Files.getLastModifiedTime(file).toMillis());
+            } catch (IOException e) {
+                // The file was not saved.
+            }
+        }
+        archive.setLoadedTime(savedTime == 0 ? System.currentTimeMillis() : savedTime);
+        if (archiveDoneTasks(taskList) && journal == null) {
+            try {
+                saveTaskList(taskList).join();
+            } catch (CompletionException e) {
+                ui.formatExportTaskErrorMessage();
+            }
+        }
+    }
+
+    /**
+     * Reads the tasks in the backend.
+     *
+     * @param taskList List to add the tasks to.
+     * @return checksum of the snapshot, or 0 if it could not be read.
+     * @throws FileNotFoundException If nothing has been saved yet.
+     */
+    private long readSnapshot(List<Task> taskList) throws FileNotFoundException {
+        try {
+            return backend.load(taskList);
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (IOException e) {
+            ui.formatImportTaskErrorMessage(location.toString());
+            return 0;
+        }
+    }
+
+    /**
+     * Appends the damaged records to duke.txt.lost, so that they can still be recovered by hand.
+     */
+    private void saveLostRecords() {
+        if (!recoveryReport.hasLosses()) {
+            return;
+        }
+        try {
+            Files.write(getLostRecordsLocation(), recoveryReport.toLines(),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            ui.formatExportTaskErrorMessage();
+        }
+    }
+
+    public RecoveryReport getRecoveryReport() {
+        return recoveryReport;
+    }
+
+    public Path getLostRecordsLocation() {
+        return location.resolveSibling(location.getFileName() + ".lost");
+    }
+
+    /**
+     * Reads the tasks in the shard files.
+     *
+     * @param store Shard files to read.
+     * @param taskList List to add the tasks to.
+     */
+    private void readShards(ShardedTaskStore store, List<Task> taskList) {
+        try {
+            recoveryReport = store.read(taskList, ui);
+            saveLostRecords();
+        } catch (IOException e) {
+            ui.formatImportTaskErrorMessage(location.toString());
+        }
+    }
+
+    /**
+     * Applies the journal to the loaded tasks. If a compaction was interrupted, or the journal has a damaged
+     * record, it is compacted straight away, so that the next checkpoint starts from a clean journal and new
+     * changes are not appended after a record that stops the replay.
+     *
+     * @param taskList Tasks loaded from the txt file.
+     */
+    private void replayJournal(List<Task> taskList) {
+        try {
+            journal.replay(taskList, snapshotChecksum);
+            if (journal.hasPending() || journal.isDamaged()) {
+                snapshotChecksum = writeSnapshot(taskList);
+                journal.discardAll();
+            }
+        } catch (IOException e) {
+            ui.formatImportTaskErrorMessage(location.toString());
+        }
+    }
+
+    /**
+     * Saves any change still waiting in the background, waits for the running checkpoint, stops watching
+     * the file and closes the journal.
+     */
+    public synchronized void close() {
+        if (flusher != null) {
+            flusher.close();
+        }
+        try {
+            if (watcher != null) {
+                watcher.close();
+            }
+            if (checkpoint != null) {
+                checkpoint.get();
+            }
+            if (checkpointer != null) {
+                checkpointer.shutdown();
+            }
+            if (journal != null) {
+                journal.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | IOException e) {
+            ui.formatExportTaskErrorMessage();
+        }
+    }
 }
@@ -1,41 +1,185 @@
 package duke.util;
 
+import java.io.IOException;
 import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import duke.index.TimeIndex;
+import duke.index.TokenIndex;
+import duke.index.TrigramIndex;
 import duke.task.Deadlines;
 import duke.task.Events;
 import duke.task.Task;
+import duke.task.TaskSequence;
 import duke.task.ToDos;
 
 
 /**
  * Deals with storing of task as well as operations involving the tasks.
+ * The list is changed while holding its lock, so that storage can copy it or reload it from another thread.
+ * It is read without the lock, and read again under the lock only if a change overlapped the read, so that
+ * threads finding tasks only wait for each other to look up the indexes, which are plain maps and are only
+ * safe to read under the lock. Tasks are listed from a snapshot of the list.
+ * The tasks are kept in a {@link TaskSequence}, which gives each task a stable id and deletes in O(log n).
+ * Storage may load the tasks into a compact TaskSequence, in which case each task read is a new object.
+ * Each change waits for its save after releasing the lock, so that concurrent changes can share a group commit.
+ * Storage saves a snapshot of the list in the background, so the list is not locked while it is written.
+ * Find narrows the tasks down with a token index, which is loaded from storage if it is still current and
+ * is otherwise rebuilt in the background. Queries the token index cannot narrow down, such as punctuation or
+ * common words, go to a trigram index, which is built in the background. Until an index is ready, find does
+ * without it. Once ready, the indexes are updated as tasks are added and deleted. Marking a task as done
+ * does not change its description.
+ * Deadlines and events are also kept in a time index, built in the background alongside the trigram index,
+ * so that the tasks due before a date or on a day are found without checking every task.
  *
  * @author marcuspeh
- * @version Level-9
+ * @version A-StreamingList
  * @since 21 Aug 2021
  */
 public class TaskList {
+    /** Rebuilds the search indexes in the background. */
+    private static final ExecutorService INDEXER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "duke-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /** List to store all the task. */
-    private List<Task> taskList;
+    private TaskSequence taskList;
     /** To deal with the errorMessages. */
     private Ui ui;
     /** Deals with load and saving of task. */
     private Storage storage;
+    /** Index of the tokens of the descriptions, null while it is being rebuilt. */
+    private TokenIndex index;
+    /** Index of the trigrams of the descriptions, null while it is being rebuilt. */
+    private TrigramIndex trigrams;
+    /** Index of the deadlines and events by their date / time, null while it is being rebuilt. */
+    private TimeIndex timeIndex;
+    /** Changes each time the index has to be rebuilt, so that an outdated rebuild is dropped. */
+    private int indexVersion;
 
     /**
      * Constructor for duke.main.TaskList.
      *
-     * @param taskList List to store all the task.
+     * @param taskList List to store all the task, which is copied into a {@link TaskSequence} unless it is one.
      * @param ui To deal with the error messages.
      * @param storage deals with load and saving of tasks.
      */
     public TaskList(List<Task> taskList, Ui ui, Storage storage) {
-        this.taskList = taskList;
+        this.taskList = taskList instanceof TaskSequence ? (TaskSequence) taskList : new TaskSequence(taskList);
         this.ui = ui;
         this.storage = storage;
+        synchronized (this.taskList) {
+            storage.setChangeListener(this::rebuildIndex);
+            index = storage.loadIndex(this.taskList::idAt);
+            if (index != null && index.getTaskCount() != this.taskList.size()) {
+                index = null;
+            }
+            buildIndexes();
+        }
+    }
+
+    /**
+     * Drops the indexes and rebuilds them, e.g. after the list is reloaded.
+     */
+    private void rebuildIndex() {
+        synchronized (taskList) {
+            taskList.beginChange();
+            try {
+                index = null;
+                trigrams = null;
+                timeIndex = null;
+                buildIndexes();
+            } finally {
+                taskList.endChange();
+            }
+        }
+    }
+
+    /**
+     * Builds the missing indexes from a copy of the list in the background. Tasks added while they are built
+     * are indexed when they are ready, while any other change starts a new build.
+     */
+    private void buildIndexes() {
+        synchronized (taskList) {
+            int version = ++indexVersion;
+            INDEXER.execute(() -> {
+                List<Task> snapshot;
+                boolean isTokenIndexMissing;
+                synchronized (taskList) {
+                    if (version != indexVersion) {
+                        return;
+                    }
+                    snapshot = new ArrayList<>(taskList);
+                    isTokenIndexMissing = index == null;
+                }
+                int[] taskIds = snapshot.stream().mapToInt(Task::getId).toArray();
+                List<String> descriptions = snapshot.stream().map(Task::getTask).collect(Collectors.toList());
+                TokenIndex rebuilt = isTokenIndexMissing ? TokenIndex.of(taskIds, descriptions) : null;
+                TrigramIndex rebuiltTrigrams = TrigramIndex.of(taskIds, descriptions);
+                TimeIndex rebuiltTimeIndex = TimeIndex.of(snapshot, taskList::getById);
+                synchronized (taskList) {
+                    if (version != indexVersion) {
+                        return;
+                    }
+                    taskList.beginChange();
+                    try {
+                        for (int i = snapshot.size(); i < taskList.size(); i++) {
+                            Task task = taskList.get(i);
+                            if (rebuilt != null) {
+                                rebuilt.add(task.getId(), task.getTask());
+                            }
+                            rebuiltTrigrams.add(task.getId(), task.getTask());
+                            rebuiltTimeIndex.add(task);
+                        }
+                        if (rebuilt != null) {
+                            index = rebuilt;
+                        }
+                        trigrams = rebuiltTrigrams;
+                        timeIndex = rebuiltTimeIndex;
+                    } finally {
+                        taskList.endChange();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Saves the index next to the saved tasks, so that it does not have to be rebuilt on the next start.
+     * It must be called after storage is closed, once every change is saved.
+     */
+    public void saveIndex() {
+        synchronized (taskList) {
+            if (index != null && index.getTaskCount() == taskList.size()) {
+                storage.saveIndex(index, taskList::indexOfId);
+            }
+        }
+    }
+
+    /**
+     * Checks if the indexes are ready, e.g. to wait for them to be rebuilt.
+     *
+     * @return if find and the date / time queries use every index.
+     */
+    public boolean isIndexReady() {
+        synchronized (taskList) {
+            return index != null && trigrams != null && timeIndex != null;
+        }
     }
 
     /**
@@ -45,8 +189,45 @@ public class TaskList {
      * @return message to be used by either the graphic UI or command line UI.
      */
     private Message addTask(Task task) {
-        taskList.add(task);
-        return ui.formatAddMessage(task, taskList.size());
+        CompletableFuture<Void> saved;
+        int totalTask;
+        synchronized (taskList) {
+            taskList.beginChange();
+            try {
+                taskList.add(task);
+                if (index != null) {
+                    index.add(task.getId(), task.getTask());
+                }
+                if (trigrams != null) {
+                    trigrams.add(task.getId(), task.getTask());
+                }
+                if (timeIndex != null) {
+                    timeIndex.add(task);
+                }
+                saved = storage.saveAddedTask(taskList, task);
+                totalTask = taskList.size();
+            } finally {
+                taskList.endChange();
+            }
+        }
+        return waitUntilSaved(saved, ui.formatAddMessage(task, totalTask), ui.formatExportTaskErrorMessage(task));
+    }
+
+    /**
+     * Waits until a change is saved.
+     *
+     * @param saved Completes once the change is saved.
+     * @param message Message if the change is saved.
+     * @param errorMessage Message if the change cannot be saved.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    private Message waitUntilSaved(CompletableFuture<Void> saved, Message message, Message errorMessage) {
+        try {
+            saved.join();
+            return message;
+        } catch (CompletionException e) {
+            return errorMessage;
+        }
     }
 
     /**
@@ -58,9 +239,7 @@ public class TaskList {
      */
     public Message addEvent(String s, String dateTime) {
         try {
-            Message message = addTask(new Events(s, dateTime));
-            saveTaskList();
-            return message;
+            return addTask(new Events(s, dateTime));
         } catch (ParseException e) {
             return ui.formatDateTimeErrorMessage();
         }
@@ -75,9 +254,7 @@ public class TaskList {
      */
     public Message addDeadline(String s, String dateTime) {
         try {
-            Message message = addTask(new Deadlines(s, dateTime));
-            saveTaskList();
-            return message;
+            return addTask(new Deadlines(s, dateTime));
         } catch (ParseException e) {
             return ui.formatDateTimeErrorMessage();
         }
@@ -91,9 +268,7 @@ public class TaskList {
      */
     public Message addTodo(String s) {
         try {
-            Message message = addTask(new ToDos(s));
-            saveTaskList();
-            return message;
+            return addTask(new ToDos(s));
         } catch (IndexOutOfBoundsException e) {
             return ui.formatTodoErrorMessage();
         }
@@ -106,13 +281,70 @@ public class TaskList {
      * @return message to be used by either the graphic UI or command line UI.
      */
     public Message markDone(int n) {
-        Task task = taskList.get(n - 1);
-        boolean isSuccess = task.markDone();
-        if (isSuccess) {
-            saveTaskList();
-            return ui.formatDoneSuccessMessage(task);
-        } else {
-            return ui.formatDoneFailedMessage(task);
+        Task task;
+        CompletableFuture<Void> saved;
+        synchronized (taskList) {
+            taskList.beginChange();
+            try {
+                boolean isSuccess = taskList.markDone(n - 1);
+                task = taskList.get(n - 1);
+                if (!isSuccess) {
+                    return ui.formatDoneFailedMessage(task);
+                }
+                saved = storage.saveDoneTask(taskList, n - 1);
+            } finally {
+                taskList.endChange();
+            }
+        }
+        return waitUntilSaved(saved, ui.formatDoneSuccessMessage(task), ui.formatExportTaskErrorMessage(task));
+    }
+
+    /**
+     * Marks the tasks as done at once, with a single save. Tasks that were already done are left as they are.
+     * Nothing is marked if any of the numbers is not in the list.
+     *
+     * @param numbers Numbers of the tasks in the list, starting from 1, in ascending order without repeats.
+     * @return message to be used by either the graphic UI or command line UI.
+     * @throws IndexOutOfBoundsException If a number is not in the list.
+     */
+    public Message markDone(int[] numbers) {
+        if (numbers.length == 1) {
+            return markDone(numbers[0]);
+        }
+        List<Task> doneTasks = new ArrayList<>();
+        List<Task> alreadyDoneTasks = new ArrayList<>();
+        CompletableFuture<Void> saved;
+        synchronized (taskList) {
+            checkNumbers(numbers);
+            taskList.beginChange();
+            try {
+                int[] indexes = new int[numbers.length];
+                int doneCount = 0;
+                for (int number : numbers) {
+                    if (taskList.markDone(number - 1)) {
+                        indexes[doneCount++] = number - 1;
+                        doneTasks.add(taskList.get(number - 1));
+                    } else {
+                        alreadyDoneTasks.add(taskList.get(number - 1));
+                    }
+                }
+                saved = doneCount == 0
+                        ? CompletableFuture.completedFuture(null)
+                        : storage.saveDoneTasks(taskList, Arrays.copyOf(indexes, doneCount));
+            } finally {
+                taskList.endChange();
+            }
+        }
+        return waitUntilSaved(saved, ui.formatDoneMessage(doneTasks, alreadyDoneTasks),
+                ui.formatExportTaskErrorMessage());
+    }
+
+    /**
+     * Checks that every number is a task in the list, before any task is changed.
+     */
+    private void checkNumbers(int[] numbers) {
+        if (numbers.length == 0 || numbers[0] < 1 || numbers[numbers.length - 1] > taskList.size()) {
+            throw new IndexOutOfBoundsException("Task numbers out of range: " + Arrays.toString(numbers));
         }
     }
 
@@ -123,33 +355,256 @@ public class TaskList {
      * @return message to be used by either the graphic UI or command line UI.
      */
     public Message deleteTask(int n) {
-        Task task = taskList.remove(n - 1);
-        saveTaskList();
-        return ui.formatDeleteMessage(task, taskList.size());
+        Task task;
+        CompletableFuture<Void> saved;
+        int totalTask;
+        synchronized (taskList) {
+            taskList.beginChange();
+            try {
+                task = taskList.remove(n - 1);
+                if (index != null) {
+                    index.delete(task.getId(), task.getTask());
+                }
+                if (trigrams != null) {
+                    trigrams.delete(task.getId(), task.getTask());
+                }
+                if (timeIndex != null) {
+                    timeIndex.delete(task);
+                }
+                if (index == null || trigrams == null || timeIndex == null) {
+                    buildIndexes();
+                }
+                saved = storage.saveDeletedTask(taskList, n - 1, task);
+                totalTask = taskList.size();
+            } finally {
+                taskList.endChange();
+            }
+        }
+        return waitUntilSaved(saved, ui.formatDeleteMessage(task, totalTask), ui.formatExportTaskErrorMessage());
     }
 
     /**
-     * Saves the task list by calling the method in storage.
+     * Deletes the tasks from the task list at once, with a single update of each index and a single save.
+     * Nothing is deleted if any of the numbers is not in the list.
+     *
+     * @param numbers Numbers of the tasks in the list, starting from 1, in ascending order without repeats.
+     * @return message to be used by either the graphic UI or command line UI.
+     * @throws IndexOutOfBoundsException If a number is not in the list.
      */
-    private void saveTaskList() {
-        storage.exportTask(this.taskList);
+    public Message deleteTasks(int[] numbers) {
+        if (numbers.length == 1) {
+            return deleteTask(numbers[0]);
+        }
+        List<Task> tasks;
+        CompletableFuture<Void> saved;
+        int totalTask;
+        synchronized (taskList) {
+            checkNumbers(numbers);
+            taskList.beginChange();
+            try {
+                int[] indexes = Arrays.stream(numbers).map(number -> number - 1).toArray();
+                tasks = taskList.removeAt(indexes);
+                int[] taskIds = tasks.stream().mapToInt(Task::getId).toArray();
+                List<String> descriptions = tasks.stream().map(Task::getTask).collect(Collectors.toList());
+                if (index != null) {
+                    index.delete(taskIds, descriptions);
+                }
+                if (trigrams != null) {
+                    trigrams.delete(taskIds, descriptions);
+                }
+                if (timeIndex != null) {
+                    tasks.forEach(timeIndex::delete);
+                }
+                if (index == null || trigrams == null || timeIndex == null) {
+                    buildIndexes();
+                }
+                saved = storage.saveDeletedTasks(taskList, indexes, tasks);
+                totalTask = taskList.size();
+            } finally {
+                taskList.endChange();
+            }
+        }
+        return waitUntilSaved(saved, ui.formatDeleteMessage(tasks, totalTask), ui.formatExportTaskErrorMessage());
     }
 
     /**
      * Finds all the task that contains the string S and returns a array containing
-     * all the tasks.
+     * all the tasks. Only the candidates from the indexes are checked if they are ready.
      *
      * @param s Keyword to search for the task.
      * @return message to be used by either the graphic UI or command line UI.
      */
     public Message findTask(String s) {
-        List<String> taskFiltered = taskList.stream()
-                .filter(task -> task.getTask().contains(s))
-                .map(x -> x.toString())
-                .collect(Collectors.toList());
+        List<String> taskFiltered = read(() -> {
+            BitSet candidates;
+            synchronized (taskList) {
+                candidates = index == null ? null : index.candidates(s);
+                if (candidates == null && trigrams != null) {
+                    candidates = trigrams.candidates(s);
+                }
+            }
+            Stream<Task> tasks = candidates == null
+                    ? taskList.stream()
+                    : positionsOf(candidates).stream().mapToObj(taskList::get);
+            return tasks
+                    .filter(task -> task.getTask().contains(s))
+                    .map(x -> x.toString())
+                    .collect(Collectors.toList());
+        });
         return ui.formatSearchOutputMessage(taskFiltered);
     }
 
+    /**
+     * Finds the positions of the tasks with the ids, so that they are listed in the order of the list.
+     */
+    private BitSet positionsOf(BitSet taskIds) {
+        BitSet positions = new BitSet(taskList.size());
+        taskIds.stream().map(taskList::indexOfId).filter(position -> position >= 0).forEach(positions::set);
+        return positions;
+    }
+
+    /**
+     * Lists every task with its number. The tasks are listed from a snapshot, which only takes the lock for
+     * a moment, and each line is rendered as it is printed, so that the text of a long list is never built
+     * at once.
+     *
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message listTasks() {
+        return ui.listTask(snapshot());
+    }
+
+    /**
+     * Lists a page of the tasks with their numbers in the whole list.
+     *
+     * @param page Page to list, starting from 1.
+     * @param pageSize Number of tasks on each page.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message listTasks(int page, int pageSize) {
+        return ui.listTaskPage(snapshot(), page, pageSize);
+    }
+
+    private List<Task> snapshot() {
+        synchronized (taskList) {
+            return taskList.snapshot();
+        }
+    }
+
+    /**
+     * Reads the list without the lock, then checks that no change overlapped the read. If one did, the list
+     * is read again under the lock, so that a read never waits for other reads. Only the list itself may be
+     * read without the lock: it is read from arrays whose indexes are checked, so a torn read throws a
+     * RuntimeException at worst, whereas the maps of the indexes may loop or fail in any way while they are
+     * changed, and the reader looks them up under the lock. As the stamp is taken before, a change made
+     * between the lookup and the read of the list still fails the validation.
+     *
+     * @param reader Reads the list, and may be run twice.
+     * @return result of the read.
+     */
+    private <T> T read(Supplier<T> reader) {
+        long stamp = taskList.tryOptimisticRead();
+        try {
+            T result = reader.get();
+            if (taskList.validate(stamp)) {
+                return result;
+            }
+        } catch (RuntimeException e) {
+            // The list was changed halfway through the read, which is done again under the lock.
+        }
+        synchronized (taskList) {
+            return reader.get();
+        }
+    }
+
+    /**
+     * Finds all the deadlines and events before the date / time, done or not, in the order of their date / time.
+     *
+     * @param date Date / time to search before, in dd/MM/yy HHmm or dd/MM/yy for the start of the day.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message findDueBefore(String date) {
+        try {
+            return findBetween(Long.MIN_VALUE, parseDate(date).getTimeInMillis());
+        } catch (ParseException e) {
+            return ui.formatDateTimeErrorMessage();
+        }
+    }
+
+    /**
+     * Finds all the deadlines and events on the day, done or not, in the order of their date / time.
+     *
+     * @param date Day to search, in dd/MM/yy. A time after it is ignored.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message findOn(String date) {
+        try {
+            Calendar day = parseDate(date);
+            day.set(Calendar.HOUR_OF_DAY, 0);
+            day.set(Calendar.MINUTE, 0);
+            long from = day.getTimeInMillis();
+            day.add(Calendar.DAY_OF_MONTH, 1);
+            return findBetween(from, day.getTimeInMillis());
+        } catch (ParseException e) {
+            return ui.formatDateTimeErrorMessage();
+        }
+    }
+
+    /**
+     * Parses the date / time entered by the user, with or without the time.
+     */
+    private static Calendar parseDate(String date) throws ParseException {
+        String trimmed = date.trim();
+        SimpleDateFormat format = new SimpleDateFormat(trimmed.contains(" ") ? "dd/MM/yy HHmm" : "dd/MM/yy");
+        format.setLenient(false);
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(format.parse(trimmed));
+        return calendar;
+    }
+
+    /**
+     * Finds all the deadlines and events from one date / time to another. Only the tasks in the range are
+     * looked at if the time index is ready, otherwise every task is checked and sorted.
+     */
+    private Message findBetween(long from, long to) {
+        List<String> found = read(() -> {
+            List<Task> inRange = null;
+            synchronized (taskList) {
+                if (timeIndex != null) {
+                    inRange = from == Long.MIN_VALUE ? timeIndex.before(to) : timeIndex.between(from, to);
+                }
+            }
+            Stream<Task> tasks;
+            if (inRange != null) {
+                tasks = inRange.stream();
+            } else {
+                tasks = taskList.stream()
+                        .filter(task -> task.hasDateTime()
+                                && task.getDateTimeMillis() >= from && task.getDateTimeMillis() < to)
+                        .sorted(Comparator.comparingLong(Task::getDateTimeMillis));
+            }
+            return tasks.map(x -> x.toString()).collect(Collectors.toList());
+        });
+        return ui.formatSearchOutputMessage(found);
+    }
+
+    /**
+     * Finds all the archived task that contains the string S. The archive is read from the file.
+     *
+     * @param s Keyword to search for the task, empty to list every archived task.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message findArchivedTask(String s) {
+        try {
+            List<String> taskFound = storage.searchArchive(s).stream()
+                    .map(x -> x.toString())
+                    .collect(Collectors.toList());
+            return ui.formatArchiveOutputMessage(taskFound);
+        } catch (IOException e) {
+            return ui.formatImportTaskErrorMessage("archived task");
+        }
+    }
+
     public List<Task> getTaskList() {
         return taskList;
     }
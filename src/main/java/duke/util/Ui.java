@@ -1,6 +1,9 @@
 package duke.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import duke.task.Task;
 
@@ -15,19 +18,49 @@ import duke.task.Task;
  */
 public class Ui {
     /**
-     * Lists out all the task stored by the user.
+     * Lists out all the task stored by the user. Each line is only rendered as it is printed.
      *
-     * @param taskArray To list out all the task.
+     * @param tasks Snapshot of the tasks, which does not change while it is printed.
      * @return message to be used by either the graphic UI or command line UI.
      */
-    public Message listTask(String[] taskArray) {
-        if (taskArray.length == 0) {
+    public Message listTask(List<Task> tasks) {
+        if (tasks.isEmpty()) {
             return new Message("You have no task.");
         } else {
-            return new Message(taskArray);
+            return new Message(() -> numberTasks(tasks.stream(), 0));
         }
     }
 
+    /**
+     * Lists out a page of the task stored by the user, followed by the number of pages.
+     *
+     * @param tasks Snapshot of the tasks, which does not change while it is printed.
+     * @param page Page to list, starting from 1.
+     * @param pageSize Number of tasks on each page.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message listTaskPage(List<Task> tasks, int page, int pageSize) {
+        if (tasks.isEmpty()) {
+            return new Message("You have no task.");
+        }
+        int pageCount = (tasks.size() - 1) / pageSize + 1;
+        if (page > pageCount) {
+            return new Message(String.format("There is no page %d. You have %d page(s) of tasks.", page, pageCount));
+        }
+        int from = (page - 1) * pageSize;
+        List<Task> pageTasks = tasks.subList(from, Math.min(from + pageSize, tasks.size()));
+        return new Message(() -> Stream.concat(numberTasks(pageTasks.stream(), from),
+                Stream.of(String.format("Page %d of %d.", page, pageCount))));
+    }
+
+    /**
+     * Renders each task with its number in the list.
+     */
+    private static Stream<String> numberTasks(Stream<Task> tasks, int from) {
+        int[] number = {from};
+        return tasks.map(task -> ++number[0] + ". " + task);
+    }
+
     /**
      * Prints out a message when task is added.
      *
@@ -62,6 +95,26 @@ public class Ui {
         return new Message("Ugh! This task was already done:", task.toString());
     }
 
+    /**
+     * Prints out a message when the user marks several tasks as done at once.
+     *
+     * @param doneTasks Tasks that were marked as done.
+     * @param alreadyDoneTasks Tasks that were already done.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message formatDoneMessage(List<Task> doneTasks, List<Task> alreadyDoneTasks) {
+        List<String> lines = new ArrayList<>();
+        if (!doneTasks.isEmpty()) {
+            lines.add("Nice! I've marked these tasks as done:");
+            doneTasks.forEach(task -> lines.add(task.toString()));
+        }
+        if (!alreadyDoneTasks.isEmpty()) {
+            lines.add("Ugh! These tasks were already done:");
+            alreadyDoneTasks.forEach(task -> lines.add(task.toString()));
+        }
+        return new Message(lines.toArray(new String[0]));
+    }
+
     /**
      * Prints out a message when the user deletes the task.
      *
@@ -75,6 +128,21 @@ public class Ui {
                 String.format("Now you have %o task(s).", totalTask));
     }
 
+    /**
+     * Prints out a message when the user deletes several tasks at once.
+     *
+     * @param tasks Tasks that were deleted.
+     * @param totalTask Total number of task stored.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message formatDeleteMessage(List<Task> tasks, int totalTask) {
+        List<String> lines = new ArrayList<>();
+        lines.add("Noted. I've removed these tasks:");
+        tasks.forEach(task -> lines.add(task.toString()));
+        lines.add(String.format("Now you have %d task(s).", totalTask));
+        return new Message(lines.toArray(new String[0]));
+    }
+
     /**
      * Prints out all the task that is found.
      *
@@ -90,6 +158,21 @@ public class Ui {
         return new Message(tasks.toArray(new String[0]));
     }
 
+    /**
+     * Prints out all the archived task that is found.
+     *
+     * @param tasks Archived tasks to be printed.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message formatArchiveOutputMessage(List<String> tasks) {
+        if (tasks.size() == 0) {
+            tasks.add(0, "There are no matching tasks in your archive.");
+        } else {
+            tasks.add(0, "Here are the matching task(s) in your archive:");
+        }
+        return new Message(tasks.toArray(new String[0]));
+    }
+
     /**
      * Prints out a message when a task is unable to be exported and saved.
      *
@@ -118,6 +201,41 @@ public class Ui {
         return new Message("I have loaded in task(s) saved from our previous interactions.");
     }
 
+    /**
+     * Prints out a message if task from previous interactions is loaded but some of them were damaged.
+     *
+     * @param lostCount Number of task that could not be loaded.
+     * @param lostRecordsLocation File the damaged task are kept in.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message formatLoadTaskRecoveredMessage(int lostCount, String lostRecordsLocation) {
+        return new Message("I have loaded in task(s) saved from our previous interactions.",
+                String.format("%d damaged task(s) could not be loaded, they are kept in %s.",
+                        lostCount, lostRecordsLocation));
+    }
+
+    /**
+     * Prints out a message if the saved task were changed outside of duke and reloaded.
+     *
+     * @param changedCount Number of task that changed.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message formatReloadMessage(int changedCount) {
+        return new Message(String.format("Your saved task(s) were changed outside of Duke, I have reloaded %d task(s).",
+                changedCount));
+    }
+
+    /**
+     * Prints out a message if the saved task were changed outside of duke while they were also being changed.
+     *
+     * @param conflictLocation File the task of duke are kept in.
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message formatReloadConflictMessage(String conflictLocation) {
+        return new Message("Your saved task(s) were changed outside of Duke while you were changing them.",
+                String.format("I have loaded the changed task(s) and kept your version in %s.", conflictLocation));
+    }
+
     /**
      * Prints out a message when the task cannot be imported.
      *
@@ -140,10 +258,13 @@ public class Ui {
                 "todo <description> - Adds a new todo to the task list.",
                 "deadline <description> /by <date/time> - Adds a new deadline to the task list",
                 "event <description> /at <date/time> - Adds a new event to the task list",
-                "list - return a list of all the task",
-                "done <number> - Sets the task to be done",
+                "list [page] [size] - return a list of all the task, or a page of them",
+                "done <numbers> - Sets the tasks to be done, e.g. 1-3,5",
                 "find <search field> - Find task containing search field",
-                "delete <number> - Delete the task");
+                "archive [search field] - Find done task that were moved to the archive",
+                "due before <date/time> - Find deadlines and events before the date/time",
+                "on <date> - Find deadlines and events on the date",
+                "delete <numbers> - Delete the tasks, e.g. 4,9,12");
     }
 
     /**
@@ -206,6 +327,17 @@ public class Ui {
                 "Note: number is based on the number from command 'list'");
     }
 
+    /**
+     * Prints out error message if the page of list is invalid.
+     *
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message formatListErrorMessage() {
+        return new Message("Ugh! The command should be in this format:",
+                "list [page] [size]",
+                "Note: page and size are numbers from 1");
+    }
+
     /**
      * Prints out error message if todo message does not contains description.
      *
@@ -226,6 +358,26 @@ public class Ui {
                 "find <description>");
     }
 
+    /**
+     * Prints out error message if due message does not contains a date.
+     *
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message formatDueErrorMessage() {
+        return new Message("Ugh! The command should be in this format:",
+                "due before <dd/mm/yy> [hhmm]");
+    }
+
+    /**
+     * Prints out error message if on message does not contains a date.
+     *
+     * @return message to be used by either the graphic UI or command line UI.
+     */
+    public Message formatOnErrorMessage() {
+        return new Message("Ugh! The command should be in this format:",
+                "on <dd/mm/yy>");
+    }
+
 
     /**
      * Prints out error message if deadline message does not contains /by.
@@ -284,10 +436,17 @@ public class Ui {
      * @param strings Arbitrary number of strings to be printed out
      */
     protected static void printMessage(String... strings) {
+        printMessage(Arrays.stream(strings));
+    }
+
+    /**
+     * Prints out each sentence as soon as it is rendered, so that a long message is not held in memory.
+     *
+     * @param strings Sentences to be printed out.
+     */
+    protected static void printMessage(Stream<String> strings) {
         System.out.println("\t____________________________________________________________");
-        for (String str: strings) {
-            System.out.println("\t" + str);
-        }
+        strings.forEach(str -> System.out.println("\t" + str));
         System.out.println("\t____________________________________________________________");
     }
 
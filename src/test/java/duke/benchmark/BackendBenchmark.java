@@ -0,0 +1,43 @@
+package duke.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.storage.BackendType;
+import duke.storage.StorageBackend;
+import duke.storage.StorageOptions;
+import duke.task.Task;
+import duke.util.Ui;
+
+/**
+ * Compares saving and loading the task list with each storage backend.
+ * Usage: {@code gradlew benchmark -Pbench=BackendBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-StorageBackend
+ * @since 18 Oct 2026
+ */
+public class BackendBenchmark {
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 100_000);
+        List<Task> taskList = Benchmarks.generateTasks(size);
+        Path directory = Files.createTempDirectory("duke");
+        System.out.println(String.format("Saving and loading %d tasks", size));
+
+        for (BackendType type : BackendType.values()) {
+            StorageOptions options = new StorageOptions()
+                    .setLocation(directory.resolve(type + ".txt"))
+                    .setBackend(type);
+            StorageBackend backend = type.create(options, new Ui());
+            Benchmarks.time(type + " save", 10, () -> backend.save(taskList));
+            Benchmarks.time(type + " load", 10, () -> backend.load(new ArrayList<>()));
+            Files.deleteIfExists(options.getLocation());
+        }
+        Files.deleteIfExists(directory);
+    }
+}
@@ -0,0 +1,124 @@
+package duke.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.task.Deadlines;
+import duke.task.Events;
+import duke.task.Task;
+import duke.task.ToDos;
+
+/**
+ * Helpers shared by the benchmarks. Benchmarks are plain main classes and are run with
+ * {@code gradlew benchmark -Pbench=<class name>}.
+ *
+ * @author marcuspeh
+ * @version A-MappedImport
+ * @since 18 Oct 2026
+ */
+public class Benchmarks {
+    /** Date / Time of the first generated task, 1 Jan 2021 00:00 UTC. */
+    private static final long START = 1609459200000L;
+    /** Milliseconds in a day. */
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    /**
+     * Action that is timed by the benchmark.
+     */
+    public interface Action {
+        /**
+         * Runs the action once.
+         *
+         * @throws Exception If the action fails.
+         */
+        void run() throws Exception;
+    }
+
+    /**
+     * Generates a mix of todos, deadlines and events.
+     *
+     * @param size Number of tasks to generate.
+     * @return the generated tasks.
+     */
+    public static List<Task> generateTasks(int size) {
+        List<Task> taskList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String description = "task " + i + " for module CS" + (2000 + i % 200);
+            boolean isDone = i % 3 == 0;
+            if (i % 3 == 0) {
+                taskList.add(new ToDos(description, isDone));
+            } else if (i % 3 == 1) {
+                taskList.add(new Deadlines(description, START + (i % 365) * DAY, isDone));
+            } else {
+                taskList.add(new Events(description, START + (i % 365) * DAY, isDone));
+            }
+        }
+        return taskList;
+    }
+
+    /**
+     * Reads the size of the first argument, falling back to the default.
+     *
+     * @param args Arguments of the benchmark.
+     * @param defaultSize Size used if there is no argument.
+     * @return size for the benchmark.
+     */
+    public static int size(String[] args, int defaultSize) {
+        return args.length > 0 ? Integer.parseInt(args[0]) : defaultSize;
+    }
+
+    /**
+     * Runs the action a few times to warm up and then reports the best time and the bytes allocated.
+     *
+     * @param name Name printed with the result.
+     * @param rounds Number of timed rounds.
+     * @param action Action to time.
+     * @return best time in milliseconds.
+     * @throws Exception If the action fails.
+     */
+    public static double time(String name, int rounds, Action action) throws Exception {
+        for (int i = 0; i < 2; i++) {
+            action.run();
+        }
+        long best = Long.MAX_VALUE;
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            action.run();
+            best = Math.min(best, System.nanoTime() - start);
+            allocated = Math.min(allocated, allocatedBytes() - allocatedBefore);
+        }
+        double millis = best / 1e6;
+        System.out.println(String.format("%-40s %10.2f ms %10.1f MB allocated", name, millis,
+                allocated / 1024.0 / 1024.0));
+        return millis;
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread so far, or 0 if the JVM does not report it.
+     *
+     * @return allocated bytes.
+     */
+    public static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the heap still in use after a garbage collection, to measure what a loaded task list keeps alive.
+     *
+     * @return used heap in bytes.
+     */
+    public static long retainedBytes() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,65 @@
+package duke.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import duke.storage.StorageOptions;
+import duke.task.TaskSequence;
+import duke.util.Storage;
+import duke.util.TaskList;
+import duke.util.Ui;
+
+/**
+ * Compares marking and deleting a block of tasks one command at a time, each with its own save, against
+ * a single bulk command with a single save. The tasks are saved to a txt file.
+ * Usage: {@code gradlew benchmark -Pbench=BulkBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-BulkChanges
+ * @since 18 Oct 2026
+ */
+public class BulkBenchmark {
+    /** Number of tasks changed by each command. */
+    private static final int BLOCK = 300;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 20_000);
+        Path directory = Files.createTempDirectory("duke");
+        Ui ui = new Ui();
+        Storage storage = new Storage(ui, new StorageOptions().setLocation(directory.resolve("duke.txt")));
+        TaskList taskList = new TaskList(new TaskSequence(Benchmarks.generateTasks(size)), ui, storage);
+        System.out.println(String.format("Changing %d of %d tasks", BLOCK, size));
+
+        int[] round = {0};
+        Benchmarks.time("done, one command per task", 3, () -> {
+            int from = BLOCK * round[0]++;
+            for (int i = 1; i <= BLOCK; i++) {
+                taskList.markDone(from + i);
+            }
+        });
+        Benchmarks.time("done, one bulk command", 3, () -> {
+            int from = BLOCK * round[0]++;
+            taskList.markDone(IntStream.rangeClosed(from + 1, from + BLOCK).toArray());
+        });
+        Benchmarks.time("delete, one command per task", 3, () -> {
+            for (int i = 0; i < BLOCK; i++) {
+                taskList.deleteTask(1);
+            }
+        });
+        Benchmarks.time("delete, one bulk command", 3,
+                () -> taskList.deleteTasks(IntStream.rangeClosed(1, BLOCK).toArray()));
+        storage.close();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+}
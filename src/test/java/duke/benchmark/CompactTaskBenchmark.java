@@ -0,0 +1,56 @@
+package duke.benchmark;
+
+import java.util.List;
+
+import duke.task.Task;
+import duke.task.TaskSequence;
+
+/**
+ * Measures the heap kept by each task in a task list of task objects and in a compact task list, which
+ * keeps the tasks only as their fields, and the time to read every task from each. The descriptions are
+ * the same Strings in both lists, so the difference is the overhead of the task objects and their Dates.
+ * Usage: {@code gradlew benchmark -Pbench=CompactTaskBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-CompactTasks
+ * @since 18 Oct 2026
+ */
+public class CompactTaskBenchmark {
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 1_000_000);
+        long before = Benchmarks.retainedBytes();
+        String[] descriptions = Benchmarks.generateTasks(size).stream().map(Task::getTask).toArray(String[]::new);
+        long descriptionBytes = Benchmarks.retainedBytes() - before - (long) Integer.BYTES * descriptions.length;
+        System.out.println(String.format("%-40s %10.1f MB retained, %6.1f bytes per task", "descriptions only",
+                descriptionBytes / 1024.0 / 1024.0, (double) descriptionBytes / size));
+        descriptions = null;
+
+        for (boolean isCompact : new boolean[] {false, true}) {
+            before = Benchmarks.retainedBytes();
+            TaskSequence tasks = load(size, isCompact);
+            long retained = Benchmarks.retainedBytes() - before;
+            String name = isCompact ? "compact TaskSequence" : "TaskSequence of Task objects";
+            System.out.println(String.format("%-40s %10.1f MB retained, %6.1f bytes per task, %6.1f besides"
+                    + " the description", name, retained / 1024.0 / 1024.0, (double) retained / size,
+                    (double) (retained - descriptionBytes) / size));
+            Benchmarks.time(name + ", read every task", 5, () -> {
+                long done = 0;
+                for (Task task : tasks) {
+                    done += task.getIsDone() ? 1 : 0;
+                }
+                assert done > 0;
+            });
+        }
+    }
+
+    /**
+     * Loads the generated tasks into a task list, dropping the generated list afterwards.
+     */
+    private static TaskSequence load(int size, boolean isCompact) {
+        List<Task> generated = Benchmarks.generateTasks(size);
+        return new TaskSequence(generated, isCompact);
+    }
+}
@@ -0,0 +1,51 @@
+package duke.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.storage.Compression;
+import duke.storage.Durability;
+import duke.storage.FileBackend;
+import duke.storage.SnapshotFormat;
+import duke.task.Task;
+import duke.util.Ui;
+
+/**
+ * Compares the size, save time and load time of each format with each compression codec.
+ * Usage: {@code gradlew benchmark -Pbench=CompressionBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-Compression
+ * @since 18 Oct 2026
+ */
+public class CompressionBenchmark {
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 100_000);
+        List<Task> taskList = Benchmarks.generateTasks(size);
+        Path directory = Files.createTempDirectory("duke");
+        System.out.println(String.format("Saving and loading %d tasks", size));
+
+        long textSize = 0;
+        for (SnapshotFormat format : SnapshotFormat.values()) {
+            for (Compression compression : Compression.values()) {
+                Path file = directory.resolve(format + "." + compression);
+                FileBackend backend = new FileBackend(file, format, Durability.FLUSH, compression, new Ui());
+                String name = format + " + " + compression;
+                Benchmarks.time(name + " save", 5, () -> backend.save(taskList));
+                Benchmarks.time(name + " load", 5, () -> backend.load(new ArrayList<>()));
+
+                long fileSize = Files.size(file);
+                textSize = textSize == 0 ? fileSize : textSize;
+                System.out.println(String.format("%-40s %10.1f MB, ratio %.2f to plain text", name,
+                        fileSize / 1024.0 / 1024.0, (double) textSize / fileSize));
+                Files.delete(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+}
@@ -0,0 +1,83 @@
+package duke.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import duke.storage.BackendType;
+import duke.storage.StorageOptions;
+import duke.task.TaskSequence;
+import duke.util.Storage;
+import duke.util.TaskList;
+import duke.util.Ui;
+
+/**
+ * Measures the throughput of a read heavy mix of searches and marking tasks as done, from 1 to 32 threads,
+ * with the reads validated without the lock and with every read holding the lock of the list.
+ * Every twentieth operation of each thread is a change. Tasks are saved to memory, so that the disk is not measured.
+ * Usage: {@code gradlew benchmark -Pbench=ConcurrencyBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-ConcurrentReads
+ * @since 18 Oct 2026
+ */
+public class ConcurrencyBenchmark {
+    /** Number of operations done by each thread in a round. */
+    private static final int OPERATIONS = 2000;
+    /** One in this many operations is a change. */
+    private static final int CHANGE_EVERY = 20;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 100_000);
+        Ui ui = new Ui();
+        Storage storage = new Storage(ui, new StorageOptions().setBackend(BackendType.MEMORY));
+        TaskList taskList = new TaskList(new TaskSequence(Benchmarks.generateTasks(size)), ui, storage);
+        System.out.println(String.format("%d tasks, %d operations per thread, one in %d a change", size,
+                OPERATIONS, CHANGE_EVERY));
+        for (int threads = 1; threads <= 32; threads *= 2) {
+            for (boolean isLocked : new boolean[] {false, true}) {
+                int threadCount = threads;
+                double millis = Benchmarks.time(String.format("%2d threads, %s", threads,
+                        isLocked ? "reads under the lock" : "validated reads"), 3,
+                        () -> run(taskList, size, threadCount, isLocked));
+                System.out.println(String.format("%40s %10.0f operations / s", "",
+                        threads * OPERATIONS / millis * 1000));
+            }
+        }
+    }
+
+    /**
+     * Runs the operations of a round on the threads and waits for all of them.
+     */
+    private static void run(TaskList taskList, int size, int threads, boolean isLocked) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    int n = (seed * OPERATIONS + i) * 7919 % size;
+                    if (i % CHANGE_EVERY == 0) {
+                        taskList.markDone(n + 1);
+                    } else if (isLocked) {
+                        synchronized (taskList.getTaskList()) {
+                            taskList.findTask("task " + n + " for");
+                        }
+                    } else {
+                        taskList.findTask("task " + n + " for");
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+    }
+}
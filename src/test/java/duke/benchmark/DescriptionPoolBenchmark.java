@@ -0,0 +1,70 @@
+package duke.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.storage.TextTaskFormat;
+import duke.task.DescriptionPool;
+import duke.task.Task;
+import duke.task.TaskSequence;
+import duke.task.ToDos;
+import duke.util.Ui;
+
+/**
+ * Loads a large txt file in which most descriptions repeat, such as daily chores, into a list of task
+ * objects and into a compact list, and compares the heap each keeps alive. Reports the hit rate of the
+ * description pool of the compact list and the bytes it estimates to save.
+ * Usage: {@code gradlew benchmark -Pbench=DescriptionPoolBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-DescriptionPool
+ * @since 18 Oct 2026
+ */
+public class DescriptionPoolBenchmark {
+    /** Descriptions that repeat across the list. */
+    private static final String[] CHORES = {"standup", "pay rent", "water the plants", "weekly review",
+        "gym", "call home", "take out the trash", "read CS2103T notes"};
+    /** One in this many tasks has a description of its own. */
+    private static final int UNIQUE_EVERY = 10;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 1_000_000);
+        Path file = Files.createTempFile("duke", ".txt");
+        file.toFile().deleteOnExit();
+        List<Task> generated = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            generated.add(new ToDos(i % UNIQUE_EVERY == 0 ? "task " + i : CHORES[i % CHORES.length], i % 2 == 0));
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            TextTaskFormat.write(out, generated);
+        }
+        generated = null;
+        System.out.println(String.format("Loading %d tasks, 1 in %d with a description of its own", size,
+                UNIQUE_EVERY));
+
+        for (boolean isCompact : new boolean[] {false, true}) {
+            long before = Benchmarks.retainedBytes();
+            List<Task> taskList = isCompact ? new TaskSequence(List.of(), true) : new ArrayList<>();
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                TextTaskFormat.read(in, taskList, new Ui());
+            }
+            long retained = Benchmarks.retainedBytes() - before;
+            System.out.println(String.format("%-40s %10.1f MB retained, %6.1f bytes per task",
+                    isCompact ? "compact TaskSequence" : "ArrayList of Task objects", retained / 1024.0 / 1024.0,
+                    (double) retained / taskList.size()));
+            if (isCompact) {
+                DescriptionPool pool = ((TaskSequence) taskList).getDescriptionPool();
+                System.out.println(String.format("%d descriptions kept, hit rate %.1f%%, %.1f MB estimated saved",
+                        pool.getDescriptionCount(), pool.getHitRate() * 100, pool.getBytesSaved() / 1024.0 / 1024.0));
+            }
+        }
+    }
+}
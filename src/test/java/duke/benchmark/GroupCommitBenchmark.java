@@ -0,0 +1,85 @@
+package duke.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import duke.storage.Durability;
+import duke.storage.StorageOptions;
+import duke.util.Storage;
+import duke.util.TaskList;
+import duke.util.Ui;
+
+/**
+ * Compares the throughput of durable saves from a growing number of threads, with each save written
+ * on its own and with group commit. Every change is forced to the disk before the thread moves on.
+ * Usage: {@code gradlew benchmark -Pbench=GroupCommitBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-GroupCommit
+ * @since 18 Oct 2026
+ */
+public class GroupCommitBenchmark {
+    /** Changes made by each thread. */
+    private static final int CHANGES_PER_THREAD = 50;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 1_000);
+        Path directory = Files.createTempDirectory("duke");
+        System.out.println(String.format("Adding tasks to a list of %d tasks with fsync", size));
+
+        for (long window : new long[] {0, 2}) {
+            for (int threads = 1; threads <= 32; threads *= 2) {
+                Path file = directory.resolve("duke" + window + "-" + threads + ".txt");
+                StorageOptions options = new StorageOptions()
+                        .setLocation(file)
+                        .setDurability(Durability.FSYNC)
+                        .setGroupCommitWindow(window);
+                Storage storage = new Storage(new Ui(), options);
+                TaskList taskList = new TaskList(Benchmarks.generateTasks(size), new Ui(), storage);
+                double seconds = run(taskList, threads);
+                storage.close();
+
+                String name = window == 0 ? "separate writes" : "group commit " + window + " ms";
+                System.out.println(String.format("%-24s %2d thread(s) %10.0f saves/s", name, threads,
+                        threads * CHANGES_PER_THREAD / seconds));
+                Files.delete(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Adds tasks from every thread at the same time.
+     *
+     * @param taskList List the tasks are added to.
+     * @param threads Number of threads.
+     * @return seconds taken until every change was saved.
+     * @throws Exception If a thread fails.
+     */
+    private static double run(TaskList taskList, int threads) throws Exception {
+        ExecutorService writers = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        List<Future<?>> adds = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            adds.add(writers.submit(() -> {
+                for (int j = 0; j < CHANGES_PER_THREAD; j++) {
+                    taskList.addTodo("benchmark task " + j);
+                }
+            }));
+        }
+        for (Future<?> add : adds) {
+            add.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        writers.shutdown();
+        return elapsed / 1e9;
+    }
+}
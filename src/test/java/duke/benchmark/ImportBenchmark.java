@@ -0,0 +1,68 @@
+package duke.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.storage.MappedTaskReader;
+import duke.storage.ParallelTaskReader;
+import duke.storage.TextTaskFormat;
+import duke.task.Task;
+import duke.util.Ui;
+
+/**
+ * Compares loading a large txt file with the normal reader, the memory-mapped reader, the lazy reader
+ * and the parallel reader, and the heap each loaded list keeps alive.
+ * Usage: {@code gradlew benchmark -Pbench=ImportBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-LazyLoad
+ * @since 18 Oct 2026
+ */
+public class ImportBenchmark {
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 1_000_000);
+        Path file = Files.createTempFile("duke", ".txt");
+        file.toFile().deleteOnExit();
+        try (OutputStream out = Files.newOutputStream(file)) {
+            TextTaskFormat.write(out, Benchmarks.generateTasks(size));
+        }
+        System.out.println(String.format("Loading %d tasks (%.1f MB)", size, Files.size(file) / 1024.0 / 1024.0));
+
+        Ui ui = new Ui();
+        Benchmarks.time("TextTaskFormat (BufferedReader + split)", 5, () -> {
+            List<Task> taskList = new ArrayList<>();
+            try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                TextTaskFormat.read(in, taskList, ui);
+            }
+        });
+        Benchmarks.time("MappedTaskReader (FileChannel.map)", 5, () -> {
+            List<Task> taskList = new ArrayList<>();
+            new MappedTaskReader(ui).read(file, taskList, null);
+        });
+        Benchmarks.time("MappedTaskReader (lazy descriptions)", 5, () -> {
+            List<Task> taskList = new ArrayList<>();
+            new MappedTaskReader(ui, true).read(file, taskList, null);
+        });
+        Benchmarks.time("ParallelTaskReader (fork-join)", 5, () -> {
+            List<Task> taskList = new ArrayList<>();
+            new ParallelTaskReader(ui).read(file, taskList, null);
+        });
+
+        for (boolean isLazy : new boolean[] {false, true}) {
+            long before = Benchmarks.retainedBytes();
+            List<Task> taskList = new ArrayList<>();
+            new MappedTaskReader(ui, isLazy).read(file, taskList, null);
+            long retained = Benchmarks.retainedBytes() - before;
+            System.out.println(String.format("%-40s %10.1f MB retained for %d tasks",
+                    isLazy ? "MappedTaskReader (lazy descriptions)" : "MappedTaskReader (FileChannel.map)",
+                    retained / 1024.0 / 1024.0, taskList.size()));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package duke.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.stream.IntStream;
+
+import duke.storage.BackendType;
+import duke.storage.StorageOptions;
+import duke.task.TaskSequence;
+import duke.util.Storage;
+import duke.util.TaskList;
+import duke.util.Ui;
+
+/**
+ * Compares the time and memory of listing every task by rendering every line into a single string first,
+ * as before, against printing the lines as they are rendered, and against listing a single page.
+ * The output is thrown away, so that the console is not measured.
+ * Usage: {@code gradlew benchmark -Pbench=ListBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-StreamingList
+ * @since 18 Oct 2026
+ */
+public class ListBenchmark {
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 100_000);
+        Ui ui = new Ui();
+        Storage storage = new Storage(ui, new StorageOptions().setBackend(BackendType.MEMORY));
+        TaskList taskList = new TaskList(new TaskSequence(Benchmarks.generateTasks(size)), ui, storage);
+        System.out.println(String.format("Listing %d tasks", size));
+        Benchmarks.time("render every line, then print", 5, () -> discardOutput(() -> {
+            String[] lines = IntStream.range(0, size)
+                    .mapToObj(x -> (x + 1) + ". " + taskList.getTaskList().get(x).toString())
+                    .toArray(String[]::new);
+            System.out.println(String.join("\n", lines));
+        }));
+        Benchmarks.time("print each line as it is rendered", 5,
+                () -> discardOutput(() -> taskList.listTasks().printMessage()));
+        Benchmarks.time("print a page of 20", 5,
+                () -> discardOutput(() -> taskList.listTasks(size / 40, 20).printMessage()));
+        Benchmarks.time("print the last page of 20", 5,
+                () -> discardOutput(() -> taskList.listTasks((size - 1) / 20 + 1, 20).printMessage()));
+    }
+
+    /**
+     * Runs the action with the output thrown away.
+     */
+    private static void discardOutput(Benchmarks.Action action) throws Exception {
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            action.run();
+        } finally {
+            System.setOut(console);
+        }
+    }
+}
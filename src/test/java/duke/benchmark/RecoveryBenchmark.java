@@ -0,0 +1,67 @@
+package duke.benchmark;
+
+import java.io.BufferedInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import duke.storage.AtomicFileWriter;
+import duke.storage.Durability;
+import duke.storage.RecoveryReport;
+import duke.storage.RecoveryScanner;
+import duke.storage.SnapshotFormat;
+import duke.task.Task;
+import duke.util.Ui;
+
+/**
+ * Measures the cost of the checksums when loading, and the time to recover a file with about 1% of
+ * its records damaged.
+ * Usage: {@code gradlew benchmark -Pbench=RecoveryBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-Recovery
+ * @since 18 Oct 2026
+ */
+public class RecoveryBenchmark {
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 1_000_000);
+        List<Task> taskList = Benchmarks.generateTasks(size);
+        Path directory = Files.createTempDirectory("duke");
+        System.out.println(String.format("Loading and recovering %d tasks", size));
+
+        for (SnapshotFormat format : new SnapshotFormat[] {SnapshotFormat.TEXT, SnapshotFormat.CHECKED}) {
+            Path file = directory.resolve(format.name());
+            AtomicFileWriter.write(file, Durability.FLUSH, out -> format.write(out, taskList));
+            Benchmarks.time(format + " load", 5, () -> {
+                try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                    SnapshotFormat.readAny(in, new ArrayList<>(), new Ui());
+                }
+            });
+            Files.delete(file);
+        }
+
+        Path damaged = directory.resolve("damaged.txt");
+        AtomicFileWriter.write(damaged, Durability.FLUSH, out -> SnapshotFormat.CHECKED.write(out, taskList));
+        byte[] bytes = Files.readAllBytes(damaged);
+        Random random = new Random(2103);
+        for (int i = 0; i < size / 100; i++) {
+            bytes[12 + random.nextInt(bytes.length - 12)] ^= 0x01;
+        }
+        Files.write(damaged, bytes);
+
+        Path recovered = directory.resolve("recovered.txt");
+        Benchmarks.time("recover 1% damaged", 5, () -> RecoveryScanner.recover(damaged, recovered));
+        RecoveryReport report = RecoveryScanner.recover(damaged, recovered);
+        System.out.println(report.toLines().get(0));
+
+        Files.delete(damaged);
+        Files.delete(recovered);
+        Files.delete(directory.resolve("recovered.txt.lost"));
+        Files.deleteIfExists(directory);
+    }
+}
@@ -0,0 +1,61 @@
+package duke.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import duke.storage.Durability;
+import duke.storage.StorageOptions;
+import duke.task.Task;
+import duke.util.Storage;
+import duke.util.Ui;
+
+/**
+ * Compares the latency of a save at each durability level, and of saving a single done task
+ * to one file against saving it to shards.
+ * Usage: {@code gradlew benchmark -Pbench=SaveBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-ShardedStorage
+ * @since 18 Oct 2026
+ */
+public class SaveBenchmark {
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 10_000);
+        List<Task> taskList = Benchmarks.generateTasks(size);
+        Path directory = Files.createTempDirectory("duke");
+        System.out.println(String.format("Saving %d tasks", size));
+
+        for (Durability durability : Durability.values()) {
+            StorageOptions options = new StorageOptions()
+                    .setLocation(directory.resolve(durability + ".txt"))
+                    .setDurability(durability);
+            Storage storage = new Storage(new Ui(), options);
+            Benchmarks.time("exportTask with durability " + durability, 20, () -> storage.exportTask(taskList));
+            storage.close();
+            Files.deleteIfExists(options.getLocation());
+        }
+
+        for (int shardSize : new int[] {0, 1024}) {
+            StorageOptions options = new StorageOptions()
+                    .setLocation(directory.resolve("shard" + shardSize + ".txt"))
+                    .setShardSize(shardSize);
+            Storage storage = new Storage(new Ui(), options);
+            storage.exportTask(taskList);
+            int[] index = {0};
+            Benchmarks.time("saveDoneTask with shard size " + shardSize, 20,
+                    () -> storage.saveDoneTask(taskList, index[0]++ % size));
+            storage.close();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+}
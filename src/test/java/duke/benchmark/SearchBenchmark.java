@@ -0,0 +1,81 @@
+package duke.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import duke.index.TokenIndex;
+import duke.storage.StorageOptions;
+import duke.task.Task;
+import duke.util.Storage;
+import duke.util.TaskList;
+import duke.util.Ui;
+
+/**
+ * Measures find with and without the search index, the cost of keeping the index up to date against
+ * rebuilding it, and how long it takes before the first find after a start can use the index, with a saved
+ * index and with a rebuilt one.
+ * Usage: {@code gradlew benchmark -Pbench=SearchBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-TokenIndex
+ * @since 18 Oct 2026
+ */
+public class SearchBenchmark {
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 100_000);
+        List<Task> tasks = Benchmarks.generateTasks(size);
+        Path directory = Files.createTempDirectory("duke");
+        StorageOptions options = new StorageOptions().setLocation(directory.resolve("duke.txt"));
+        Ui ui = new Ui();
+        System.out.println(String.format("Searching %d tasks", size));
+
+        Storage storage = new Storage(ui, options);
+        storage.exportTask(tasks);
+        TaskList taskList = new TaskList(storage.importTask(), ui, storage);
+        Benchmarks.time("find by scanning every task", 10,
+                () -> tasks.stream().filter(task -> task.getTask().contains("task 4242 ")).count());
+        waitForIndex(taskList);
+        Benchmarks.time("find with the token index", 10, () -> taskList.findTask("task 4242 "));
+        Benchmarks.time("find a module by scanning", 10,
+                () -> tasks.stream().filter(task -> task.getTask().contains("CS2042")).count());
+        Benchmarks.time("find a module with the token index", 10, () -> taskList.findTask("CS2042"));
+
+        List<String> descriptions = tasks.stream().map(Task::getTask).collect(Collectors.toList());
+        TokenIndex index = TokenIndex.of(descriptions);
+        Benchmarks.time("delete and add 1000 tasks in the index", 5, () -> {
+            for (int i = 0; i < 1000; i++) {
+                int position = (i * 7919) % descriptions.size();
+                index.delete(position, descriptions.get(position));
+                index.add(position, descriptions.get(position));
+            }
+        });
+        Benchmarks.time("rebuild the index once", 5, () -> TokenIndex.of(descriptions));
+        storage.close();
+        taskList.saveIndex();
+
+        Benchmarks.time("start with the saved index", 5, () -> {
+            Storage restarted = new Storage(ui, options);
+            waitForIndex(new TaskList(restarted.importTask(), ui, restarted));
+        });
+        Benchmarks.time("start and rebuild the index", 5, () -> {
+            Storage restarted = new Storage(ui, options);
+            List<Task> loaded = restarted.importTask();
+            TokenIndex.of(loaded.stream().map(Task::getTask).collect(Collectors.toList()));
+        });
+
+        Files.delete(options.getLocation());
+        Files.deleteIfExists(directory.resolve("duke.txt.index"));
+        Files.deleteIfExists(directory);
+    }
+
+    private static void waitForIndex(TaskList taskList) throws InterruptedException {
+        while (!taskList.isIndexReady()) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package duke.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.task.Task;
+import duke.task.TaskSequence;
+import duke.task.ToDos;
+
+/**
+ * Measures how long the list is locked to save it, by copying the tasks as before and by taking a snapshot
+ * along with the copy of the slots paid by the next change. The list is then written without the lock.
+ * Usage: {@code gradlew benchmark -Pbench=SnapshotBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-Snapshots
+ * @since 18 Oct 2026
+ */
+public class SnapshotBenchmark {
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 1_000_000);
+        for (boolean isCompact : new boolean[] {false, true}) {
+            TaskSequence tasks = new TaskSequence(Benchmarks.generateTasks(size), isCompact);
+            String kind = isCompact ? "compact" : "objects";
+            Benchmarks.time("copy the tasks, " + kind, 10, () -> new ArrayList<>(tasks));
+            Benchmarks.time("snapshot and next change, " + kind, 10, () -> {
+                List<Task> snapshot = tasks.snapshot();
+                tasks.add(new ToDos("task " + snapshot.size()));
+            });
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package duke.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import duke.storage.Durability;
+import duke.storage.StorageOptions;
+import duke.task.Task;
+import duke.task.TaskSequence;
+import duke.util.Storage;
+import duke.util.TaskList;
+import duke.util.Ui;
+
+/**
+ * Compares the task list backed by an ArrayList with the TaskSequence: deleting tasks from the front one
+ * by one, getting tasks by position, iterating and finding tasks by id. Deleting from the front is also
+ * measured through the TaskList, with the search indexes kept up to date and each delete journaled.
+ * Usage: {@code gradlew benchmark -Pbench=TaskSequenceBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-TaskId
+ * @since 18 Oct 2026
+ */
+public class TaskSequenceBenchmark {
+    /** Number of tasks deleted from the front. */
+    private static final int DELETE_COUNT = 20_000;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 100_000);
+        List<Task> tasks = Benchmarks.generateTasks(size);
+        System.out.println(String.format("Deleting %d of %d tasks", Math.min(DELETE_COUNT, size / 2), size));
+
+        Benchmarks.time("ArrayList delete from the front", 3, () -> deleteFront(new ArrayList<>(tasks)));
+        Benchmarks.time("TaskSequence delete from the front", 3, () -> deleteFront(new TaskSequence(tasks)));
+        deleteFrontOfTaskList(tasks);
+
+        int[] positions = new Random(42).ints(size, 0, size).toArray();
+        List<Task> arrayList = new ArrayList<>(tasks);
+        TaskSequence sequence = new TaskSequence(tasks);
+        Benchmarks.time("ArrayList get by position", 5, () -> getAll(arrayList, positions));
+        Benchmarks.time("TaskSequence get by position", 5, () -> getAll(sequence, positions));
+        Benchmarks.time("ArrayList iterate", 5, () -> arrayList.stream().filter(Task::getIsDone).count());
+        Benchmarks.time("TaskSequence iterate", 5, () -> sequence.stream().filter(Task::getIsDone).count());
+
+        sequence.subList(0, size / 2).clear();
+        Benchmarks.time("TaskSequence position of id", 5, () -> {
+            for (int position : positions) {
+                sequence.indexOfId(tasks.get(position).getId());
+            }
+        });
+    }
+
+    private static void deleteFrontOfTaskList(List<Task> tasks) throws Exception {
+        Path directory = Files.createTempDirectory("duke");
+        StorageOptions options = new StorageOptions()
+                .setLocation(directory.resolve("duke.txt"))
+                .setJournaled(true)
+                .setDurability(Durability.NONE);
+        Ui ui = new Ui();
+        Storage storage = new Storage(ui, options);
+        storage.exportTask(tasks);
+        TaskList taskList = new TaskList(storage.importTask(), ui, storage);
+        while (!taskList.isIndexReady()) {
+            Thread.sleep(1);
+        }
+        int count = Math.min(DELETE_COUNT, tasks.size() / 2) / 5;
+        Benchmarks.time("TaskList delete from the front", 3, () -> {
+            for (int i = 0; i < count; i++) {
+                taskList.deleteTask(1);
+            }
+        });
+        storage.close();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private static void deleteFront(List<Task> taskList) {
+        int count = Math.min(DELETE_COUNT, taskList.size() / 2);
+        for (int i = 0; i < count; i++) {
+            taskList.remove(0);
+        }
+    }
+
+    private static long getAll(List<Task> taskList, int[] positions) {
+        long done = 0;
+        for (int position : positions) {
+            done += taskList.get(position).getIsDone() ? 1 : 0;
+        }
+        return done;
+    }
+}
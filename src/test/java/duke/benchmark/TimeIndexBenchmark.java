@@ -0,0 +1,53 @@
+package duke.benchmark;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import duke.index.TimeIndex;
+import duke.task.Task;
+import duke.task.TaskSequence;
+
+/**
+ * Measures the latency of finding the tasks on a day and the tasks due in the first week, by scanning and
+ * sorting every task, and with the time index. The generated tasks are spread over a year.
+ * Usage: {@code gradlew benchmark -Pbench=TimeIndexBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-CompactTasks
+ * @since 18 Oct 2026
+ */
+public class TimeIndexBenchmark {
+    /** Date / Time of the first generated task, 1 Jan 2021 00:00 UTC. */
+    private static final long START = 1609459200000L;
+    /** Milliseconds in a day. */
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int size = Benchmarks.size(args, 1_000_000);
+        TaskSequence tasks = new TaskSequence(Benchmarks.generateTasks(size));
+        TimeIndex index = TimeIndex.of(tasks, tasks::getById);
+        long day = START + 100 * DAY;
+        long week = START + 7 * DAY;
+        System.out.println(String.format("Searching %d tasks, %d on the day, %d due in the first week", size,
+                index.between(day, day + DAY).size(), index.before(week).size()));
+        Benchmarks.time("on, scan and sort every task", 10, () -> scan(tasks, day, day + DAY));
+        Benchmarks.time("on, time index", 10, () -> index.between(day, day + DAY));
+        Benchmarks.time("due before, scan and sort every task", 10, () -> scan(tasks, Long.MIN_VALUE, week));
+        Benchmarks.time("due before, time index", 10, () -> index.before(week));
+    }
+
+    /**
+     * Finds the dated tasks in the range the same way as without the time index.
+     */
+    private static List<Task> scan(List<Task> tasks, long from, long to) {
+        return tasks.stream()
+                .filter(task -> task.hasDateTime()
+                        && task.getDateTimeMillis() >= from && task.getDateTimeMillis() < to)
+                .sorted(Comparator.comparingLong(Task::getDateTimeMillis))
+                .collect(Collectors.toList());
+    }
+}
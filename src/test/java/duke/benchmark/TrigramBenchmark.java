@@ -0,0 +1,66 @@
+package duke.benchmark;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import duke.index.TokenIndex;
+import duke.index.TrigramIndex;
+import duke.task.Task;
+
+/**
+ * Measures the latency of find by scanning every task, with the token index, with the trigram index, and
+ * with the trigram index only for the queries the token index cannot narrow down, as find does.
+ * The queries are whole words, span several words, are made of common words or contain punctuation.
+ * Runs with 10k, 100k and 1M tasks unless a number of tasks is given.
+ * Usage: {@code gradlew benchmark -Pbench=TrigramBenchmark -PbenchArgs=<number of tasks>}.
+ *
+ * @author marcuspeh
+ * @version A-TrigramIndex
+ * @since 18 Oct 2026
+ */
+public class TrigramBenchmark {
+    /** Queries to search for. */
+    private static final List<String> QUERIES = List.of("CS2042", "task 4242 ", "42 for", "r module C", "4 - 2");
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        List<Integer> sizes = args.length > 0 ? List.of(Benchmarks.size(args, 0)) : List.of(10_000, 100_000,
+                1_000_000);
+        for (int size : sizes) {
+            List<String> descriptions = Benchmarks.generateTasks(size).stream()
+                    .map(Task::getTask)
+                    .collect(Collectors.toList());
+            TokenIndex tokens = TokenIndex.of(descriptions);
+            TrigramIndex trigrams = TrigramIndex.of(descriptions);
+            System.out.println(String.format("Searching %d tasks", size));
+            for (String query : QUERIES) {
+                System.out.println(String.format("Query \"%s\", %d matches", query, find(descriptions, null, query)));
+                Benchmarks.time("scan every task", 10, () -> find(descriptions, null, query));
+                Benchmarks.time("token index", 10, () -> find(descriptions, tokens.candidates(query), query));
+                Benchmarks.time("trigram index", 10, () -> find(descriptions, trigrams.candidates(query), query));
+                Benchmarks.time("token index, then trigram index", 10, () -> {
+                    BitSet candidates = tokens.candidates(query);
+                    find(descriptions, candidates == null ? trigrams.candidates(query) : candidates, query);
+                });
+            }
+        }
+    }
+
+    /**
+     * Counts the tasks containing the query the same way as find.
+     *
+     * @param descriptions Description of each task.
+     * @param candidates Tasks to check, null to check every task.
+     * @param query Text to search for.
+     * @return number of tasks containing the query.
+     */
+    private static long find(List<String> descriptions, BitSet candidates, String query) {
+        if (candidates == null) {
+            return descriptions.stream().filter(description -> description.contains(query)).count();
+        }
+        return candidates.stream().filter(i -> descriptions.get(i).contains(query)).count();
+    }
+}
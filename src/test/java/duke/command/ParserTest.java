@@ -2,9 +2,12 @@ package duke.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import duke.util.DukeException;
@@ -150,6 +153,16 @@ public class ParserTest {
         }
     }
 
+    @Test
+    public void parseChat_lowercaseArchiveInput_success() {
+        try {
+            boolean isInstant = Parser.parseChat("archive cs2103") instanceof ArchiveCommand;
+            assertTrue(isInstant, "Archive command return is returned.");
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
     @Test
     public void parseChat_incorrectInput_exceptionThrown() {
         try {
@@ -159,4 +172,39 @@ public class ParserTest {
             assertEquals("Command not parsable", e.getMessage());
         }
     }
+
+    @Test
+    public void parseChat_lowercaseDueInput_success() {
+        try {
+            boolean isInstant = Parser.parseChat("due before 10/09/21") instanceof DueCommand;
+            assertTrue(isInstant, "Due command return is returned.");
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void parseChat_lowercaseOnInput_success() {
+        try {
+            boolean isInstant = Parser.parseChat("on 10/09/21") instanceof OnCommand;
+            assertTrue(isInstant, "On command return is returned.");
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void parseTaskNumbers_rangesAndNumbers_ascendingWithoutRepeats() {
+        assertEquals("[1, 2, 3, 5, 9]", Arrays.toString(Parser.parseTaskNumbers("5, 1-3,2 ,9-9", 10)));
+        assertEquals("[4]", Arrays.toString(Parser.parseTaskNumbers("4", 10)));
+    }
+
+    @Test
+    public void parseTaskNumbers_invalidNumbers_exceptionThrown() {
+        assertThrows(NumberFormatException.class, () -> Parser.parseTaskNumbers("3-1", 10));
+        assertThrows(NumberFormatException.class, () -> Parser.parseTaskNumbers("1-", 10));
+        assertThrows(NumberFormatException.class, () -> Parser.parseTaskNumbers("1,,2", 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> Parser.parseTaskNumbers("2-11", 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> Parser.parseTaskNumbers("-1", 10));
+    }
 }
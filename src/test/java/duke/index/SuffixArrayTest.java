@@ -0,0 +1,48 @@
+package duke.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class SuffixArrayTest {
+    private static final List<String> TOKENS = List.of("book", "notebook", "books", "boo", "ebook");
+
+    private TreeSet<String> find(SuffixArray suffixes, String text, boolean isPrefix, boolean isSuffix) {
+        TreeSet<String> found = new TreeSet<>();
+        suffixes.find(text, isPrefix, isSuffix, Integer.MAX_VALUE, tokenId -> found.add(TOKENS.get(tokenId)));
+        return found;
+    }
+
+    @Test
+    public void find_addedOneByOneOrAtOnce_sameTokens() {
+        List<String> tokens = new ArrayList<>(TOKENS);
+        SuffixArray added = new SuffixArray(tokens);
+        for (int i = 0; i < tokens.size(); i++) {
+            added.add(i);
+        }
+        SuffixArray addedAll = new SuffixArray(tokens);
+        addedAll.addAll(0, tokens.size());
+
+        for (SuffixArray suffixes : List.of(added, addedAll)) {
+            assertEquals(new TreeSet<>(TOKENS), find(suffixes, "boo", false, false));
+            assertEquals(new TreeSet<>(List.of("book", "books", "boo")), find(suffixes, "boo", true, false));
+            assertEquals(new TreeSet<>(List.of("book", "notebook", "ebook")), find(suffixes, "book", false, true));
+            assertEquals(new TreeSet<>(List.of("book")), find(suffixes, "book", true, true));
+            assertEquals(new TreeSet<>(), find(suffixes, "cook", false, false));
+        }
+    }
+
+    @Test
+    public void find_moreSuffixesThanLimit_givesUp() {
+        SuffixArray suffixes = new SuffixArray(new ArrayList<>(TOKENS));
+        suffixes.addAll(0, TOKENS.size());
+        assertTrue(suffixes.find("book", false, false, 4, tokenId -> { }));
+        assertFalse(suffixes.find("boo", false, false, 4, tokenId -> { }));
+    }
+}
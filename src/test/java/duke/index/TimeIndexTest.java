@@ -0,0 +1,51 @@
+package duke.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Deadlines;
+import duke.task.Events;
+import duke.task.Task;
+import duke.task.TaskSequence;
+import duke.task.ToDos;
+
+public class TimeIndexTest {
+    private long millis(String dateTime) throws ParseException {
+        return new SimpleDateFormat("dd/MM/yy HHmm").parse(dateTime).getTime();
+    }
+
+    @Test
+    public void before_datedTasks_inTimeOrderWithoutTodos() throws ParseException {
+        Task lecture = new Events("CS2103T lecture", "10/09/21 1600");
+        Task iP = new Deadlines("CS2103T iP", "10/09/21 1600");
+        Task tP = new Deadlines("CS2103T tP", "01/10/21 2359");
+        Task quiz = new Deadlines("CS2101 quiz", "09/09/21 1200");
+        TaskSequence tasks = new TaskSequence(List.of(lecture, new ToDos("read book"), iP, tP, quiz));
+        TimeIndex index = TimeIndex.of(tasks, tasks::getById);
+
+        assertEquals(List.of(quiz, lecture, iP), index.before(millis("01/10/21 2359")));
+        assertEquals(List.of(quiz), index.before(millis("10/09/21 1600")));
+        assertEquals(List.of(lecture, iP), index.between(millis("10/09/21 0000"), millis("11/09/21 0000")));
+        assertEquals(List.of(), index.between(millis("11/09/21 0000"), millis("12/09/21 0000")));
+    }
+
+    @Test
+    public void delete_sameTime_onlyThatTask() throws ParseException {
+        Task lecture = new Events("CS2103T lecture", "10/09/21 1600");
+        Task iP = new Deadlines("CS2103T iP", "10/09/21 1600");
+        Task book = new ToDos("read book");
+        TaskSequence tasks = new TaskSequence(List.of(lecture, iP, book), true);
+        TimeIndex index = TimeIndex.of(tasks, tasks::getById);
+
+        index.delete(tasks.remove(0));
+        assertEquals(iP.toString(), index.before(millis("11/09/21 0000")).get(0).toString());
+        index.delete(tasks.remove(0));
+        index.delete(tasks.remove(0));
+        assertEquals(List.of(), index.before(millis("11/09/21 0000")));
+    }
+}
@@ -0,0 +1,124 @@
+package duke.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenIndexTest {
+    private static final List<String> DESCRIPTIONS = List.of("CS2103T iP", "CS2103T tP", "read book",
+            "return book to CS library", "iP week 5: add tests");
+
+    @Test
+    public void tokenize_punctuationAndSpaces_lettersAndDigitsOnly() {
+        assertEquals(List.of("iP", "week", "5", "add", "tests"), TokenIndex.tokenize("iP week 5: add tests"));
+        assertEquals(List.of(), TokenIndex.tokenize(" :) "));
+    }
+
+    @Test
+    public void candidates_anyQuery_includesEveryMatch() {
+        TokenIndex index = TokenIndex.of(DESCRIPTIONS);
+        for (String query : List.of("CS2103", "2103T tP", "book", "ook to C", "k 5: a", "P", "missing")) {
+            BitSet candidates = index.candidates(query);
+            for (int i = 0; i < DESCRIPTIONS.size(); i++) {
+                if (DESCRIPTIONS.get(i).contains(query)) {
+                    assertTrue(candidates.get(i), query + " should match " + DESCRIPTIONS.get(i));
+                }
+            }
+        }
+        assertEquals(BitSet.valueOf(new long[] {0b1100}), index.candidates("book"));
+        assertNull(index.candidates(": "));
+    }
+
+    @Test
+    public void readFrom_written_sameCandidates() throws IOException {
+        TokenIndex index = TokenIndex.of(DESCRIPTIONS);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes), taskId -> taskId);
+
+        TokenIndex read = TokenIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())),
+                position -> position);
+        assertEquals(DESCRIPTIONS.size(), read.getTaskCount());
+        assertEquals(index.candidates("CS"), read.candidates("CS"));
+    }
+
+    @Test
+    public void readFrom_writtenWithOtherIds_idsOfLoadedTasks() throws IOException {
+        TokenIndex index = TokenIndex.of(new int[] {10, 11, 12, 13, 14}, DESCRIPTIONS);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes), taskId -> taskId - 10);
+
+        TokenIndex read = TokenIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())),
+                position -> 4 - position);
+        assertEquals(BitSet.valueOf(new long[] {0b00110}), read.candidates("book"));
+    }
+
+    @Test
+    public void candidates_wholeWords_onlyTasksWithThem() {
+        TokenIndex index = TokenIndex.of(DESCRIPTIONS);
+        assertEquals(BitSet.valueOf(new long[] {0b1000}), index.candidates("book to"));
+        assertEquals(BitSet.valueOf(new long[] {0b1000}), index.candidates(" to "));
+        assertEquals(new BitSet(), index.candidates(" CS2103 "));
+    }
+
+    @Test
+    public void delete_fromTheFront_deletedTasksNotCandidates() {
+        List<String> descriptions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            descriptions.add("read book " + i);
+        }
+        TokenIndex index = TokenIndex.of(descriptions);
+        for (int i = 0; i < 90; i++) {
+            index.delete(i, descriptions.get(i));
+        }
+        BitSet expected = new BitSet();
+        expected.set(90, 100);
+        assertEquals(expected, index.candidates("read book"));
+        assertEquals(10, index.getTaskCount());
+    }
+
+    @Test
+    public void delete_randomChanges_sameAsScan() {
+        Random random = new Random(42);
+        List<String> descriptions = new ArrayList<>();
+        List<Integer> taskIds = new ArrayList<>();
+        TokenIndex index = TokenIndex.of(descriptions);
+        for (int i = 0; i < 5000; i++) {
+            if (!descriptions.isEmpty() && random.nextInt(3) == 0) {
+                int position = random.nextInt(descriptions.size());
+                index.delete(taskIds.remove(position), descriptions.remove(position));
+            } else {
+                String description = "task " + random.nextInt(500) + " CS" + (2100 + random.nextInt(10));
+                descriptions.add(description);
+                taskIds.add(i);
+                index.add(i, description);
+            }
+        }
+        assertEquals(descriptions.size(), index.getTaskCount());
+        for (String query : List.of("task 42", "42 ", " 42 CS", "CS2105", "S210", "sk 7")) {
+            BitSet expected = new BitSet();
+            for (int i = 0; i < descriptions.size(); i++) {
+                if (descriptions.get(i).contains(query)) {
+                    expected.set(taskIds.get(i));
+                }
+            }
+            BitSet candidates = index.candidates(query);
+            if (candidates != null) {
+                BitSet missed = (BitSet) expected.clone();
+                missed.andNot(candidates);
+                assertTrue(missed.isEmpty(), query + " missed " + missed);
+            }
+        }
+    }
+}
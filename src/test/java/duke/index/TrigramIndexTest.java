@@ -0,0 +1,77 @@
+package duke.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+    private static final List<String> DESCRIPTIONS = List.of("CS2103T iP", "CS2103T tP", "read book",
+            "return book to CS library", "iP week 5: add tests");
+
+    @Test
+    public void candidates_anyQuery_onlyTasksWithEveryTrigram() {
+        TrigramIndex index = TrigramIndex.of(DESCRIPTIONS);
+        assertEquals(BitSet.valueOf(new long[] {0b11}), index.candidates("2103T"));
+        assertEquals(BitSet.valueOf(new long[] {0b10000}), index.candidates("5: "));
+        assertEquals(BitSet.valueOf(new long[] {0b1000}), index.candidates("book to"));
+        assertEquals(new BitSet(), index.candidates("books"));
+        assertNull(index.candidates("iP"));
+    }
+
+    @Test
+    public void delete_fromTheFront_deletedTasksNotCandidates() {
+        List<String> descriptions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            descriptions.add("read book " + i);
+        }
+        TrigramIndex index = TrigramIndex.of(descriptions);
+        for (int i = 0; i < 90; i++) {
+            index.delete(i, descriptions.get(i));
+        }
+        BitSet expected = new BitSet();
+        expected.set(90, 100);
+        assertEquals(expected, index.candidates("read book"));
+        assertEquals(10, index.getTaskCount());
+    }
+
+    @Test
+    public void delete_randomChanges_sameAsScan() {
+        Random random = new Random(42);
+        List<String> descriptions = new ArrayList<>();
+        List<Integer> taskIds = new ArrayList<>();
+        TrigramIndex index = TrigramIndex.of(descriptions);
+        for (int i = 0; i < 5000; i++) {
+            if (!descriptions.isEmpty() && random.nextInt(3) == 0) {
+                int position = random.nextInt(descriptions.size());
+                index.delete(taskIds.remove(position), descriptions.remove(position));
+            } else {
+                String description = "task " + random.nextInt(500) + " - CS" + (2100 + random.nextInt(10));
+                descriptions.add(description);
+                taskIds.add(i);
+                index.add(i, description);
+            }
+        }
+        assertEquals(descriptions.size(), index.getTaskCount());
+        for (String query : List.of("task 42", "42 - ", " - CS2105", "S210", "k 7")) {
+            BitSet expected = new BitSet();
+            for (int i = 0; i < descriptions.size(); i++) {
+                if (descriptions.get(i).contains(query)) {
+                    expected.set(taskIds.get(i));
+                }
+            }
+            BitSet candidates = index.candidates(query);
+            if (candidates != null) {
+                BitSet missed = (BitSet) expected.clone();
+                missed.andNot(candidates);
+                assertTrue(missed.isEmpty(), query + " missed " + missed);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AtomicFileWriterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void write_everyDurability_fileReplaced() throws IOException {
+        Path file = tempDir.resolve("duke.txt");
+        for (Durability durability : Durability.values()) {
+            AtomicFileWriter.write(file, durability, out -> out.write(durability.name().getBytes()));
+            assertEquals(durability.name(), new String(Files.readAllBytes(file)));
+            assertFalse(Files.exists(tempDir.resolve("duke.txt.tmp")));
+        }
+    }
+
+    @Test
+    public void write_failedWhileWriting_originalKept() throws IOException {
+        Path file = tempDir.resolve("duke.txt");
+        Files.write(file, "T | CS2103 | 0".getBytes());
+
+        assertThrows(IOException.class, () -> AtomicFileWriter.write(file, Durability.FSYNC, out -> {
+            out.write("T | half".getBytes());
+            throw new IOException("disk full");
+        }));
+        assertEquals("T | CS2103 | 0", new String(Files.readAllBytes(file)));
+        assertFalse(Files.exists(tempDir.resolve("duke.txt.tmp")));
+    }
+}
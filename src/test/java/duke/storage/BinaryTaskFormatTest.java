@@ -0,0 +1,98 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.task.Deadlines;
+import duke.task.Events;
+import duke.task.Task;
+import duke.task.ToDos;
+
+public class BinaryTaskFormatTest {
+    @TempDir
+    Path tempDir;
+
+    private List<Task> sampleTasks() throws ParseException {
+        List<Task> taskList = new ArrayList<>();
+        taskList.add(new ToDos("CS2103", true));
+        taskList.add(new Deadlines("CS2106 \u00fcn\u00efcode", "21/8/21 1500"));
+        taskList.add(new Events("CS2101", "22/8/21 1000", true));
+        return taskList;
+    }
+
+    @Test
+    public void read_writtenTasks_sameTasks() throws IOException, ParseException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryTaskFormat.write(out, sampleTasks());
+
+        List<Task> taskList = new ArrayList<>();
+        BinaryTaskFormat.read(new ByteArrayInputStream(out.toByteArray()), taskList);
+        assertEquals(3, taskList.size());
+        for (int i = 0; i < taskList.size(); i++) {
+            assertEquals(sampleTasks().get(i).saveOutput(), taskList.get(i).saveOutput());
+        }
+    }
+
+    @Test
+    public void detect_textAndBinary_success() throws IOException, ParseException {
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        BinaryTaskFormat.write(binary, sampleTasks());
+        InputStream text = new ByteArrayInputStream("T | CS2103 | 0".getBytes());
+
+        assertTrue(BinaryTaskFormat.isBinary(new BufferedInputStream(new ByteArrayInputStream(binary.toByteArray()))));
+        assertFalse(BinaryTaskFormat.isBinary(new BufferedInputStream(text)));
+    }
+
+    @Test
+    public void convert_textToBinaryAndBack_sameFile() throws IOException, ParseException {
+        Path file = tempDir.resolve("duke.txt");
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        TextTaskFormat.write(text, sampleTasks());
+        Files.write(file, text.toByteArray());
+
+        assertEquals(3, SnapshotConverter.convert(file, file, null));
+        try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            assertEquals(SnapshotFormat.BINARY, SnapshotFormat.detect(in));
+        }
+
+        SnapshotConverter.convert(file, file, null);
+        assertEquals(new String(text.toByteArray()), new String(Files.readAllBytes(file)));
+    }
+
+    @Test
+    public void read_damagedCountLengthOrType_ioException() throws IOException, ParseException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryTaskFormat.write(out, sampleTasks());
+        byte[] valid = out.toByteArray();
+        int count = 5;
+        int firstType = count + 4;
+        int firstLength = firstType + 1 + 1 + 8;
+
+        for (int[] damage : new int[][] {{count, 0x80}, {count, 0x7F}, {firstLength, 0x80}, {firstLength, 0x7F},
+                {firstType, 'X'}}) {
+            byte[] damaged = valid.clone();
+            damaged[damage[0]] = (byte) damage[1];
+            assertThrows(IOException.class,
+                    () -> BinaryTaskFormat.read(new ByteArrayInputStream(damaged), new ArrayList<>()));
+        }
+        assertThrows(IOException.class, () -> BinaryTaskFormat.read(
+                new ByteArrayInputStream(Arrays.copyOf(valid, valid.length - 3)), new ArrayList<>()));
+    }
+}
@@ -0,0 +1,54 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Task;
+import duke.task.ToDos;
+import duke.util.Ui;
+
+public class CompressionTest {
+    private List<Task> todos(int count) {
+        List<Task> taskList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            taskList.add(new ToDos("read chapter " + i));
+        }
+        return taskList;
+    }
+
+    @Test
+    public void readAny_everyCodecAndFormat_sameTasks() throws IOException {
+        for (Compression compression : Compression.values()) {
+            for (SnapshotFormat format : SnapshotFormat.values()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                compression.write(out, compressed -> format.write(compressed, todos(100)));
+                BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+                assertEquals(compression, Compression.detect(in));
+
+                List<Task> taskList = new ArrayList<>();
+                SnapshotFormat.readAny(in, taskList, new Ui());
+                assertEquals(100, taskList.size());
+                assertEquals("[T][ ] read chapter 99", taskList.get(99).toString());
+            }
+        }
+    }
+
+    @Test
+    public void write_repetitiveTasks_smallerThanText() throws IOException {
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        SnapshotFormat.TEXT.write(text, todos(1000));
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        Compression.GZIP.write(gzip, compressed -> SnapshotFormat.TEXT.write(compressed, todos(1000)));
+
+        assertTrue(gzip.size() * 4 < text.size());
+    }
+}
@@ -0,0 +1,94 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.task.Task;
+import duke.task.ToDos;
+
+public class JournalTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void replay_appendedChanges_success() throws IOException {
+        Journal journal = new Journal(tempDir.resolve("duke.txt"), Durability.FLUSH);
+        journal.appendAdd(new ToDos("CS2103"));
+        journal.appendAdd(new ToDos("CS2106"));
+        journal.appendDone(1);
+        journal.appendDelete(0);
+        journal.close();
+
+        List<Task> taskList = new ArrayList<>();
+        assertEquals(4, new Journal(tempDir.resolve("duke.txt"), Durability.FLUSH).replay(taskList, 0));
+        assertEquals(1, taskList.size());
+        assertEquals("[T][X] CS2106", taskList.get(0).toString());
+    }
+
+    @Test
+    public void replay_pendingJournalOfOlderSnapshot_skipped() throws IOException {
+        Journal journal = new Journal(tempDir.resolve("duke.txt"), Durability.FLUSH);
+        journal.appendAdd(new ToDos("CS2103"));
+        journal.rotate(42);
+        journal.appendAdd(new ToDos("CS2106"));
+        journal.close();
+        assertTrue(journal.hasPending());
+
+        List<Task> taskList = new ArrayList<>();
+        journal.replay(taskList, 42);
+        assertEquals(2, taskList.size());
+
+        taskList.clear();
+        journal.replay(taskList, 7);
+        assertEquals(1, taskList.size());
+        assertEquals("[T][ ] CS2106", taskList.get(0).toString());
+    }
+
+    @Test
+    public void replay_tornLastRecord_skipped() throws IOException {
+        Journal journal = new Journal(tempDir.resolve("duke.txt"), Durability.FLUSH);
+        journal.appendAdd(new ToDos("CS2103"));
+        journal.appendAdd(new ToDos("CS2106"));
+        journal.close();
+        Path file = tempDir.resolve("duke.txt.journal");
+        String records = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        Files.write(file, records.substring(records.indexOf('\n') + 1, records.length() - 3)
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        List<Task> taskList = new ArrayList<>();
+        assertEquals(2, new Journal(tempDir.resolve("duke.txt"), Durability.FLUSH).replay(taskList, 0));
+        assertEquals("[T][ ] CS2106", taskList.get(1).toString());
+    }
+
+    @Test
+    public void replay_damagedRecordBeforeOthers_stopped() throws IOException {
+        Journal journal = new Journal(tempDir.resolve("duke.txt"), Durability.FLUSH);
+        journal.appendAdd(new ToDos("CS2103"));
+        journal.appendAdd(new ToDos("CS2106"));
+        journal.appendAdd(new ToDos("CS2101"));
+        journal.appendDone(1);
+        journal.close();
+        Path file = tempDir.resolve("duke.txt.journal");
+        List<String> records = Files.readAllLines(file, StandardCharsets.UTF_8);
+        records.set(1, records.get(1).replace("CS2106", "CS2107"));
+        Files.write(file, records, StandardCharsets.UTF_8);
+
+        List<Task> taskList = new ArrayList<>();
+        Journal replayed = new Journal(tempDir.resolve("duke.txt"), Durability.FLUSH);
+        assertEquals(1, replayed.replay(taskList, 0));
+        assertTrue(replayed.isDamaged());
+        assertEquals(1, taskList.size());
+        assertEquals("[T][ ] CS2103", taskList.get(0).toString());
+    }
+}
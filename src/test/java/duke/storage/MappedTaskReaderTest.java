@@ -0,0 +1,77 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Task;
+import duke.util.Ui;
+
+public class MappedTaskReaderTest {
+    private static final String FILE = "T | CS2103 | 0\n"
+            + "D | CS2106 | 1 | 21/08/21 1500\r\n"
+            + "E | CS2101 | 0 | 1/2/22 0930\n"
+            + "E | bad date | 0 | 1/2/22 p\n"
+            + "D | single digit | 0 | 3/9/21 14\n"
+            + "\n"
+            + "X | unknown | 0\n"
+            + "T | too | many | fields | here\n"
+            + "T | trailing | 0 | \n"
+            + "D | missing date | 0\n"
+            + "T | last line | 1";
+
+    private List<String> readNormally() throws IOException {
+        List<Task> taskList = new ArrayList<>();
+        TextTaskFormat.read(new ByteArrayInputStream(FILE.getBytes()), taskList, new Ui());
+        return saveOutputs(taskList);
+    }
+
+    private List<String> saveOutputs(List<Task> taskList) {
+        List<String> outputs = new ArrayList<>();
+        for (Task task : taskList) {
+            outputs.add(task.saveOutput());
+        }
+        return outputs;
+    }
+
+    @Test
+    public void readLines_variousLines_sameAsNormalReader() throws IOException {
+        List<Task> taskList = new ArrayList<>();
+        MappedTaskReader reader = new MappedTaskReader(new Ui());
+        int consumed = reader.readLines(ByteBuffer.wrap(FILE.getBytes()), true, taskList);
+
+        assertEquals(FILE.getBytes().length, consumed);
+        assertEquals(readNormally(), saveOutputs(taskList));
+    }
+
+    @Test
+    public void readLines_incompleteLastLine_leftForNextWindow() {
+        List<Task> taskList = new ArrayList<>();
+        MappedTaskReader reader = new MappedTaskReader(new Ui());
+        int consumed = reader.readLines(ByteBuffer.wrap("T | one | 0\nT | tw".getBytes()), false, taskList);
+
+        assertEquals("T | one | 0\n".length(), consumed);
+        assertEquals(1, taskList.size());
+    }
+
+    @Test
+    public void readLines_lazy_descriptionsLoadedWhenNeeded() throws IOException {
+        List<Task> taskList = new ArrayList<>();
+        MappedTaskReader reader = new MappedTaskReader(new Ui(), true);
+        reader.readLines(ByteBuffer.wrap(FILE.getBytes()), true, taskList);
+
+        assertFalse(taskList.get(0).isLoaded());
+        assertEquals("[T][ ] CS2103", taskList.get(0).toString());
+        assertTrue(taskList.get(0).isLoaded());
+        assertFalse(taskList.get(1).isLoaded());
+        assertEquals(readNormally(), saveOutputs(taskList));
+    }
+}
@@ -0,0 +1,78 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Task;
+import duke.task.ToDos;
+import duke.util.Ui;
+
+public class ParallelTaskReaderTest {
+    /**
+     * Writes the tasks to a temporary file. The file is not in a TempDir as mapped files
+     * cannot be deleted on Windows until they are garbage collected.
+     */
+    private Path writeTasks(List<Task> taskList) throws IOException {
+        Path file = Files.createTempFile("duke", ".txt");
+        file.toFile().deleteOnExit();
+        try (OutputStream out = Files.newOutputStream(file)) {
+            TextTaskFormat.write(out, taskList);
+        }
+        return file;
+    }
+
+    @Test
+    public void read_manySmallChunks_originalOrder() throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(new ToDos("task " + i, i % 2 == 0));
+        }
+        Path file = writeTasks(tasks);
+
+        List<Task> taskList = new ArrayList<>();
+        CRC32 checksum = new CRC32();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        new ParallelTaskReader(new Ui(), pool, 64).read(file, taskList, checksum);
+        pool.shutdown();
+
+        assertEquals(tasks.size(), taskList.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).saveOutput(), taskList.get(i).saveOutput());
+        }
+        CRC32 expected = new CRC32();
+        expected.update(Files.readAllBytes(file));
+        assertEquals(expected.getValue(), checksum.getValue());
+    }
+
+    @Test
+    public void splitIntoChunks_chunksEndOnLineBreak() throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new ToDos("task " + i));
+        }
+        Path file = writeTasks(tasks);
+        byte[] bytes = Files.readAllBytes(file);
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            long[] bounds = new ParallelTaskReader(new Ui(), ForkJoinPool.commonPool(), 100)
+                    .splitIntoChunks(channel);
+            assertTrue(bounds.length > 2);
+            assertEquals(bytes.length, bounds[bounds.length - 1]);
+            for (int i = 1; i < bounds.length - 1; i++) {
+                assertEquals('\n', bytes[(int) bounds[i] - 1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.task.Task;
+import duke.task.ToDos;
+import duke.util.Ui;
+
+public class RecoveryScannerTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void stripChecksum_changedRecord_null() {
+        String line = TextTaskFormat.withChecksum("T | CS2103 | 0");
+        assertEquals("T | CS2103 | 0", TextTaskFormat.stripChecksum(line));
+        assertNull(TextTaskFormat.stripChecksum(line.replace("CS2103", "CS2104")));
+        assertEquals("T | CS2103 | 0", TextTaskFormat.stripChecksum("T | CS2103 | 0"));
+    }
+
+    @Test
+    public void recover_damagedRecords_skippedAndReported() throws IOException {
+        Path file = tempDir.resolve("duke.txt");
+        Files.write(file, Arrays.asList(
+                TextTaskFormat.withChecksum("T | CS2103 | 0"),
+                TextTaskFormat.withChecksum("T | CS2106 | 1").replace("CS2106", "CS2l06"),
+                "garbage",
+                TextTaskFormat.withChecksum("D | CS2101 | 0 | 22/8/21 1000").replace("22/8", "99/8"),
+                TextTaskFormat.withChecksum("T | CS2105 | 1")), StandardCharsets.UTF_8);
+
+        RecoveryReport report = RecoveryScanner.recover(file, file);
+        assertEquals(2, report.getRecoveredCount());
+        assertEquals(3, report.getLostCount());
+        assertEquals(2, report.getLostRecords().get(0).getLineNumber());
+        assertTrue(Files.exists(tempDir.resolve("duke.txt.damaged")));
+        assertTrue(Files.readAllLines(tempDir.resolve("duke.txt.lost")).get(0).contains("3"));
+
+        List<Task> taskList = new ArrayList<>();
+        try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            assertEquals(0, SnapshotFormat.readAny(in, taskList, new Ui()).getLostCount());
+        }
+        assertEquals(Arrays.asList("[T][ ] CS2103", "[T][X] CS2105"),
+                Arrays.asList(taskList.get(0).toString(), taskList.get(1).toString()));
+    }
+
+    @Test
+    public void read_checkedFormat_roundTrip() throws IOException {
+        List<Task> saved = new ArrayList<>();
+        saved.add(new ToDos("CS2103"));
+        Path file = tempDir.resolve("checked.txt");
+        AtomicFileWriter.write(file, Durability.FLUSH, out -> SnapshotFormat.CHECKED.write(out, saved));
+
+        List<Task> taskList = new ArrayList<>();
+        try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            assertEquals(SnapshotFormat.CHECKED, SnapshotFormat.detect(in));
+            SnapshotFormat.readAny(in, taskList, new Ui());
+        }
+        assertEquals(1, taskList.size());
+    }
+}
@@ -0,0 +1,162 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.task.Task;
+import duke.task.ToDos;
+import duke.util.Ui;
+
+public class ShardedTaskStoreTest {
+    @TempDir
+    Path tempDir;
+
+    private ShardedTaskStore newStore() {
+        return new ShardedTaskStore(tempDir.resolve("duke.txt"), 10, SnapshotFormat.TEXT, Durability.FLUSH,
+                Compression.NONE);
+    }
+
+    private ShardedTaskStore newStoreOfSize(int shardSize) {
+        return new ShardedTaskStore(tempDir.resolve("duke.txt"), shardSize, SnapshotFormat.TEXT, Durability.FLUSH,
+                Compression.NONE);
+    }
+
+    private List<Task> todos(int count) {
+        List<Task> taskList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            taskList.add(new ToDos("task " + i));
+        }
+        return taskList;
+    }
+
+    private List<String> read(ShardedTaskStore store) throws IOException {
+        List<Task> taskList = new ArrayList<>();
+        store.read(taskList, new Ui());
+        List<String> tasks = new ArrayList<>();
+        taskList.forEach(task -> tasks.add(task.toString()));
+        return tasks;
+    }
+
+    private List<String> shardFiles() throws IOException {
+        List<String> lines = Files.readAllLines(tempDir.resolve("duke.txt.shards"));
+        return lines.subList(1, lines.size());
+    }
+
+    @Test
+    public void save_doneTask_onlyItsShardRewritten() throws IOException {
+        ShardedTaskStore store = newStore();
+        List<Task> taskList = todos(25);
+        store.markAll();
+        store.save(taskList);
+        assertEquals(List.of("duke.txt.shard0.1", "duke.txt.shard1.1", "duke.txt.shard2.1"), shardFiles());
+
+        Path untouched = tempDir.resolve("duke.txt.shard0.1");
+        Files.write(untouched, "T | untouched | 0".getBytes());
+        taskList.get(14).markDone();
+        store.markChanged(14);
+        store.save(taskList);
+        assertEquals(List.of("duke.txt.shard0.1", "duke.txt.shard1.2", "duke.txt.shard2.1"), shardFiles());
+        assertFalse(Files.exists(tempDir.resolve("duke.txt.shard1.1")));
+
+        List<String> tasks = read(newStore());
+        assertEquals("[T][ ] untouched", tasks.get(0));
+        assertEquals("[T][X] task 14", tasks.get(5));
+    }
+
+    @Test
+    public void save_deletedTasks_shardsShiftedAndRemoved() throws IOException {
+        ShardedTaskStore store = newStore();
+        List<Task> taskList = todos(25);
+        store.markAll();
+        store.save(taskList);
+
+        for (int i = 0; i < 6; i++) {
+            taskList.remove(12);
+            store.markShifted(12);
+        }
+        store.save(taskList);
+
+        assertEquals(List.of("duke.txt.shard0.1", "duke.txt.shard1.2"), shardFiles());
+        assertFalse(Files.exists(tempDir.resolve("duke.txt.shard2.1")));
+        List<String> tasks = read(newStore());
+        assertEquals(19, tasks.size());
+        assertEquals("[T][ ] task 11", tasks.get(11));
+        assertEquals("[T][ ] task 18", tasks.get(12));
+        assertEquals("[T][ ] task 24", tasks.get(18));
+    }
+
+    @Test
+    public void read_differentShardSizeCompressed_allShardsRewritten() throws IOException {
+        List<Task> taskList = todos(25);
+        ShardedTaskStore store = new ShardedTaskStore(tempDir.resolve("duke.txt"), 4, SnapshotFormat.BINARY,
+                Durability.FLUSH, Compression.GZIP);
+        store.markAll();
+        store.save(taskList);
+
+        ShardedTaskStore reloaded = newStore();
+        List<Task> loaded = new ArrayList<>();
+        reloaded.read(loaded, new Ui());
+        reloaded.save(loaded);
+
+        assertEquals(3, shardFiles().size());
+        assertFalse(Files.exists(tempDir.resolve("duke.txt.shard3.1")));
+        assertEquals(25, read(newStore()).size());
+    }
+
+    @Test
+    public void save_failedPartway_previousGenerationLoaded() throws IOException {
+        ShardedTaskStore store = newStore();
+        List<Task> taskList = todos(25);
+        store.markAll();
+        store.save(taskList);
+
+        Path blocker = Files.createDirectories(tempDir.resolve("duke.txt.shard2.2"));
+        Files.createFile(blocker.resolve("blocker"));
+        taskList.remove(0);
+        store.markShifted(0);
+        assertThrows(IOException.class, () -> store.save(taskList));
+        assertFalse(Files.exists(tempDir.resolve("duke.txt.shard0.2")));
+
+        List<String> tasks = read(newStore());
+        assertEquals(25, tasks.size());
+        assertEquals("[T][ ] task 0", tasks.get(0));
+        assertEquals("[T][ ] task 24", tasks.get(24));
+
+        Files.delete(blocker.resolve("blocker"));
+        Files.delete(blocker);
+        store.save(taskList);
+        tasks = read(newStore());
+        assertEquals(24, tasks.size());
+        assertEquals("[T][ ] task 1", tasks.get(0));
+    }
+
+    @Test
+    public void read_shardsWithoutManifest_loadedAndReplaced() throws IOException {
+        Files.write(tempDir.resolve("duke.txt.shard0"), "T | task 0 | 0\nT | task 1 | 1".getBytes());
+        Files.write(tempDir.resolve("duke.txt.shard1"), "T | task 2 | 0".getBytes());
+        ShardedTaskStore store = newStoreOfSize(2);
+        assertTrue(store.exists());
+
+        List<Task> taskList = new ArrayList<>();
+        store.read(taskList, new Ui());
+        assertEquals(3, taskList.size());
+        taskList.get(2).markDone();
+        store.markChanged(2);
+        store.save(taskList);
+
+        assertEquals(List.of("duke.txt.shard0", "duke.txt.shard1.1"), shardFiles());
+        assertFalse(Files.exists(tempDir.resolve("duke.txt.shard1")));
+        assertEquals(List.of("[T][ ] task 0", "[T][X] task 1", "[T][X] task 2"), read(newStoreOfSize(2)));
+    }
+}
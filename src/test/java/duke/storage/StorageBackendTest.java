@@ -0,0 +1,80 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.task.Deadlines;
+import duke.task.Task;
+import duke.task.ToDos;
+import duke.util.Ui;
+
+public class StorageBackendTest {
+    @TempDir
+    Path tempDir;
+
+    private List<Task> tasks() {
+        List<Task> taskList = new ArrayList<>();
+        taskList.add(new ToDos("CS2103", true));
+        taskList.add(new Deadlines("CS2106", 1629529200000L, false));
+        return taskList;
+    }
+
+    private List<String> saveOutputs(List<Task> taskList) {
+        List<String> outputs = new ArrayList<>();
+        taskList.forEach(task -> outputs.add(task.saveOutput()));
+        return outputs;
+    }
+
+    @Test
+    public void load_everyBackend_sameAsSaved() throws IOException {
+        for (BackendType type : BackendType.values()) {
+            StorageOptions options = new StorageOptions()
+                    .setLocation(tempDir.resolve(type + ".txt"))
+                    .setBackend(type);
+            StorageBackend backend = type.create(options, new Ui());
+            assertThrows(FileNotFoundException.class, () -> backend.load(new ArrayList<>()));
+
+            backend.save(tasks());
+            List<Task> taskList = new ArrayList<>();
+            backend.load(taskList);
+            assertEquals(saveOutputs(tasks()), saveOutputs(taskList));
+        }
+    }
+
+    @Test
+    public void load_fileSavedByOtherBackend_detected() throws IOException {
+        StorageOptions options = new StorageOptions().setLocation(tempDir.resolve("duke.txt"));
+        BackendType.BINARY.create(options, new Ui()).save(tasks());
+
+        List<Task> taskList = new ArrayList<>();
+        long checksum = BackendType.MMAP.create(options, new Ui()).load(taskList);
+        assertEquals(saveOutputs(tasks()), saveOutputs(taskList));
+        assertEquals(checksum, BackendType.TEXT.create(options, new Ui()).load(new ArrayList<>()));
+    }
+
+    @Test
+    public void load_memoryBackendTaskChangedInPlace_sameAsSaved() throws IOException {
+        MemoryBackend backend = new MemoryBackend();
+        List<Task> savedList = tasks();
+        backend.save(savedList);
+        savedList.get(1).markDone();
+
+        List<Task> taskList = new ArrayList<>();
+        backend.load(taskList);
+        assertEquals(saveOutputs(tasks()), saveOutputs(taskList));
+
+        taskList.get(1).markDone();
+        List<Task> reloadedList = new ArrayList<>();
+        backend.load(reloadedList);
+        assertEquals(saveOutputs(tasks()), saveOutputs(reloadedList));
+    }
+}
@@ -0,0 +1,74 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.task.Task;
+import duke.task.TaskSequence;
+import duke.task.ToDos;
+
+public class TaskArchiveTest {
+    @TempDir
+    Path tempDir;
+
+    private List<Task> doneTodos(int count) {
+        List<Task> taskList = new TaskSequence();
+        for (int i = 0; i < count; i++) {
+            taskList.add(new ToDos("read chapter " + i, true));
+        }
+        return taskList;
+    }
+
+    @Test
+    public void select_limitAndAge_oldestDoneFirst() {
+        List<Task> taskList = doneTodos(4);
+        taskList.add(new ToDos("not done"));
+        TaskArchive archive = new TaskArchive(tempDir.resolve("archive"), 2, Duration.ofMillis(100),
+                Durability.FLUSH);
+        archive.setLoadedTime(1000);
+        archive.markDone(taskList.get(0), 5000);
+        archive.markDone(taskList.get(1), 4000);
+        archive.markDone(taskList.get(3), 4950);
+
+        assertEquals(List.of(1, 2), archive.select(taskList, 5000));
+        assertEquals(List.of(1, 2, 3), archive.select(taskList, 5050));
+    }
+
+    @Test
+    public void select_doneTaskDeletedAndForgotten_notCounted() {
+        List<Task> taskList = doneTodos(3);
+        taskList.add(new ToDos("done last"));
+        TaskArchive archive = new TaskArchive(tempDir.resolve("archive"), 3, null, Durability.FLUSH);
+        archive.setLoadedTime(1000);
+        assertEquals(List.of(), archive.select(taskList, 2000));
+
+        ((TaskSequence) taskList).markDone(3);
+        archive.markDone(taskList.get(3), 2000);
+        assertEquals(List.of(0), archive.select(taskList, 2000));
+
+        archive.forget(taskList.remove(3));
+        assertEquals(List.of(), archive.select(taskList, 3000));
+    }
+
+    @Test
+    public void search_appendedTwice_allKeptAndDamagedSkipped() throws IOException {
+        Path location = tempDir.resolve("duke.txt.archive");
+        TaskArchive archive = new TaskArchive(location, 0, null, Durability.FLUSH);
+        archive.append(doneTodos(3));
+        Files.write(location, List.of("0badf00d | T | damaged | 1"), StandardOpenOption.APPEND);
+        archive.append(doneTodos(2));
+
+        assertEquals(5, archive.search("").size());
+        assertEquals(2, archive.search("chapter 1").size());
+        assertEquals("[T][X] read chapter 2", archive.search("chapter 2").get(0).toString());
+    }
+}
@@ -0,0 +1,103 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.task.Task;
+import duke.task.ToDos;
+import duke.util.Ui;
+
+public class TaskFileSyncTest {
+    @TempDir
+    Path tempDir;
+
+    private Path location() {
+        return tempDir.resolve("duke.txt");
+    }
+
+    private List<Task> savedTodos(String... descriptions) throws IOException {
+        List<Task> taskList = new ArrayList<>();
+        for (String description : descriptions) {
+            taskList.add(new ToDos(description));
+        }
+        new FileBackend(location(), SnapshotFormat.TEXT, Durability.FLUSH, Compression.NONE, new Ui()).save(taskList);
+        return taskList;
+    }
+
+    private TaskFileSync synced(List<Task> taskList) throws IOException {
+        FileBackend backend = new FileBackend(location(), SnapshotFormat.TEXT, Durability.FLUSH,
+                Compression.NONE, new Ui());
+        TaskFileSync sync = new TaskFileSync(location(), backend);
+        sync.reset(taskList, backend.load(new ArrayList<>()));
+        return sync;
+    }
+
+    private List<String> descriptions(List<Task> taskList) {
+        return taskList.stream().map(Task::getTask).collect(Collectors.toList());
+    }
+
+    @Test
+    public void between_editInMiddle_onlyChangedRange() {
+        RecordDiff diff = RecordDiff.between(Arrays.asList("a", "b", "c", "d"), Arrays.asList("a", "x", "y", "d"));
+        assertEquals(1, diff.getFrom());
+        assertEquals(2, diff.getRemovedCount());
+        assertEquals(2, diff.getAddedCount());
+        assertTrue(RecordDiff.between(Arrays.asList("a", "b"), Arrays.asList("a", "b")).isEmpty());
+    }
+
+    @Test
+    public void merge_ownSave_unchanged() throws IOException {
+        List<Task> taskList = savedTodos("CS2103", "CS2106");
+        assertEquals(TaskFileSync.Result.UNCHANGED, synced(taskList).merge(taskList));
+    }
+
+    @Test
+    public void merge_externalEdit_onlyChangedTasksReplaced() throws IOException {
+        List<Task> taskList = savedTodos("CS2103", "CS2106", "CS2101");
+        TaskFileSync sync = synced(taskList);
+        Task untouched = taskList.get(0);
+        Files.write(location(), Arrays.asList("T | CS2103 | 0", "T | CS2106 | 1", "T | CS2101 | 0", "T | CS2105 | 0"));
+
+        assertEquals(TaskFileSync.Result.RELOADED, sync.merge(taskList));
+        assertEquals(4, taskList.size());
+        assertSame(untouched, taskList.get(0));
+        assertTrue(taskList.get(1).getIsDone());
+        assertEquals("CS2105", taskList.get(3).getTask());
+    }
+
+    @Test
+    public void merge_separateLocalChange_bothKept() throws IOException {
+        List<Task> taskList = savedTodos("CS2103", "CS2106", "CS2101");
+        TaskFileSync sync = synced(taskList);
+        taskList.add(new ToDos("CS2100"));
+        Files.write(location(), Arrays.asList("T | CS2103 | 1", "T | CS2106 | 0", "T | CS2101 | 0"));
+
+        assertEquals(TaskFileSync.Result.MERGED, sync.merge(taskList));
+        assertTrue(taskList.get(0).getIsDone());
+        assertEquals(Arrays.asList("CS2103", "CS2106", "CS2101", "CS2100"), descriptions(taskList));
+    }
+
+    @Test
+    public void merge_sameTaskChangedBothWays_conflictKept() throws IOException {
+        List<Task> taskList = savedTodos("CS2103", "CS2106");
+        TaskFileSync sync = synced(taskList);
+        taskList.remove(1);
+        Files.write(location(), Arrays.asList("T | CS2103 | 0", "T | CS2106 | 1"));
+
+        assertEquals(TaskFileSync.Result.CONFLICT, sync.merge(taskList));
+        assertEquals(Arrays.asList("CS2103", "CS2106"), descriptions(taskList));
+        assertEquals(Arrays.asList("T | CS2103 | 0"), Files.readAllLines(sync.getConflictLocation()));
+    }
+}
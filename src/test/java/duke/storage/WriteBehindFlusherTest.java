@@ -0,0 +1,81 @@
+package duke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Task;
+import duke.task.ToDos;
+
+public class WriteBehindFlusherTest {
+    @Test
+    public void markDirty_burstOfChanges_singleWrite() {
+        List<List<Task>> writes = new ArrayList<>();
+        WriteBehindFlusher flusher = new WriteBehindFlusher(60_000, list -> writes.add(new ArrayList<>(list)));
+        List<Task> taskList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            synchronized (taskList) {
+                taskList.add(new ToDos("task " + i));
+            }
+            flusher.markDirty(taskList);
+        }
+        assertEquals(0, flusher.getFlushCount());
+
+        flusher.close();
+        assertEquals(1, flusher.getFlushCount());
+        assertEquals(1000, writes.get(0).size());
+    }
+
+    @Test
+    public void markDirty_afterInterval_flushedInBackground() throws InterruptedException {
+        List<List<Task>> writes = new ArrayList<>();
+        WriteBehindFlusher flusher = new WriteBehindFlusher(10, writes::add);
+        flusher.markDirty(new ArrayList<>());
+        for (int i = 0; i < 500 && flusher.getFlushCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, flusher.getFlushCount());
+
+        flusher.close();
+        assertEquals(1, flusher.getFlushCount());
+    }
+
+    @Test
+    public void markDirty_concurrentSaves_sharedWriteCompletesAll() throws InterruptedException {
+        List<Task> taskList = new ArrayList<>();
+        WriteBehindFlusher flusher = new WriteBehindFlusher(50, list -> { });
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<CompletableFuture<Void>>> saves = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            saves.add(CompletableFuture.supplyAsync(() -> flusher.markDirty(taskList), writers));
+        }
+        for (CompletableFuture<CompletableFuture<Void>> save : saves) {
+            save.join().join();
+        }
+        writers.shutdown();
+        assertTrue(flusher.getFlushCount() < 8);
+        flusher.close();
+    }
+
+    @Test
+    public void markDirty_failedWrite_futureFails() {
+        WriteBehindFlusher flusher = new WriteBehindFlusher(60_000, list -> {
+            throw new IOException("disk full");
+        });
+        CompletableFuture<Void> saved = flusher.markDirty(new ArrayList<>());
+        flusher.close();
+        CompletionException e = assertThrows(CompletionException.class, saved::join);
+        assertEquals("disk full", e.getCause().getMessage());
+        assertTrue(flusher.markDirty(new ArrayList<>()).isCompletedExceptionally());
+    }
+}
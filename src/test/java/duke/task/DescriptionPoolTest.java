@@ -0,0 +1,65 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DescriptionPoolTest {
+    @Test
+    public void add_equalDescriptions_sameHandleAndCounted() {
+        DescriptionPool pool = new DescriptionPool();
+        int standup = pool.add("standup");
+        int rent = pool.add("pay rent");
+        int symbol = pool.add("pay rent \u263A");
+
+        assertEquals(standup, pool.add(new String("standup")));
+        assertTrue(standup != rent);
+        assertEquals("pay rent \u263A", pool.get(symbol));
+        assertEquals("standup", pool.get(standup));
+        assertEquals(3, pool.getDescriptionCount());
+        assertEquals(0.25, pool.getHitRate());
+        // Two Latin-1 descriptions kept as bytes and one shared "standup" String.
+        assertEquals(24 + 24 + 48, pool.getBytesSaved());
+
+        pool.release(standup);
+        assertEquals("standup", pool.get(standup));
+        pool.release(standup);
+        assertEquals(2, pool.getDescriptionCount());
+        assertEquals(24, pool.getBytesSaved());
+    }
+
+    @Test
+    public void releaseAndAdd_randomChanges_sameAsCounts() {
+        Random random = new Random(42);
+        DescriptionPool pool = new DescriptionPool();
+        Map<String, Integer> counts = new HashMap<>();
+        List<String> added = new ArrayList<>();
+        List<Integer> handles = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            if (!added.isEmpty() && random.nextInt(5) < 2) {
+                int index = random.nextInt(added.size());
+                pool.release(handles.remove(index));
+                counts.merge(added.remove(index), -1, Integer::sum);
+            } else {
+                String description = "task " + random.nextInt(3000) + (random.nextInt(10) == 0 ? " \u00e9\u4e2d" : "");
+                handles.add(pool.add(description));
+                added.add(description);
+                counts.merge(description, 1, Integer::sum);
+            }
+        }
+        counts.values().removeIf(count -> count == 0);
+        assertEquals(counts.size(), pool.getDescriptionCount());
+        for (int i = 0; i < added.size(); i++) {
+            assertEquals(added.get(i), pool.get(handles.get(i)));
+            assertEquals((int) handles.get(i), pool.add(added.get(i)));
+        }
+        assertTrue(pool.getHitRate() > 0.5);
+    }
+}
@@ -0,0 +1,157 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskSequenceTest {
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Task> expected = new ArrayList<>();
+        TaskSequence tasks = new TaskSequence();
+        for (int i = 0; i < 20000; i++) {
+            int choice = random.nextInt(10);
+            if (choice < 4 || expected.isEmpty()) {
+                Task task = new ToDos("task " + i);
+                expected.add(task);
+                tasks.add(task);
+            } else if (choice < 8) {
+                int index = random.nextInt(expected.size());
+                assertSame(expected.remove(index), tasks.remove(index));
+            } else if (choice == 8) {
+                int index = random.nextInt(expected.size() + 1);
+                List<Task> added = List.of(new ToDos("inserted " + i), new ToDos("inserted again " + i));
+                expected.addAll(index, added);
+                tasks.addAll(index, added);
+            } else {
+                int index = random.nextInt(expected.size());
+                Task task = new ToDos("replaced " + i);
+                assertSame(expected.set(index, task), tasks.set(index, task));
+            }
+        }
+        assertEquals(expected, tasks);
+        assertEquals(expected, new ArrayList<>(tasks));
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), tasks.get(i));
+            assertEquals(i, tasks.indexOfId(expected.get(i).getId()));
+        }
+    }
+
+    @Test
+    public void getById_afterDeletesBefore_sameTask() {
+        TaskSequence tasks = new TaskSequence();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new ToDos("task " + i));
+        }
+        Task task = tasks.get(60);
+        int id = task.getId();
+        tasks.subList(0, 50).clear();
+
+        assertSame(task, tasks.getById(id));
+        assertEquals(10, tasks.indexOfId(id));
+        tasks.remove(10);
+        assertNull(tasks.getById(id));
+        assertEquals(-1, tasks.indexOfId(id));
+    }
+
+    @Test
+    public void iterator_remove_removesFromList() {
+        TaskSequence tasks = new TaskSequence(List.of(new ToDos("a"), new ToDos("b", true), new ToDos("c"),
+                new ToDos("d", true)));
+        Iterator<Task> iterator = tasks.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getIsDone()) {
+                iterator.remove();
+            }
+        }
+        assertEquals("[[ ] a, [ ] c]", tasks.toString().replace("[T]", ""));
+    }
+
+    @Test
+    public void compact_randomChanges_sameTasksAsArrayList() {
+        Random random = new Random(7);
+        List<Task> expected = new ArrayList<>();
+        TaskSequence tasks = new TaskSequence(List.of(), true);
+        for (int i = 0; i < 20000; i++) {
+            int choice = random.nextInt(10);
+            if (choice < 5 || expected.isEmpty()) {
+                Task task = i % 3 == 0 ? new ToDos("task " + i, i % 2 == 0)
+                        : i % 3 == 1 ? new Deadlines("task " + i, 1609459200000L + i * 60000L, false)
+                        : new Events("task " + i, 1609459200000L + i * 60000L, true);
+                expected.add(task);
+                tasks.add(task);
+            } else if (choice < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index).toString(), tasks.remove(index).toString());
+            } else {
+                int index = random.nextInt(expected.size());
+                Task task = tasks.get(index);
+                task.markDone();
+                tasks.set(index, task);
+                expected.get(index).markDone();
+            }
+        }
+        assertEquals(expected.toString(), tasks.toString());
+        for (int i = 0; i < expected.size(); i++) {
+            Task task = tasks.get(i);
+            assertEquals(expected.get(i).getId(), task.getId());
+            assertEquals(expected.get(i).getDateTimeMillis(), task.getDateTimeMillis());
+            assertEquals(i, tasks.indexOfId(task.getId()));
+        }
+    }
+
+    @Test
+    public void snapshot_listChangedAfter_snapshotUnchanged() {
+        for (boolean isCompact : new boolean[] {false, true}) {
+            Random random = new Random(11);
+            TaskSequence tasks = new TaskSequence(List.of(), isCompact);
+            List<List<Task>> snapshots = new ArrayList<>();
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                int choice = random.nextInt(10);
+                if (choice < 5 || tasks.isEmpty()) {
+                    tasks.add(i % 2 == 0 ? new ToDos("task " + i) : new Events("task " + i, 1609459200000L, false));
+                } else if (choice < 8) {
+                    tasks.remove(random.nextInt(tasks.size()));
+                } else {
+                    tasks.markDone(random.nextInt(tasks.size()));
+                }
+                if (i % 100 == 0) {
+                    snapshots.add(tasks.snapshot());
+                    expected.add(tasks.toString());
+                }
+            }
+            for (int i = 0; i < snapshots.size(); i++) {
+                List<Task> snapshot = snapshots.get(i);
+                assertEquals(expected.get(i), snapshot.toString());
+                assertEquals(expected.get(i), new ArrayList<>(snapshot).toString());
+                assertEquals(expected.get(i), snapshot.subList(0, snapshot.size()).toString());
+            }
+        }
+    }
+
+    @Test
+    public void snapshot_deletedFromTheFront_sameUntilChanged() {
+        TaskSequence tasks = new TaskSequence(List.of(new ToDos("read book"), new ToDos("return book"),
+                new ToDos("CS2103T iP"), new ToDos("CS2101 slides")));
+        tasks.remove(0);
+        List<Task> snapshot = tasks.snapshot();
+        assertSame(snapshot, tasks.snapshot());
+        assertEquals("[T][ ] CS2101 slides", snapshot.get(2).toString());
+        assertEquals("[[T][ ] CS2103T iP, [T][ ] CS2101 slides]", snapshot.subList(1, 3).toString());
+
+        tasks.remove(0);
+        assertNotSame(snapshot, tasks.snapshot());
+        assertEquals(3, snapshot.size());
+        assertEquals(2, tasks.snapshot().size());
+    }
+}
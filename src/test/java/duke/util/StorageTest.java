@@ -0,0 +1,518 @@
+package duke.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.command.ListCommand;
+import duke.storage.BackendType;
+import duke.storage.Compression;
+import duke.storage.Durability;
+import duke.storage.SnapshotFormat;
+import duke.storage.StorageOptions;
+import duke.task.Task;
+import duke.task.TaskSequence;
+import duke.task.ToDos;
+
+public class StorageTest {
+    @TempDir
+    Path tempDir;
+
+    private final Ui ui = new Ui();
+    /** Storages opened by the test, which are closed after it so that no flusher or watcher is left running. */
+    private final List<Storage> storages = new ArrayList<>();
+
+    @AfterEach
+    public void closeStorages() {
+        storages.forEach(Storage::close);
+    }
+
+    private Storage open(StorageOptions options) {
+        Storage storage = new Storage(ui, options);
+        storages.add(storage);
+        return storage;
+    }
+
+    private StorageOptions options() {
+        return new StorageOptions().setLocation(tempDir.resolve("duke.txt"));
+    }
+
+    private StorageOptions journaled(long checkpointThreshold) {
+        return options()
+                .setJournaled(true)
+                .setCheckpointThreshold(checkpointThreshold);
+    }
+
+    private String listAll(TaskList taskList) {
+        return new ListCommand().execute(taskList, ui).toString();
+    }
+
+    @Test
+    public void importTask_journaledChanges_restored() throws FileNotFoundException {
+        Storage storage = open(journaled(Long.MAX_VALUE));
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        taskList.addTodo("CS2103");
+        taskList.addDeadline("CS2106", "21/8/21 1500");
+        taskList.addEvent("CS2101", "22/8/21 1000");
+        taskList.markDone(2);
+        taskList.deleteTask(1);
+        storage.close();
+
+        assertFalse(Files.exists(tempDir.resolve("duke.txt")));
+        Storage reloaded = open(journaled(Long.MAX_VALUE));
+        assertEquals(listAll(taskList), listAll(new TaskList(reloaded.importTask(), ui, reloaded)));
+    }
+
+    @Test
+    public void importTask_compactJournaledChanges_restored() throws FileNotFoundException {
+        Storage storage = open(journaled(Long.MAX_VALUE));
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        taskList.addTodo("CS2103");
+        taskList.addDeadline("CS2106", "21/8/21 1500");
+        taskList.addEvent("CS2101", "22/8/21 1000");
+        storage.close();
+
+        Storage compact = open(journaled(Long.MAX_VALUE).setCompact(true));
+        TaskList compactList = new TaskList(compact.importTask(), ui, compact);
+        compactList.markDone(2);
+        compactList.deleteTask(1);
+        compact.close();
+        assertEquals("1. [D][X] CS2106 (by: 21/08/21 1500)\n2. [E][ ] CS2101 (at: 22/08/21 1000)",
+                listAll(compactList));
+
+        Storage reloaded = open(journaled(Long.MAX_VALUE).setCompact(true));
+        assertEquals(listAll(compactList), listAll(new TaskList(reloaded.importTask(), ui, reloaded)));
+    }
+
+    @Test
+    public void importTask_afterCheckpoint_restored() throws FileNotFoundException {
+        Storage storage = open(journaled(64));
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        for (int i = 0; i < 20; i++) {
+            taskList.addTodo("task " + i);
+        }
+        taskList.markDone(5);
+        taskList.deleteTask(3);
+        storage.close();
+
+        Storage reloaded = open(journaled(64));
+        assertEquals(listAll(taskList), listAll(new TaskList(reloaded.importTask(), ui, reloaded)));
+    }
+
+    @Test
+    public void importTask_addedAfterTornJournal_restored() throws IOException {
+        Storage storage = open(journaled(Long.MAX_VALUE));
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        taskList.addTodo("one");
+        taskList.addTodo("two");
+        storage.close();
+        Path journal = tempDir.resolve("duke.txt.journal");
+        byte[] bytes = Files.readAllBytes(journal);
+        Files.write(journal, Arrays.copyOf(bytes, bytes.length - 4));
+
+        Storage torn = open(journaled(Long.MAX_VALUE));
+        TaskList tornList = new TaskList(torn.importTask(), ui, torn);
+        tornList.addTodo("three");
+        tornList.addTodo("four");
+        torn.close();
+
+        Storage reloaded = open(journaled(Long.MAX_VALUE));
+        assertEquals("1. [T][ ] one\n2. [T][ ] three\n3. [T][ ] four",
+                listAll(new TaskList(reloaded.importTask(), ui, reloaded)));
+    }
+
+    @Test
+    public void checkpoint_failed_reportedAndRetried() throws IOException, InterruptedException {
+        Path blocker = Files.createDirectories(tempDir.resolve("duke.txt.tmp"));
+        Files.createFile(blocker.resolve("blocker"));
+        Storage storage = open(journaled(64));
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        int count = 0;
+        boolean isReported = false;
+        while (!isReported && count < 1000) {
+            isReported = taskList.addTodo("task " + count++).toString().startsWith("Unable to save");
+            Thread.sleep(1);
+        }
+        assertTrue(isReported);
+        assertTrue(Files.exists(tempDir.resolve("duke.txt.journal.pending")));
+
+        Files.delete(blocker.resolve("blocker"));
+        Files.delete(blocker);
+        for (int i = 0; i < 1000 && Files.exists(tempDir.resolve("duke.txt.journal.pending")); i++) {
+            taskList.addTodo("task " + count++);
+            Thread.sleep(1);
+        }
+        storage.close();
+        assertFalse(Files.exists(tempDir.resolve("duke.txt.journal.pending")));
+
+        Storage reloaded = open(journaled(64));
+        assertEquals(listAll(taskList), listAll(new TaskList(reloaded.importTask(), ui, reloaded)));
+    }
+
+    @Test
+    public void importTask_bulkDoneAndDelete_restored() throws FileNotFoundException, InterruptedException {
+        for (StorageOptions options : new StorageOptions[] {
+                new StorageOptions().setLocation(tempDir.resolve("single.txt")), journaled(1 << 20)}) {
+            Storage storage = open(options);
+            TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+            for (int i = 0; i < 30; i++) {
+                taskList.addTodo("task " + i);
+            }
+            waitForIndex(taskList);
+            taskList.markDone(new int[] {2, 3, 4, 10});
+            taskList.deleteTasks(new int[] {1, 3, 4, 5, 6, 20});
+
+            assertEquals(24, taskList.getTaskList().size());
+            assertEquals("[T][X] task 1", taskList.getTaskList().get(0).toString());
+            assertEquals("[T][ ] task 6", taskList.getTaskList().get(1).toString());
+            assertEquals("[T][X] task 9", taskList.getTaskList().get(4).toString());
+            assertEquals("Here are the matching task(s) in your list:\n[T][X] task 1\n[T][ ] task 10\n"
+                    + "[T][ ] task 11\n[T][ ] task 12\n[T][ ] task 13\n[T][ ] task 14\n[T][ ] task 15\n"
+                    + "[T][ ] task 16\n[T][ ] task 17\n[T][ ] task 18", taskList.findTask("task 1").toString());
+            storage.close();
+            Storage reloaded = open(options);
+            assertEquals(listAll(taskList), listAll(new TaskList(reloaded.importTask(), ui, reloaded)));
+        }
+    }
+
+    @Test
+    public void close_writeBehind_burstSaved() throws FileNotFoundException {
+        StorageOptions options = options()
+                .setFlushInterval(60_000);
+        Storage storage = open(options);
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        for (int i = 0; i < 1000; i++) {
+            taskList.addTodo("task " + i);
+        }
+        for (int i = 1; i <= 1000; i++) {
+            taskList.markDone(i);
+        }
+        assertFalse(Files.exists(tempDir.resolve("duke.txt")));
+
+        storage.close();
+        Storage reloaded = open(options);
+        assertEquals(listAll(taskList), listAll(new TaskList(reloaded.importTask(), ui, reloaded)));
+    }
+
+    @Test
+    public void importTask_shardedAfterSingleFile_restored() throws FileNotFoundException {
+        Storage single = open(options());
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, single);
+        for (int i = 0; i < 50; i++) {
+            taskList.addTodo("task " + i);
+        }
+
+        StorageOptions options = options()
+                .setShardSize(16);
+        Storage storage = open(options);
+        taskList = new TaskList(storage.importTask(), ui, storage);
+        taskList.markDone(20);
+        taskList.deleteTask(3);
+        taskList.addDeadline("CS2106", "21/8/21 1500");
+        storage.close();
+
+        assertFalse(Files.exists(tempDir.resolve("duke.txt")));
+        Storage reloaded = open(options);
+        assertEquals(listAll(taskList), listAll(new TaskList(reloaded.importTask(), ui, reloaded)));
+    }
+
+    @Test
+    public void importTask_lazyThenChanged_restored() throws FileNotFoundException {
+        StorageOptions options = options();
+        Storage storage = open(options);
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        taskList.addTodo("CS2103");
+        taskList.addDeadline("CS2106", "21/8/21 1500");
+        taskList.addEvent("CS2101", "22/8/21 1000");
+
+        Storage lazy = open(options.setLazy(true));
+        taskList = new TaskList(lazy.importTask(), ui, lazy);
+        taskList.markDone(2);
+        taskList.deleteTask(1);
+        taskList.addTodo("CS2100");
+
+        Storage reloaded = open(options.setLazy(false));
+        assertEquals(listAll(taskList), listAll(new TaskList(reloaded.importTask(), ui, reloaded)));
+    }
+
+    @Test
+    public void exportTask_noDurabilityAfterLazyLoad_descriptionsKept() throws FileNotFoundException {
+        StorageOptions options = options()
+                .setDurability(Durability.NONE);
+        Storage storage = open(options);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            tasks.add(new ToDos("task " + i));
+        }
+        storage.exportTask(tasks);
+        storage.close();
+
+        Storage lazy = open(options.setLazy(true));
+        TaskList taskList = new TaskList(lazy.importTask(), ui, lazy);
+        taskList.deleteTask(1);
+        lazy.close();
+        assertEquals("[T][ ] task 4999", taskList.getTaskList().get(4998).toString());
+
+        Storage reloaded = open(options.setLazy(false));
+        assertEquals(listAll(taskList), listAll(new TaskList(reloaded.importTask(), ui, reloaded)));
+    }
+
+    @Test
+    public void exportTask_memoryBackend_noFileWritten() throws FileNotFoundException {
+        StorageOptions options = options()
+                .setBackend(BackendType.MEMORY)
+                .setJournaled(true);
+        Storage storage = open(options);
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        taskList.addTodo("CS2103");
+        taskList.addTodo("CS2106");
+        taskList.deleteTask(1);
+        storage.close();
+
+        assertFalse(Files.exists(tempDir.resolve("duke.txt")));
+        assertFalse(Files.exists(tempDir.resolve("duke.txt.journal")));
+        assertEquals(listAll(taskList), listAll(new TaskList(storage.importTask(), ui, storage)));
+    }
+
+    @Test
+    public void importTask_compressedFile_detected() throws FileNotFoundException {
+        StorageOptions options = options()
+                .setCompression(Compression.GZIP);
+        Storage storage = open(options);
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        taskList.addTodo("CS2103");
+        taskList.addEvent("CS2101", "22/8/21 1000");
+        taskList.markDone(1);
+
+        StorageOptions plain = options().setMapped(true);
+        Storage reloaded = open(plain);
+        assertEquals(listAll(taskList), listAll(new TaskList(reloaded.importTask(), ui, reloaded)));
+    }
+
+    @Test
+    public void importTask_damagedCheckedRecord_keptAsLost() throws IOException {
+        StorageOptions options = options()
+                .setFormat(SnapshotFormat.CHECKED);
+        Storage storage = open(options);
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        taskList.addTodo("CS2103");
+        taskList.addTodo("CS2106");
+        taskList.addTodo("CS2101");
+
+        List<String> lines = Files.readAllLines(tempDir.resolve("duke.txt"), StandardCharsets.UTF_8);
+        lines.set(1, lines.get(1).replace("CS2106", "CS2107"));
+        Files.write(tempDir.resolve("duke.txt"), lines, StandardCharsets.UTF_8);
+
+        Storage reloaded = open(options);
+        assertEquals(2, reloaded.importTask().size());
+        assertEquals(1, reloaded.getRecoveryReport().getLostCount());
+        assertTrue(Files.readAllLines(reloaded.getLostRecordsLocation()).get(1).contains("CS2107"));
+    }
+
+    @Test
+    public void watch_externalEdit_reloaded() throws IOException, InterruptedException {
+        StorageOptions options = options()
+                .setWatched(true);
+        Storage storage = open(options);
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        taskList.addTodo("CS2103");
+
+        Storage reloaded = open(options);
+        TaskList watched = new TaskList(reloaded.importTask(), ui, reloaded);
+        List<Message> messages = new ArrayList<>();
+        reloaded.watch(watched.getTaskList(), messages::add);
+        Files.write(tempDir.resolve("duke.txt"), List.of("T | CS2103 | 1", "T | CS2106 | 0"));
+        for (int i = 0; i < 100 && watched.getTaskList().size() < 2; i++) {
+            Thread.sleep(50);
+        }
+        reloaded.close();
+        assertEquals(2, watched.getTaskList().size());
+        assertTrue(watched.getTaskList().get(0).getIsDone());
+    }
+
+    @Test
+    public void watch_fileChangedOutside_mergedAndRebuiltAsOneChange() throws Exception {
+        StorageOptions options = options()
+                .setWatched(true);
+        Files.write(tempDir.resolve("duke.txt"), List.of("T | CS2103 | 0"));
+        Storage storage = open(options);
+        TaskSequence tasks = new TaskSequence(storage.importTask());
+        List<Boolean> isInChange = new CopyOnWriteArrayList<>();
+        storage.setChangeListener(() -> isInChange.add(!tasks.validate(tasks.tryOptimisticRead())));
+        storage.watch(tasks, message -> { });
+        Files.write(tempDir.resolve("duke.txt"), List.of("T | CS2103 | 1", "T | CS2106 | 0"));
+        for (int i = 0; i < 100 && isInChange.isEmpty(); i++) {
+            Thread.sleep(50);
+        }
+        storage.close();
+        assertEquals(List.of(true), isInChange);
+    }
+
+    @Test
+    public void exportTask_watchedFileChangedOutside_notOverwritten() throws IOException {
+        StorageOptions options = options()
+                .setWatched(true);
+        Storage storage = open(options);
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        storage.watch(taskList.getTaskList(), message -> { });
+        taskList.addTodo("CS2103");
+        taskList.addTodo("CS2106");
+        Files.write(tempDir.resolve("duke.txt"), List.of("T | CS2103 | 1", "T | CS2106 | 0", "T | CS2101 | 0"));
+        storage.close();
+
+        taskList.addTodo("CS2100");
+        assertEquals(List.of("T | CS2103 | 1", "T | CS2106 | 0", "T | CS2101 | 0", "T | CS2100 | 0"),
+                Files.readAllLines(tempDir.resolve("duke.txt")));
+    }
+
+    @Test
+    public void markDone_pastArchiveLimit_oldestDoneArchived() throws IOException {
+        StorageOptions options = options()
+                .setArchiveKeep(1);
+        Storage storage = open(options);
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        taskList.addTodo("CS2103");
+        taskList.addTodo("CS2106");
+        taskList.addTodo("CS2101");
+        taskList.markDone(2);
+        taskList.markDone(1);
+
+        assertEquals(2, taskList.getTaskList().size());
+        assertEquals(List.of("T | CS2103 | 1", "T | CS2101 | 0"), Files.readAllLines(tempDir.resolve("duke.txt")));
+        assertEquals("Here are the matching task(s) in your archive:\n[T][X] CS2106",
+                taskList.findArchivedTask("").toString());
+    }
+
+    @Test
+    public void importTask_doneTasksPastArchiveAge_archivedOnLoad() throws IOException {
+        Files.write(tempDir.resolve("duke.txt"), List.of("T | CS2103 | 1", "T | CS2106 | 0"));
+        StorageOptions options = options()
+                .setArchiveAge(Duration.ZERO);
+        Storage storage = open(options);
+        TaskList taskList = new TaskList(storage.importTask(), ui, storage);
+
+        assertEquals(1, taskList.getTaskList().size());
+        assertEquals(List.of("T | CS2106 | 0"), Files.readAllLines(tempDir.resolve("duke.txt")));
+        assertEquals(1, storage.searchArchive("CS2103").size());
+    }
+
+    @Test
+    public void addTodo_groupCommitFromManyThreads_savedBeforeReturning() throws Exception {
+        StorageOptions options = options()
+                .setDurability(Durability.FSYNC)
+                .setGroupCommitWindow(5);
+        Storage storage = open(options);
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+        List<Future<?>> adds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int writer = i;
+            adds.add(writers.submit(() -> {
+                for (int j = 0; j < 20; j++) {
+                    taskList.addTodo("writer " + writer + " task " + j);
+                }
+            }));
+        }
+        for (Future<?> add : adds) {
+            add.get();
+        }
+        writers.shutdown();
+
+        assertEquals(160, Files.readAllLines(tempDir.resolve("duke.txt")).size());
+        storage.commit(taskList.getTaskList()).join();
+    }
+
+    private void waitForIndex(TaskList taskList) throws InterruptedException {
+        for (int i = 0; i < 200 && !taskList.isIndexReady(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(taskList.isIndexReady());
+    }
+
+    @Test
+    public void loadIndex_savedOnClose_reusedUntilFileChanges() throws Exception {
+        StorageOptions options = options();
+        Storage storage = open(options);
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        waitForIndex(taskList);
+        taskList.addTodo("CS2103T iP");
+        taskList.addTodo("CS2101 slides");
+        storage.close();
+        taskList.saveIndex();
+
+        Storage reloaded = open(options);
+        TaskList reloadedList = new TaskList(reloaded.importTask(), ui, reloaded);
+        assertNotNull(reloaded.loadIndex(position -> position));
+        waitForIndex(reloadedList);
+        assertEquals("Here are the matching task(s) in your list:\n[T][ ] CS2101 slides",
+                reloadedList.findTask("101 sl").toString());
+
+        Files.write(tempDir.resolve("duke.txt"), List.of("T | CS2103T iP | 1"));
+        Storage changed = open(options);
+        changed.importTask();
+        assertNull(changed.loadIndex(position -> position));
+    }
+
+    @Test
+    public void findTask_afterDeleteAndAdd_sameAsScan() throws Exception {
+        Storage storage = open(new StorageOptions().setBackend(BackendType.MEMORY));
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        taskList.addTodo("CS2103T iP");
+        taskList.addTodo("CS2103T tP");
+        taskList.addTodo("read book");
+        waitForIndex(taskList);
+        taskList.deleteTask(1);
+        taskList.addTodo("CS2103T week 5");
+        waitForIndex(taskList);
+
+        assertEquals("Here are the matching task(s) in your list:\n[T][ ] CS2103T tP\n[T][ ] CS2103T week 5",
+                taskList.findTask("CS2103").toString());
+        assertEquals("There are no matching tasks found.", taskList.findTask("CS2103T iP").toString());
+        assertEquals("Here are the matching task(s) in your list:\n[T][ ] CS2103T week 5",
+                taskList.findTask("T w").toString());
+        assertEquals("Here are the matching task(s) in your list:\n[T][ ] CS2103T tP\n[T][ ] CS2103T week 5",
+                taskList.findTask("T ").toString());
+    }
+
+    @Test
+    public void findDueBeforeAndOn_withAndWithoutIndex_sameTasks() throws Exception {
+        Storage storage = open(new StorageOptions().setBackend(BackendType.MEMORY));
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        taskList.addDeadline("CS2103T tP", "01/10/21 2359");
+        taskList.addEvent("CS2103T lecture", "10/09/21 1600");
+        taskList.addTodo("read book");
+        taskList.addDeadline("CS2103T iP", "10/09/21 1600");
+        String dueBefore = taskList.findDueBefore("11/09/21").toString();
+        String on = taskList.findOn("10/09/21 2359").toString();
+
+        assertEquals("Here are the matching task(s) in your list:\n[E][ ] CS2103T lecture (at: 10/09/21 1600)"
+                + "\n[D][ ] CS2103T iP (by: 10/09/21 1600)", dueBefore);
+        assertEquals(dueBefore, on);
+        waitForIndex(taskList);
+        taskList.deleteTask(2);
+        assertEquals("Here are the matching task(s) in your list:\n[D][ ] CS2103T iP (by: 10/09/21 1600)"
+                + "\n[D][ ] CS2103T tP (by: 01/10/21 2359)", taskList.findDueBefore("02/10/21 0000").toString());
+        assertEquals("There are no matching tasks found.", taskList.findOn("09/09/21").toString());
+        assertEquals(ui.formatDateTimeErrorMessage().toString(), taskList.findOn("tomorrow").toString());
+    }
+}
@@ -0,0 +1,162 @@
+package duke.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import duke.command.ListCommand;
+import duke.storage.BackendType;
+import duke.storage.StorageOptions;
+import duke.task.TaskSequence;
+
+public class TaskListTest {
+    /**
+     * Reads the number of each task in the message, in order.
+     */
+    private List<Integer> taskNumbers(Message message) {
+        List<Integer> numbers = new ArrayList<>();
+        for (String line : message.toString().split("\n")) {
+            int start = line.indexOf("task ");
+            if (start >= 0) {
+                numbers.add(Integer.parseInt(line.substring(start + "task ".length())));
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * Runs the tasks on their own threads until the writers are done, checking every read.
+     * Tasks are only added to the end of the list and deleted from the front, so a list that was read
+     * whole always has consecutive task numbers, while a read torn by a change skips or repeats one.
+     */
+    @Test
+    public void readsAndChanges_manyThreads_readsAlwaysConsistent() throws Exception {
+        Ui ui = new Ui();
+        for (boolean isCompact : new boolean[] {false, true}) {
+            Storage storage = new Storage(ui, new StorageOptions().setBackend(BackendType.MEMORY));
+            TaskList taskList = new TaskList(new TaskSequence(List.of(), isCompact), ui, storage);
+            AtomicInteger nextTask = new AtomicInteger();
+            for (int i = 0; i < 300; i++) {
+                taskList.addTodo("task " + nextTask.getAndIncrement());
+            }
+
+            AtomicBoolean isDone = new AtomicBoolean();
+            AtomicInteger readCount = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < 5; t++) {
+                readers.add(executor.submit(() -> {
+                    while (!isDone.get()) {
+                        List<Integer> listed = taskNumbers(taskList.listTasks());
+                        for (int i = 1; i < listed.size(); i++) {
+                            assertEquals(listed.get(i - 1) + 1, (int) listed.get(i), "Torn list");
+                        }
+                        List<Integer> found = taskNumbers(taskList.findTask("task 1"));
+                        for (int i = 1; i < found.size(); i++) {
+                            assertTrue(found.get(i - 1) < found.get(i), "Torn find");
+                        }
+                        readCount.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            List<Future<?>> writers = new ArrayList<>();
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < 6000; i++) {
+                    taskList.addTodo("task " + nextTask.getAndIncrement());
+                }
+                return null;
+            }));
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < 6000; i++) {
+                    while (taskList.getTaskList().size() < 200) {
+                        Thread.yield();
+                    }
+                    taskList.deleteTask(1);
+                }
+                return null;
+            }));
+            writers.add(executor.submit(() -> {
+                Random random = new Random(42);
+                for (int i = 0; i < 6000; i++) {
+                    taskList.markDone(1 + random.nextInt(100));
+                }
+                return null;
+            }));
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            isDone.set(true);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+            executor.shutdown();
+
+            assertTrue(readCount.get() > 0);
+            List<Integer> listed = taskNumbers(taskList.listTasks());
+            assertEquals(300, listed.size());
+            assertEquals(6000, (int) listed.get(0));
+            assertEquals(6299, (int) listed.get(listed.size() - 1));
+        }
+    }
+
+    private TaskList newTaskList(int size) {
+        Ui ui = new Ui();
+        Storage storage = new Storage(ui, new StorageOptions().setBackend(BackendType.MEMORY));
+        TaskList taskList = new TaskList(new ArrayList<>(), ui, storage);
+        for (int i = 0; i < size; i++) {
+            taskList.addTodo("task " + i);
+        }
+        return taskList;
+    }
+
+    @Test
+    public void listCommand_page_numberedAsInWholeList() {
+        TaskList taskList = newTaskList(45);
+        Ui ui = new Ui();
+
+        assertEquals("41. [T][ ] task 40\n42. [T][ ] task 41\n43. [T][ ] task 42\n44. [T][ ] task 43\n"
+                + "45. [T][ ] task 44\nPage 3 of 3.", new ListCommand("list 3").execute(taskList, ui).toString());
+        assertEquals("5. [T][ ] task 4\n6. [T][ ] task 5\nPage 3 of 23.",
+                new ListCommand("list 3 2").execute(taskList, ui).toString());
+        assertEquals("There is no page 4. You have 3 page(s) of tasks.",
+                new ListCommand("list 4").execute(taskList, ui).toString());
+        assertEquals(ui.formatListErrorMessage().toString(),
+                new ListCommand("list 0").execute(taskList, ui).toString());
+        assertEquals(ui.formatListErrorMessage().toString(),
+                new ListCommand("list x").execute(taskList, ui).toString());
+        assertEquals(45, new ListCommand("list").execute(taskList, ui).toString().split("\n").length);
+    }
+
+    @Test
+    public void listTasks_changedAfterListed_listedAsBefore() {
+        TaskList taskList = newTaskList(3);
+        Message listed = taskList.listTasks();
+        taskList.deleteTask(1);
+        taskList.markDone(1);
+        taskList.addTodo("task 3");
+
+        assertEquals("1. [T][ ] task 0\n2. [T][ ] task 1\n3. [T][ ] task 2", listed.toString());
+        assertEquals("1. [T][X] task 1\n2. [T][ ] task 2\n3. [T][ ] task 3", taskList.listTasks().toString());
+    }
+
+    @Test
+    public void markDoneAndDeleteTasks_severalTasks_countedInDecimal() {
+        TaskList taskList = newTaskList(10);
+
+        assertEquals("Nice! I've marked these tasks as done:\n[T][X] task 0\n[T][X] task 1",
+                taskList.markDone(new int[] {1, 2}).toString());
+        assertEquals("Noted. I've removed these tasks:\n[T][X] task 0\n[T][X] task 1\nNow you have 8 task(s).",
+                taskList.deleteTasks(new int[] {1, 2}).toString());
+    }
+}